@@ -18,6 +18,7 @@ package com.arpnetworking.commons.builder;
 import com.arpnetworking.commons.builder.annotations.WovenValidation;
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
+import net.sf.oval.context.FieldContext;
 import net.sf.oval.exception.ConstraintsViolatedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +32,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -158,19 +160,26 @@ public abstract class OvalBuilder<T> implements Builder<T> {
     }
     @Override
     public T build() {
-        // CHECKSTYLE.OFF: IllegalInstantiation - No Guava
-        final List<ConstraintViolation> violations = new ArrayList<>();
-        // CHECKSTYLE.ON: IllegalInstantiation
-        @SuppressWarnings("unchecked")
-        final Class<? extends OvalBuilder<?>> ovalBuilderClass = (Class<? extends OvalBuilder<?>>) this.getClass();
-        if (isSelfValidating(ovalBuilderClass)) {
-            // Allow the overridden methods to validate the builder
-            validate(violations);
-        } else {
-            // Force reflective validation since at least one class in the
-            // chain is not self-validating
-            validateWithReflection(violations);
+        final List<ConstraintViolation> violations = collectViolations();
+        if (!violations.isEmpty()) {
+            throw new ConstraintsViolatedException(violations);
         }
+        return construct();
+    }
+
+    /**
+     * Build the instance validating only the constraints declared on the
+     * named fields of the builder. Constraints which are not declared on a
+     * field are always validated.
+     *
+     * @param validatedFieldNames The names of the builder fields to validate.
+     * @return Instance of target class created from this builder.
+     */
+    /* package private */ T build(final Set<String> validatedFieldNames) {
+        final List<ConstraintViolation> violations = collectViolations();
+        // The first context of each violation is the member of this builder which was validated
+        violations.removeIf(violation -> violation.getContextPath().get(0) instanceof FieldContext
+                && !validatedFieldNames.contains(((FieldContext) violation.getContextPath().get(0)).getField().getName()));
         if (!violations.isEmpty()) {
             throw new ConstraintsViolatedException(violations);
         }
@@ -263,6 +272,23 @@ public abstract class OvalBuilder<T> implements Builder<T> {
                 clazz -> SELF_VALIDATING_CACHE.computeIfAbsent(clazz, SELF_VALIDATION_CHECKER));
     }
 
+    private List<ConstraintViolation> collectViolations() {
+        // CHECKSTYLE.OFF: IllegalInstantiation - No Guava
+        final List<ConstraintViolation> violations = new ArrayList<>();
+        // CHECKSTYLE.ON: IllegalInstantiation
+        @SuppressWarnings("unchecked")
+        final Class<? extends OvalBuilder<?>> ovalBuilderClass = (Class<? extends OvalBuilder<?>>) this.getClass();
+        if (isSelfValidating(ovalBuilderClass)) {
+            // Allow the overridden methods to validate the builder
+            validate(violations);
+        } else {
+            // Force reflective validation since at least one class in the
+            // chain is not self-validating
+            validateWithReflection(violations);
+        }
+        return violations;
+    }
+
     /* package private */ void validateWithReflection(final List<ConstraintViolation> violations) {
         violations.addAll(VALIDATOR.validate(this));
     }
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -101,6 +102,30 @@ public abstract class ThreadLocalBuilder<T> extends OvalBuilder<T> {
     public static <T, B extends ThreadLocalBuilder<T>> T buildGeneric(
             final Class<? extends ThreadLocalBuilder> threadLocalBuilderClass,
             final Consumer<B> builderConsumer) {
+        return buildGeneric(threadLocalBuilderClass, builderConsumer, null);
+    }
+
+    /**
+     * Consume an instance of the provided builder class after resetting it and
+     * return the instance resulting from building the builder validating only
+     * the constraints declared on the named fields of the builder.
+     *
+     * This is intended for partially populated builders such as those used
+     * to deserialize a projection of a larger document. The built instance
+     * may violate the constraints of the fields that were not validated.
+     *
+     * @param <T> The type of object created by the builder.
+     * @param <B> The type of the  builder used.
+     * @param threadLocalBuilderClass The {@code Class<>} instance for the builder to use.
+     * @param builderConsumer The {@code Consumer} for the builder instance.
+     * @param validatedFieldNames The names of the builder fields to validate or {@code null} to validate all fields.
+     * @return The instance of {@code <T>} build from the builder after consuming it.
+     */
+    @SuppressWarnings("rawtypes")
+    public static <T, B extends ThreadLocalBuilder<T>> T buildGeneric(
+            final Class<? extends ThreadLocalBuilder> threadLocalBuilderClass,
+            final Consumer<B> builderConsumer,
+            @Nullable final Set<String> validatedFieldNames) {
 
         // Look-up the thread local builder's instance queue
         @SuppressWarnings("unchecked")
@@ -125,7 +150,10 @@ public abstract class ThreadLocalBuilder<T> extends OvalBuilder<T> {
             final B castThreadLocalBuilder = (B) threadLocalBuilder;
             builderConsumer.accept(castThreadLocalBuilder);
             threadLocalBuilder._isThreadLocalBuild = true;
-            return castThreadLocalBuilder.build();
+            if (validatedFieldNames == null) {
+                return castThreadLocalBuilder.build();
+            }
+            return castThreadLocalBuilder.build(validatedFieldNames);
         } finally {
             // Return the builder instance to the queue
             threadLocalBuilder._isThreadLocalBuild = false;
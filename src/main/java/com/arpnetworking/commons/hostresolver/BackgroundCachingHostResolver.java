@@ -21,7 +21,9 @@ import org.slf4j.LoggerFactory;
 
 import java.net.UnknownHostException;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,6 +33,12 @@ import java.util.function.Supplier;
  * Caches results of a {@link HostResolver} and refresh it in the
  * background to avoid any blocking.
  *
+ * Instances created with the public constructors share a single daemon
+ * refresh thread which is started when the first instance is created and
+ * which stops once all instances have been closed. Closing an instance stops
+ * its refresh; the last resolved value remains available. The shared instance
+ * returned by {@link #getInstance()} should not be closed.
+ *
  * Dependencies:
  * <ul>
  *     <li><i>None</i></li>
@@ -38,7 +46,7 @@ import java.util.function.Supplier;
  *
  * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
  */
-public class BackgroundCachingHostResolver implements HostResolver {
+public class BackgroundCachingHostResolver implements HostResolver, AutoCloseable {
 
     /**
      * Accessor for shared singleton instance of {@code BackgroundCachingHostResolver}
@@ -59,6 +67,23 @@ public class BackgroundCachingHostResolver implements HostResolver {
         return localHostName;
     }
 
+    @Override
+    public CompletableFuture<String> resolveAsync() {
+        final String localHostName = _cachedLocalHostName.get();
+        if (localHostName == null) {
+            return CompletableFuture.failedFuture(new UnknownHostException());
+        }
+        return CompletableFuture.completedFuture(localHostName);
+    }
+
+    /**
+     * Stop refreshing the cached value in the background.
+     */
+    @Override
+    public void close() {
+        _refreshFuture.cancel(false);
+    }
+
     /* package private */ final void updateHost() {
         try {
             _cachedLocalHostName.set(_wrappedHostResolver.getLocalHostName());
@@ -85,16 +110,7 @@ public class BackgroundCachingHostResolver implements HostResolver {
      * @param rate The time period in which to execute one background refresh.
      */
     public BackgroundCachingHostResolver(final HostResolver wrappedHostResolver, final Duration rate) {
-        this(
-                wrappedHostResolver,
-                rate,
-                new ScheduledThreadPoolExecutor(
-                        1,
-                        runnable -> {
-                            final Thread thread = new Thread(runnable, "BackgroundCachingHostResolver");
-                            thread.setDaemon(true);
-                            return thread;
-                        }));
+        this(wrappedHostResolver, rate, SHARED_SCHEDULED_EXECUTOR_SERVICE.get());
     }
 
     /* package private */ BackgroundCachingHostResolver(
@@ -102,23 +118,40 @@ public class BackgroundCachingHostResolver implements HostResolver {
             final Duration rate,
             final ScheduledExecutorService scheduledExecutorService) {
         _wrappedHostResolver = wrappedHostResolver;
-        _scheduledExecutorService = scheduledExecutorService;
 
         updateHost();
 
-        _scheduledExecutorService.scheduleAtFixedRate(
+        _refreshFuture = scheduledExecutorService.scheduleAtFixedRate(
                 this::updateHost,
                 rate.toMillis(),
                 rate.toMillis(),
                 TimeUnit.MILLISECONDS);
     }
 
-    private final ScheduledExecutorService _scheduledExecutorService;
+    private static ScheduledExecutorService createSharedScheduledExecutorService() {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                1,
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "BackgroundCachingHostResolver");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // Remove the refresh of closed instances and stop the thread while idle
+        executor.setRemoveOnCancelPolicy(true);
+        executor.setKeepAliveTime(SHARED_THREAD_KEEP_ALIVE.toMillis(), TimeUnit.MILLISECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private final ScheduledFuture<?> _refreshFuture;
     private final HostResolver _wrappedHostResolver;
 
     private AtomicReference<String> _cachedLocalHostName = new AtomicReference<>();
 
     private static final Duration DEFAULT_RATE = Duration.ofSeconds(30);
+    private static final Duration SHARED_THREAD_KEEP_ALIVE = Duration.ofSeconds(10);
+    /* package private */ static final Supplier<ScheduledExecutorService> SHARED_SCHEDULED_EXECUTOR_SERVICE =
+            new SingletonSupplier<>(BackgroundCachingHostResolver::createSharedScheduledExecutorService);
     private static final Supplier<HostResolver> SINGLETON_BACKGROUND_CACHING_HOST_RESOLVER =
             new SingletonSupplier<>(() -> new BackgroundCachingHostResolver(DEFAULT_RATE));
     private static final HostResolver DEFAULT_WRAPPED_HOST_RESOLVER = new DefaultHostResolver();
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import com.arpnetworking.commons.builder.OvalBuilder;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import net.sf.oval.constraint.Min;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.ValidateWithMethod;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Resolves the addresses of host names and the host names of addresses
+ * through bounded least recently used caches. Successful and failed lookups
+ * are cached for separate times to live. Concurrent misses for the same name
+ * or address share a single lookup. Once a successful lookup expires its
+ * result continues to be returned while a single lookup refreshes it in the
+ * background.
+ *
+ * Lookups are performed on an {@link Executor} and default to
+ * {@link InetAddress#getAllByName(String)} and
+ * {@link InetAddress#getCanonicalHostName()}; since the latter returns the
+ * textual address instead of failing, the default reverse lookup treats that
+ * result as an {@link UnknownHostException}. Both are pluggable, for
+ * example to resolve against an in-process table in tests. The number of
+ * hits, stale hits, misses and evictions are recorded across both caches.
+ *
+ * This class is thread safe.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>net.sf.oval:oval</li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class CachingDnsResolver {
+
+    /**
+     * Get the addresses of a host name.
+     *
+     * @param hostName The host name.
+     * @return The addresses of the host name.
+     * @throws UnknownHostException If the host name cannot be resolved.
+     */
+    public List<InetAddress> getAllByName(final String hostName) throws UnknownHostException {
+        return HostResolverFutures.join(getAllByNameAsync(hostName));
+    }
+
+    /**
+     * Get the addresses of a host name without blocking.
+     *
+     * @param hostName The host name.
+     * @return The addresses of the host name; fails with
+     * {@link UnknownHostException} if the host name cannot be resolved.
+     */
+    public CompletableFuture<List<InetAddress>> getAllByNameAsync(final String hostName) {
+        return _forwardCache.get(hostName);
+    }
+
+    /**
+     * Get the host name of an address.
+     *
+     * @param address The address.
+     * @return The host name of the address.
+     * @throws UnknownHostException If the address cannot be resolved.
+     */
+    public String getHostName(final InetAddress address) throws UnknownHostException {
+        return HostResolverFutures.join(getHostNameAsync(address));
+    }
+
+    /**
+     * Get the host name of an address without blocking.
+     *
+     * @param address The address.
+     * @return The host name of the address; fails with
+     * {@link UnknownHostException} if the address cannot be resolved.
+     */
+    public CompletableFuture<String> getHostNameAsync(final InetAddress address) {
+        return _reverseCache.get(address);
+    }
+
+    /**
+     * The number of lookups answered from a cached result which had not expired,
+     * including failed results and lookups which joined a pending lookup.
+     *
+     * @return The number of hits.
+     */
+    public long getHitCount() {
+        return _forwardCache.getHitCount() + _reverseCache.getHitCount();
+    }
+
+    /**
+     * The number of lookups answered from an expired result while it is refreshed.
+     *
+     * @return The number of stale hits.
+     */
+    public long getStaleHitCount() {
+        return _forwardCache.getStaleHitCount() + _reverseCache.getStaleHitCount();
+    }
+
+    /**
+     * The number of lookups which were not cached.
+     *
+     * @return The number of misses.
+     */
+    public long getMissCount() {
+        return _forwardCache.getMissCount() + _reverseCache.getMissCount();
+    }
+
+    /**
+     * The number of results evicted to bound the size of the caches.
+     *
+     * @return The number of evictions.
+     */
+    public long getEvictionCount() {
+        return _forwardCache.getEvictionCount() + _reverseCache.getEvictionCount();
+    }
+
+    /**
+     * Get the host name of an address with {@link InetAddress#getCanonicalHostName()}.
+     *
+     * @param address The address.
+     * @return The host name of the address.
+     * @throws UnknownHostException If the address has no host name.
+     */
+    /* package private */ static String getCanonicalHostName(final InetAddress address) throws UnknownHostException {
+        return requireHostName(address, address.getCanonicalHostName());
+    }
+
+    /* package private */ static String requireHostName(final InetAddress address, final String hostName) throws UnknownHostException {
+        // The canonical host name is the textual address if it cannot be resolved
+        if (hostName.equals(address.getHostAddress())) {
+            throw new UnknownHostException(hostName);
+        }
+        return hostName;
+    }
+
+    private CachingDnsResolver(final Builder builder) {
+        _forwardCache = new LookupCache<>(
+                builder._forwardLookup,
+                builder._maximumSize,
+                builder._positiveTtl,
+                builder._negativeTtl,
+                builder._executor,
+                builder._clock);
+        _reverseCache = new LookupCache<>(
+                builder._reverseLookup,
+                builder._maximumSize,
+                builder._positiveTtl,
+                builder._negativeTtl,
+                builder._executor,
+                builder._clock);
+    }
+
+    private final LookupCache<String, List<InetAddress>> _forwardCache;
+    private final LookupCache<InetAddress, String> _reverseCache;
+
+    /**
+     * Looks up the value for a key.
+     *
+     * @param <K> The type of key.
+     * @param <V> The type of value.
+     */
+    @FunctionalInterface
+    public interface Lookup<K, V> {
+
+        /**
+         * Look up the value for a key.
+         *
+         * @param key The key.
+         * @return The value.
+         * @throws UnknownHostException If the key cannot be resolved.
+         */
+        V lookup(K key) throws UnknownHostException;
+    }
+
+    /**
+     * {@link com.arpnetworking.commons.builder.Builder} implementation for
+     * {@link CachingDnsResolver}.
+     */
+    public static final class Builder extends OvalBuilder<CachingDnsResolver> {
+
+        /**
+         * Public constructor.
+         */
+        public Builder() {
+            super(CachingDnsResolver::new);
+        }
+
+        /**
+         * Set the lookup of the addresses of a host name. Optional. Defaults
+         * to {@link InetAddress#getAllByName(String)}.
+         *
+         * @param value The lookup of the addresses of a host name.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setForwardLookup(final Lookup<String, List<InetAddress>> value) {
+            _forwardLookup = value;
+            return this;
+        }
+
+        /**
+         * Set the lookup of the host name of an address. Optional. Defaults
+         * to {@link InetAddress#getCanonicalHostName()}, failing with
+         * {@link UnknownHostException} if it returns the textual address.
+         *
+         * @param value The lookup of the host name of an address.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setReverseLookup(final Lookup<InetAddress, String> value) {
+            _reverseLookup = value;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of results cached in each direction.
+         * Optional. Defaults to 1024. Must be at least 1.
+         *
+         * @param value The maximum number of results cached in each direction.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setMaximumSize(final Integer value) {
+            _maximumSize = value;
+            return this;
+        }
+
+        /**
+         * Set the time to live of successful lookups. Optional. Defaults to
+         * 30 seconds. Must not be negative.
+         *
+         * @param value The time to live of successful lookups.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setPositiveTtl(final Duration value) {
+            _positiveTtl = value;
+            return this;
+        }
+
+        /**
+         * Set the time to live of failed lookups. Optional. Defaults to 10
+         * seconds. Must not be negative.
+         *
+         * @param value The time to live of failed lookups.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setNegativeTtl(final Duration value) {
+            _negativeTtl = value;
+            return this;
+        }
+
+        /**
+         * Set the {@link Executor} to perform lookups on. Optional. Defaults
+         * to the pool of daemon threads shared with
+         * {@link HostResolver#resolveAsync()}, which performs at most four
+         * lookups at a time and queues at most 256 more; further misses fail
+         * with {@link UnknownHostException} until it drains. Resolvers with
+         * many concurrent misses or slow lookups should supply their own.
+         *
+         * @param value The {@link Executor} to perform lookups on.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setExecutor(final Executor value) {
+            _executor = value;
+            return this;
+        }
+
+        /**
+         * Set the {@link Clock} used to expire results. Optional. Defaults to
+         * the system clock.
+         *
+         * @param value The {@link Clock} used to expire results.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setClock(final Clock value) {
+            _clock = value;
+            return this;
+        }
+
+        // Invoked reflectively by the time to live constraints
+        @SuppressFBWarnings("UPM_UNCALLED_PRIVATE_METHOD")
+        private boolean validateTtl(final Duration value) {
+            return !value.isNegative();
+        }
+
+        @NotNull
+        private Lookup<String, List<InetAddress>> _forwardLookup = hostName -> List.of(InetAddress.getAllByName(hostName));
+        @NotNull
+        private Lookup<InetAddress, String> _reverseLookup = CachingDnsResolver::getCanonicalHostName;
+        @NotNull
+        @Min(1)
+        private Integer _maximumSize = 1024;
+        @NotNull
+        @ValidateWithMethod(methodName = "validateTtl", parameterType = Duration.class)
+        private Duration _positiveTtl = Duration.ofSeconds(30);
+        @NotNull
+        @ValidateWithMethod(methodName = "validateTtl", parameterType = Duration.class)
+        private Duration _negativeTtl = Duration.ofSeconds(10);
+        @NotNull
+        private Executor _executor = HostResolverExecutor.getInstance();
+        @NotNull
+        private Clock _clock = Clock.systemUTC();
+    }
+}
@@ -15,17 +15,36 @@
  */
 package com.arpnetworking.commons.hostresolver;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.net.UnknownHostException;
 import java.time.Clock;
 import java.time.Duration;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
 
 /**
- * Caches results of a {@link HostResolver}.
+ * Caches results of a {@link HostResolver}. This class is thread safe and
+ * lock free. Once the cached value expires exactly one caller resolves it
+ * again while all other callers continue to receive the stale value. If the
+ * refresh fails the stale value is returned, including to the caller which
+ * attempted the refresh, and the refresh is retried by the first caller after
+ * the smaller of the time to live and one second. When resolving
+ * asynchronously the stale value is returned immediately, including to the
+ * caller which refreshes it. Until a value is first cached, concurrent
+ * callers share a single pending resolution; a synchronous caller which
+ * starts it resolves on its own thread. Failures of that first resolution
+ * are not cached.
+ *
+ * Cache hits and misses may be recorded to a {@link HostResolverMetrics}
+ * instance; wrap the resolver delegated to with an
+ * {@link InstrumentedHostResolver} to also record resolution latency.
  *
  * Dependencies:
  * <ul>
- *     <li><i>None</i></li>
+ *     <li>org.slf4j:slf4j-api</li>
  * </ul>
  *
  * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
@@ -34,22 +53,129 @@ public class CachingHostResolver implements HostResolver {
 
     @Override
     public String getLocalHostName() throws UnknownHostException {
-        if (_lastResolvedAt.isPresent()) {
-            final long millisSinceLastResolved = _clock.millis() - _lastResolvedAt.get();
-            if (millisSinceLastResolved < _ttlInMillis && _cachedLocalHostName.isPresent()) {
-                return _cachedLocalHostName.get();
+        final Snapshot snapshot = _snapshot.get();
+        final long now = _clock.millis();
+        if (snapshot == null) {
+            _metrics.recordCacheMiss();
+            return resolveInitial(now);
+        }
+        if (now - snapshot.getExpiresAt() < 0) {
+            _metrics.recordCacheHit();
+            return snapshot.getLocalHostName();
+        }
+        // Claim the refresh by extending the expiration of the stale value
+        final Snapshot claimed = new Snapshot(snapshot.getLocalHostName(), now + _ttlInMillis);
+        if (!_snapshot.compareAndSet(snapshot, claimed)) {
+            _metrics.recordCacheHit();
+            return _snapshot.get().getLocalHostName();
+        }
+        _metrics.recordCacheMiss();
+        try {
+            return resolve(now, claimed);
+        } catch (final UnknownHostException e) {
+            retryLater(claimed, e);
+            return snapshot.getLocalHostName();
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> resolveAsync() {
+        final Snapshot snapshot = _snapshot.get();
+        final long now = _clock.millis();
+        if (snapshot == null) {
+            _metrics.recordCacheMiss();
+            return resolveInitialAsync(now).copy();
+        }
+        if (now - snapshot.getExpiresAt() >= 0) {
+            final Snapshot claimed = new Snapshot(snapshot.getLocalHostName(), now + _ttlInMillis);
+            if (_snapshot.compareAndSet(snapshot, claimed)) {
+                _wrappedHostResolver.resolveAsync().whenComplete((localHostName, throwable) -> {
+                    if (throwable == null) {
+                        cache(now, localHostName, claimed);
+                    } else {
+                        retryLater(claimed, throwable);
+                    }
+                });
             }
         }
-        _lastResolvedAt = Optional.of(_clock.millis());
-        _cachedLocalHostName = Optional.ofNullable(_wrappedHostResolver.getLocalHostName());
-        return _cachedLocalHostName.get();
+        _metrics.recordCacheHit();
+        return CompletableFuture.completedFuture(snapshot.getLocalHostName());
+    }
+
+    private CompletableFuture<String> resolveInitialAsync(final long now) {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        final CompletableFuture<String> pending = _pending.compareAndExchange(null, future);
+        if (pending != null) {
+            return pending;
+        }
+        _wrappedHostResolver.resolveAsync().whenComplete(
+                (localHostName, throwable) -> completeInitial(now, future, localHostName, throwable));
+        return future;
+    }
+
+    private String resolveInitial(final long now) throws UnknownHostException {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        final CompletableFuture<String> pending = _pending.compareAndExchange(null, future);
+        if (pending != null) {
+            return HostResolverFutures.join(pending);
+        }
+        final String localHostName;
+        try {
+            localHostName = _wrappedHostResolver.getLocalHostName();
+            // CHECKSTYLE.OFF: IllegalCatch - Any failure must complete the pending resolution or waiting callers block forever
+        } catch (final UnknownHostException | RuntimeException | Error e) {
+            // CHECKSTYLE.ON: IllegalCatch
+            completeInitial(now, future, null, e);
+            throw e;
+        }
+        completeInitial(now, future, localHostName, null);
+        return localHostName;
+    }
+
+    private void completeInitial(
+            final long now,
+            final CompletableFuture<String> future,
+            @Nullable final String localHostName,
+            @Nullable final Throwable throwable) {
+        // Cache the value before clearing the pending resolution so later callers find it
+        if (throwable == null) {
+            cache(now, localHostName, null);
+        }
+        _pending.set(null);
+        if (throwable == null) {
+            future.complete(localHostName);
+        } else {
+            future.completeExceptionally(throwable);
+        }
+    }
+
+    private void retryLater(final Snapshot claimed, final Throwable throwable) {
+        LOGGER.warn("Unable to refresh host name; returning stale value", throwable);
+        final Snapshot retry = new Snapshot(claimed.getLocalHostName(), _clock.millis() + _retryInMillis);
+        _snapshot.compareAndSet(claimed, retry);
+    }
+
+    private String resolve(final long now, @Nullable final Snapshot expected) throws UnknownHostException {
+        return cache(now, _wrappedHostResolver.getLocalHostName(), expected);
+    }
+
+    private String cache(final long now, final String localHostName, @Nullable final Snapshot expected) {
+        final Snapshot resolved = new Snapshot(localHostName, now + _ttlInMillis);
+        if (expected == null) {
+            _snapshot.set(resolved);
+        } else {
+            _snapshot.compareAndSet(expected, resolved);
+        }
+        return localHostName;
     }
 
     /**
      * Constructor for a {@link CachingHostResolver} wrapping the
      * {@link DefaultHostResolver}.
      *
-     * @param ttl The time to live on the cache. Does <b>not</b> perform negative caching.
+     * @param ttl The time to live on the cache. Once expired, a failed refresh
+     * returns the stale value and is retried after the smaller of the time to
+     * live and one second.
      */
     public CachingHostResolver(final Duration ttl) {
         this(DEFAULT_WRAPPED_HOST_RESOLVER, ttl);
@@ -60,29 +186,76 @@ public class CachingHostResolver implements HostResolver {
      * {@link HostResolver}.
      *
      * @param wrappedHostResolver The {@link HostResolver} to delegate to on a cache miss.
-     * @param ttl The time to live on the cache. Does <b>not</b> perform negative caching.
+     * @param ttl The time to live on the cache. Once expired, a failed refresh
+     * returns the stale value and is retried after the smaller of the time to
+     * live and one second.
      */
     public CachingHostResolver(final HostResolver wrappedHostResolver, final Duration ttl) {
-        this(wrappedHostResolver, Clock.systemUTC(), ttl);
+        this(wrappedHostResolver, ttl, NO_METRICS);
+    }
+
+    /**
+     * Constructor for a {@link CachingHostResolver} wrapping the specified
+     * {@link HostResolver} and recording cache hits and misses.
+     *
+     * @param wrappedHostResolver The {@link HostResolver} to delegate to on a cache miss.
+     * @param ttl The time to live on the cache. Once expired, a failed refresh
+     * returns the stale value and is retried after the smaller of the time to
+     * live and one second.
+     * @param metrics The {@link HostResolverMetrics} to record cache hits and misses to.
+     */
+    public CachingHostResolver(final HostResolver wrappedHostResolver, final Duration ttl, final HostResolverMetrics metrics) {
+        this(wrappedHostResolver, Clock.systemUTC(), ttl, metrics);
     }
 
     /* package private */ CachingHostResolver(
             final HostResolver wrappedHostResolver,
             final Clock clock,
             final Duration ttl) {
+        this(wrappedHostResolver, clock, ttl, NO_METRICS);
+    }
+
+    /* package private */ CachingHostResolver(
+            final HostResolver wrappedHostResolver,
+            final Clock clock,
+            final Duration ttl,
+            final HostResolverMetrics metrics) {
         _wrappedHostResolver = wrappedHostResolver;
         _clock = clock;
         _ttlInMillis = ttl.toMillis();
-        _lastResolvedAt = Optional.empty();
-        _cachedLocalHostName = Optional.empty();
+        _retryInMillis = Math.min(_ttlInMillis, MAXIMUM_RETRY_INTERVAL.toMillis());
+        _metrics = metrics;
     }
 
     private final HostResolver _wrappedHostResolver;
     private final Clock _clock;
     private final long _ttlInMillis;
-
-    private Optional<Long> _lastResolvedAt;
-    private Optional<String> _cachedLocalHostName;
+    private final long _retryInMillis;
+    private final HostResolverMetrics _metrics;
+    private final AtomicReference<Snapshot> _snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<String>> _pending = new AtomicReference<>();
 
     private static final HostResolver DEFAULT_WRAPPED_HOST_RESOLVER = new DefaultHostResolver();
+    private static final HostResolverMetrics NO_METRICS = new HostResolverMetrics() { };
+    private static final Duration MAXIMUM_RETRY_INTERVAL = Duration.ofSeconds(1);
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingHostResolver.class);
+
+    private static final class Snapshot {
+
+        Snapshot(final String localHostName, final long expiresAt) {
+            _localHostName = localHostName;
+            _expiresAt = expiresAt;
+        }
+
+        public String getLocalHostName() {
+            return _localHostName;
+        }
+
+        public long getExpiresAt() {
+            return _expiresAt;
+        }
+
+        private final String _localHostName;
+        private final long _expiresAt;
+    }
 }
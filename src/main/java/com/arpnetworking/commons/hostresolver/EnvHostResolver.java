@@ -17,6 +17,7 @@ package com.arpnetworking.commons.hostresolver;
 
 import java.net.UnknownHostException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -40,6 +41,15 @@ public class EnvHostResolver implements HostResolver {
         return hostname;
     }
 
+    @Override
+    public CompletableFuture<String> resolveAsync() {
+        try {
+            return CompletableFuture.completedFuture(getLocalHostName());
+        } catch (final UnknownHostException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /** Public constructor. */
     public EnvHostResolver() {
         // Empty constructor
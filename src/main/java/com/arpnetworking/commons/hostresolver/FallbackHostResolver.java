@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Resolves the local host name from the first of a list of
+ * {@link HostResolver} instances to succeed. Each resolver is started once
+ * the previous one fails. Optionally, resolution is hedged: if a resolver
+ * has not completed within the hedge delay the next resolver is started in
+ * parallel and the first success from any started resolver is used. This
+ * bounds the latency of resolution by the fastest healthy resolver rather
+ * than the slowest.
+ *
+ * For example, to refresh from DNS in the background while using the host
+ * name from the environment if DNS does not respond within 100 milliseconds:
+ *
+ * <pre>{@code
+ * new BackgroundCachingHostResolver(
+ *         new FallbackHostResolver(
+ *                 List.of(new DefaultHostResolver(), new EnvHostResolver()),
+ *                 Duration.ofMillis(100)),
+ *         Duration.ofSeconds(30));
+ * }</pre>
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class FallbackHostResolver implements HostResolver {
+
+    @Override
+    public String getLocalHostName() throws UnknownHostException {
+        return HostResolverFutures.join(resolveAsync());
+    }
+
+    @Override
+    public CompletableFuture<String> resolveAsync() {
+        final Resolution resolution = new Resolution();
+        resolution.start(0);
+        return resolution._result;
+    }
+
+    /**
+     * Constructor for a {@link FallbackHostResolver} which starts each
+     * resolver only once the previous one fails.
+     *
+     * @param hostResolvers The {@link HostResolver} instances in order of preference.
+     */
+    public FallbackHostResolver(final List<HostResolver> hostResolvers) {
+        this(hostResolvers, null);
+    }
+
+    /**
+     * Constructor for a {@link FallbackHostResolver} which starts each
+     * resolver once the previous one fails or has not completed within the
+     * hedge delay.
+     *
+     * @param hostResolvers The {@link HostResolver} instances in order of preference.
+     * @param hedgeDelay The time to wait for a resolver before also starting the next one.
+     */
+    public FallbackHostResolver(final List<HostResolver> hostResolvers, @Nullable final Duration hedgeDelay) {
+        if (hostResolvers.isEmpty()) {
+            throw new IllegalArgumentException("At least one host resolver is required");
+        }
+        _hostResolvers = List.copyOf(hostResolvers);
+        _hedgeDelay = hedgeDelay;
+    }
+
+    private final List<HostResolver> _hostResolvers;
+    @Nullable
+    private final Duration _hedgeDelay;
+
+    // The state of a single resolution; all fields except the result are guarded by this instance
+    private final class Resolution {
+
+        private void start(final int index) {
+            synchronized (this) {
+                if (index >= _hostResolvers.size() || _result.isDone() || _started != index) {
+                    // Every resolver has been started, another resolver has completed or this one is already started
+                    return;
+                }
+                ++_started;
+            }
+            try {
+                _hostResolvers.get(index).resolveAsync().whenComplete(this::complete);
+                // CHECKSTYLE.OFF: IllegalCatch - A resolver which throws must fail rather than stall the resolution
+            } catch (final RuntimeException e) {
+                // CHECKSTYLE.ON: IllegalCatch
+                complete(null, e);
+            }
+            // Hedge only once the resolver has been invoked and has not already completed
+            if (_hedgeDelay != null && index + 1 < _hostResolvers.size() && !_result.isDone()) {
+                CompletableFuture.delayedExecutor(_hedgeDelay.toMillis(), TimeUnit.MILLISECONDS)
+                        .execute(() -> start(index + 1));
+            }
+        }
+
+        private void complete(@Nullable final String localHostName, @Nullable final Throwable throwable) {
+            if (throwable == null) {
+                _result.complete(localHostName);
+                return;
+            }
+            final int next;
+            final boolean exhausted;
+            synchronized (this) {
+                _failure.addSuppressed(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                exhausted = ++_failed == _hostResolvers.size();
+                next = _started;
+            }
+            if (exhausted) {
+                _result.completeExceptionally(_failure);
+            } else {
+                start(next);
+            }
+        }
+
+        private final CompletableFuture<String> _result = new CompletableFuture<>();
+        private final UnknownHostException _failure = new UnknownHostException("Unable to resolve local host name");
+        private int _started;
+        private int _failed;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Resolves the local host name from the contents of a file, for example
+ * {@code /etc/hostname} or a file mounted into a container. The file is read
+ * once on construction and again only when a {@link WatchService} reports a
+ * change in its directory; there is no periodic polling. Any change in the
+ * directory causes the file to be read so that files replaced by renaming or
+ * through symbolic links (e.g. mounted configuration) are also observed.
+ *
+ * Leading and trailing white space is removed from the contents. If the file
+ * cannot be read or is empty the last host name read is retained. Each
+ * instance watches the directory on its own daemon thread until closed.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>org.slf4j:slf4j-api</li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class FileHostResolver implements HostResolver, AutoCloseable {
+
+    @Override
+    public String getLocalHostName() throws UnknownHostException {
+        final String localHostName = _cachedLocalHostName.get();
+        if (localHostName == null) {
+            throw new UnknownHostException("No host name read from " + _file);
+        }
+        return localHostName;
+    }
+
+    @Override
+    public CompletableFuture<String> resolveAsync() {
+        try {
+            return CompletableFuture.completedFuture(getLocalHostName());
+        } catch (final UnknownHostException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Stop watching the file.
+     *
+     * @throws IOException If closing the {@link WatchService} fails.
+     */
+    @Override
+    public void close() throws IOException {
+        _watchService.close();
+    }
+
+    /* package private */ Thread getWatchThread() {
+        return _watchThread;
+    }
+
+    private void readHostName() {
+        try {
+            final String localHostName = Files.readString(_file, StandardCharsets.UTF_8).trim();
+            if (localHostName.isEmpty()) {
+                LOGGER.warn("Host name file is empty; file={}", _file);
+            } else {
+                _cachedLocalHostName.set(localHostName);
+            }
+        } catch (final IOException e) {
+            LOGGER.warn("Unable to read host name file; file={}", _file, e);
+        }
+    }
+
+    private void watch() {
+        try {
+            WatchKey key;
+            do {
+                key = _watchService.take();
+                key.pollEvents();
+                readHostName();
+            } while (key.reset());
+            LOGGER.warn("Host name file directory is no longer watched; file={}", _file);
+        } catch (final ClosedWatchServiceException e) {
+            // The resolver was closed
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Constructor for a {@link FileHostResolver}.
+     *
+     * @param file The file containing the local host name. The file need not exist but its directory must.
+     * @throws IOException If the directory of the file cannot be watched.
+     */
+    public FileHostResolver(final Path file) throws IOException {
+        _file = file.toAbsolutePath();
+        final Path directory = _file.getParent();
+        if (directory == null) {
+            throw new IllegalArgumentException("File must be in a directory; file=" + _file);
+        }
+        _watchService = _file.getFileSystem().newWatchService();
+        try {
+            directory.register(
+                    _watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            // CHECKSTYLE.OFF: IllegalCatch - The watch service must be closed on any failure
+        } catch (final IOException | RuntimeException e) {
+            // CHECKSTYLE.ON: IllegalCatch
+            try {
+                _watchService.close();
+            } catch (final IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+
+        readHostName();
+
+        _watchThread = new Thread(this::watch, "FileHostResolver");
+        _watchThread.setDaemon(true);
+        _watchThread.start();
+    }
+
+    private final Path _file;
+    private final WatchService _watchService;
+    private final Thread _watchThread;
+    private final AtomicReference<String> _cachedLocalHostName = new AtomicReference<>();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileHostResolver.class);
+}
@@ -16,6 +16,7 @@
 package com.arpnetworking.commons.hostresolver;
 
 import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -38,6 +39,23 @@ public interface HostResolver extends Supplier<String> {
      */
     String getLocalHostName() throws UnknownHostException;
 
+    /**
+     * Provides the local host name without blocking the calling thread. The
+     * future fails with {@link UnknownHostException} if the local host name
+     * cannot be resolved.
+     *
+     * The default implementation invokes {@link #getLocalHostName()} on a
+     * small shared pool of daemon threads. If the pool is saturated the
+     * future fails immediately. If {@link #getLocalHostName()} throws
+     * anything else the future fails with that instead. Implementations
+     * which do not block should complete the future directly.
+     *
+     * @return The local host name.
+     */
+    default CompletableFuture<String> resolveAsync() {
+        return HostResolverFutures.resolveAsync(this, HostResolverExecutor.getInstance());
+    }
+
     @Override
     default String get() {
         try {
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import com.arpnetworking.commons.java.util.function.SingletonSupplier;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executor on which blocking {@link HostResolver} implementations resolve
+ * asynchronously. At most {@link #POOL_SIZE} daemon threads are created on
+ * demand and stopped after being idle for a minute. Up to
+ * {@link #QUEUE_CAPACITY} further tasks wait for a thread; beyond that tasks
+ * are rejected with {@link java.util.concurrent.RejectedExecutionException}
+ * so that a resolver which hangs cannot exhaust threads or memory.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+/* package private */ final class HostResolverExecutor {
+
+    /**
+     * Get the shared {@link Executor} instance.
+     *
+     * @return The shared {@link Executor} instance.
+     */
+    /* package private */ static Executor getInstance() {
+        return EXECUTOR.get();
+    }
+
+    /**
+     * Create a new {@link Executor} with the same bounds as the shared
+     * instance.
+     *
+     * @return New {@link Executor} instance.
+     */
+    /* package private */ static Executor createExecutor() {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                POOL_SIZE,
+                POOL_SIZE,
+                1,
+                TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "HostResolver-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private HostResolverExecutor() {}
+
+    /**
+     * The maximum number of threads.
+     */
+    /* package private */ static final int POOL_SIZE = 4;
+
+    /**
+     * The maximum number of tasks waiting for a thread.
+     */
+    /* package private */ static final int QUEUE_CAPACITY = 256;
+
+    private static final Supplier<Executor> EXECUTOR = new SingletonSupplier<>(HostResolverExecutor::createExecutor);
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Helpers for the futures returned by asynchronous resolution.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+/* package private */ final class HostResolverFutures {
+
+    /**
+     * Invoke the blocking {@link HostResolver#getLocalHostName()} on an
+     * {@link Executor}. The future fails immediately if the executor rejects
+     * the task.
+     *
+     * @param hostResolver The {@link HostResolver} to invoke.
+     * @param executor The {@link Executor} to invoke it on.
+     * @return The local host name.
+     */
+    /* package private */ static CompletableFuture<String> resolveAsync(
+            final HostResolver hostResolver,
+            final Executor executor) {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(hostResolver.getLocalHostName());
+                    // CHECKSTYLE.OFF: IllegalCatch - Any failure must complete the future or callers wait forever
+                } catch (final UnknownHostException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                } catch (final Error e) {
+                    // CHECKSTYLE.ON: IllegalCatch
+                    future.completeExceptionally(e);
+                    throw e;
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            final UnknownHostException unknownHostException = new UnknownHostException("Host resolver executor is saturated");
+            unknownHostException.initCause(e);
+            future.completeExceptionally(unknownHostException);
+        }
+        return future;
+    }
+
+    /**
+     * Wait for the result of an asynchronous resolution.
+     *
+     * @param <V> The type of result.
+     * @param future The result of the resolution.
+     * @return The result.
+     * @throws UnknownHostException If the resolution failed.
+     */
+    /* package private */ static <V> V join(final CompletableFuture<V> future) throws UnknownHostException {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof UnknownHostException) {
+                throw (UnknownHostException) cause;
+            }
+            final UnknownHostException unknownHostException = new UnknownHostException(cause.getMessage());
+            unknownHostException.initCause(cause);
+            throw unknownHostException;
+        }
+    }
+
+    private HostResolverFutures() {}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+/**
+ * Receives measurements from {@link HostResolver} implementations. All
+ * methods do nothing by default so implementations need only override the
+ * measurements they record. Implementations must be thread safe and should
+ * not block since they are invoked on the resolution path.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @see HostResolverStatistics
+ * @see InstrumentedHostResolver
+ */
+public interface HostResolverMetrics {
+
+    /**
+     * Record a successful resolution.
+     *
+     * @param latencyInNanos The time taken to resolve in nanoseconds.
+     */
+    default void recordSuccess(final long latencyInNanos) {}
+
+    /**
+     * Record a failed resolution.
+     *
+     * @param latencyInNanos The time taken to fail in nanoseconds.
+     */
+    default void recordFailure(final long latencyInNanos) {}
+
+    /**
+     * Record that a cached host name was returned without waiting for
+     * resolution. This includes stale values returned while refreshing.
+     */
+    default void recordCacheHit() {}
+
+    /**
+     * Record that the caller waited for resolution because no cached host
+     * name was available or it had expired.
+     */
+    default void recordCacheMiss() {}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In memory {@link HostResolverMetrics} implementation. Latencies of both
+ * successful and failed resolutions are recorded in a histogram with one
+ * bucket per power of two nanoseconds; bucket {@code i} counts latencies
+ * below {@code 2^i} nanoseconds which are not counted in bucket
+ * {@code i - 1}. This bounds the relative error of quantiles to a factor of
+ * two without any allocation when recording. This class is thread safe.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class HostResolverStatistics implements HostResolverMetrics {
+
+    @Override
+    public void recordSuccess(final long latencyInNanos) {
+        recordLatency(latencyInNanos);
+        _successes.increment();
+        _lastSuccessAt.set(_clock.millis());
+    }
+
+    @Override
+    public void recordFailure(final long latencyInNanos) {
+        recordLatency(latencyInNanos);
+        _failures.increment();
+    }
+
+    @Override
+    public void recordCacheHit() {
+        _cacheHits.increment();
+    }
+
+    @Override
+    public void recordCacheMiss() {
+        _cacheMisses.increment();
+    }
+
+    /**
+     * Get the number of successful resolutions.
+     *
+     * @return The number of successful resolutions.
+     */
+    public long getSuccessCount() {
+        return _successes.sum();
+    }
+
+    /**
+     * Get the number of failed resolutions.
+     *
+     * @return The number of failed resolutions.
+     */
+    public long getFailureCount() {
+        return _failures.sum();
+    }
+
+    /**
+     * Get the number of cache hits.
+     *
+     * @return The number of cache hits.
+     */
+    public long getCacheHitCount() {
+        return _cacheHits.sum();
+    }
+
+    /**
+     * Get the number of cache misses.
+     *
+     * @return The number of cache misses.
+     */
+    public long getCacheMissCount() {
+        return _cacheMisses.sum();
+    }
+
+    /**
+     * Get the time elapsed since the last successful resolution.
+     *
+     * @return The time elapsed since the last successful resolution or empty if there has been none.
+     */
+    public Optional<Duration> getTimeSinceLastSuccess() {
+        final long lastSuccessAt = _lastSuccessAt.get();
+        if (lastSuccessAt == NEVER) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofMillis(_clock.millis() - lastSuccessAt));
+    }
+
+    /**
+     * Get a copy of the latency histogram. The count at index {@code i} is
+     * of latencies of at least {@code 2^(i-1)} and less than {@code 2^i}
+     * nanoseconds; index zero counts latencies of zero.
+     *
+     * @return The latency histogram.
+     */
+    public long[] getLatencyHistogram() {
+        final long[] histogram = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; ++i) {
+            histogram[i] = _latencyHistogram.get(i);
+        }
+        return histogram;
+    }
+
+    /**
+     * Get an upper bound on a latency quantile. The bound is the largest
+     * latency of the histogram bucket containing the quantile.
+     *
+     * @param quantile The quantile between zero and one inclusive.
+     * @return The upper bound on the latency quantile or empty if no latencies were recorded.
+     */
+    public Optional<Duration> getLatencyQuantile(final double quantile) {
+        if (quantile < 0.0 || quantile > 1.0) {
+            throw new IllegalArgumentException("Quantile must be between zero and one; quantile=" + quantile);
+        }
+        final long[] histogram = getLatencyHistogram();
+        long total = 0;
+        for (final long count : histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return Optional.empty();
+        }
+        final long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long cumulative = 0;
+        int bucket = 0;
+        while (cumulative + histogram[bucket] < rank) {
+            cumulative += histogram[bucket];
+            ++bucket;
+        }
+        return Optional.of(Duration.ofNanos(getUpperBoundInNanos(bucket)));
+    }
+
+    /* package private */ static int getBucket(final long latencyInNanos) {
+        // Clocks are not guaranteed monotonic so negative latencies are treated as zero
+        return Long.SIZE - Long.numberOfLeadingZeros(Math.max(0, latencyInNanos));
+    }
+
+    /* package private */ static long getUpperBoundInNanos(final int bucket) {
+        return (1L << bucket) - 1;
+    }
+
+    private void recordLatency(final long latencyInNanos) {
+        _latencyHistogram.incrementAndGet(getBucket(latencyInNanos));
+    }
+
+    /**
+     * Constructor for a {@link HostResolverStatistics} using the system clock.
+     */
+    public HostResolverStatistics() {
+        this(Clock.systemUTC());
+    }
+
+    /* package private */ HostResolverStatistics(final Clock clock) {
+        _clock = clock;
+    }
+
+    private final Clock _clock;
+    private final LongAdder _successes = new LongAdder();
+    private final LongAdder _failures = new LongAdder();
+    private final LongAdder _cacheHits = new LongAdder();
+    private final LongAdder _cacheMisses = new LongAdder();
+    private final AtomicLong _lastSuccessAt = new AtomicLong(NEVER);
+    private final AtomicLongArray _latencyHistogram = new AtomicLongArray(BUCKETS);
+
+    private static final long NEVER = Long.MIN_VALUE;
+    // Non-negative longs have at most 63 significant bits
+    private static final int BUCKETS = Long.SIZE;
+}
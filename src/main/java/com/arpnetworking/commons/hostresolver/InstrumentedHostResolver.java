@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Records the latency and outcome of each resolution by a wrapped
+ * {@link HostResolver} to a {@link HostResolverMetrics} instance. For example,
+ * to observe the failures of the refresh performed by a
+ * {@link BackgroundCachingHostResolver} wrap the resolver it delegates to:
+ *
+ * <pre>{@code
+ * final HostResolverStatistics statistics = new HostResolverStatistics();
+ * final HostResolver hostResolver = new BackgroundCachingHostResolver(
+ *         new InstrumentedHostResolver(new DefaultHostResolver(), statistics),
+ *         Duration.ofSeconds(30));
+ * }</pre>
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class InstrumentedHostResolver implements HostResolver {
+
+    @Override
+    public String getLocalHostName() throws UnknownHostException {
+        final long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            final String localHostName = _wrappedHostResolver.getLocalHostName();
+            succeeded = true;
+            return localHostName;
+        } finally {
+            // Any exception thrown by the wrapped resolver is a failure
+            if (succeeded) {
+                _metrics.recordSuccess(System.nanoTime() - start);
+            } else {
+                _metrics.recordFailure(System.nanoTime() - start);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> resolveAsync() {
+        final long start = System.nanoTime();
+        return _wrappedHostResolver.resolveAsync().whenComplete((localHostName, throwable) -> {
+            if (throwable == null) {
+                _metrics.recordSuccess(System.nanoTime() - start);
+            } else {
+                _metrics.recordFailure(System.nanoTime() - start);
+            }
+        });
+    }
+
+    /**
+     * Constructor for an {@link InstrumentedHostResolver}.
+     *
+     * @param wrappedHostResolver The {@link HostResolver} to instrument.
+     * @param metrics The {@link HostResolverMetrics} to record to.
+     */
+    public InstrumentedHostResolver(final HostResolver wrappedHostResolver, final HostResolverMetrics metrics) {
+        _wrappedHostResolver = wrappedHostResolver;
+        _metrics = metrics;
+    }
+
+    private final HostResolver _wrappedHostResolver;
+    private final HostResolverMetrics _metrics;
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded least recently used cache of the results of a {@link CachingDnsResolver.Lookup}.
+ * Successful and failed lookups are cached for separate times to live.
+ * Concurrent misses for the same key share a single lookup. Once a
+ * successful result expires it continues to be returned while a single
+ * lookup refreshes it; if the refresh fails the stale result is retained and
+ * the refresh is retried after the negative time to live. Failed results are
+ * never returned once expired. If the executor rejects a lookup or the lookup
+ * throws an {@link Error} the entry is evicted and its pending callers fail.
+ *
+ * This class is thread safe. Lookups are performed on the executor and the
+ * cache lock is never held while waiting for a lookup.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @param <K> The type of key.
+ * @param <V> The type of value.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+/* package private */ final class LookupCache<K, V> {
+
+    /**
+     * Get the cached or looked up value for a key.
+     *
+     * @param key The key.
+     * @return The value; fails with {@link UnknownHostException} if the lookup failed.
+     */
+    /* package private */ CompletableFuture<V> get(final K key) {
+        final Entry<V> entry;
+        final boolean lookup;
+        synchronized (_entries) {
+            final long now = _clock.millis();
+            final Entry<V> cached = _entries.get(key);
+            if (cached == null || cached.isFailed() && cached.isExpired(now)) {
+                entry = new Entry<>();
+                _entries.put(key, entry);
+                lookup = true;
+                _misses.increment();
+            } else {
+                entry = cached;
+                lookup = entry.isResolved() && entry.isExpired(now) && !entry._refreshing;
+                entry._refreshing |= lookup;
+                if (entry.isResolved() && entry.isExpired(now)) {
+                    _staleHits.increment();
+                } else {
+                    _hits.increment();
+                }
+            }
+        }
+        if (lookup) {
+            try {
+                _executor.execute(() -> lookup(key, entry));
+            } catch (final RejectedExecutionException e) {
+                final UnknownHostException unknownHostException = new UnknownHostException("Lookup executor is saturated");
+                unknownHostException.initCause(e);
+                evict(key, entry, unknownHostException);
+            }
+        }
+        // Callers must not be able to complete a future shared with other callers
+        return entry._future.copy();
+    }
+
+    /* package private */ long getHitCount() {
+        return _hits.sum();
+    }
+
+    /* package private */ long getStaleHitCount() {
+        return _staleHits.sum();
+    }
+
+    /* package private */ long getMissCount() {
+        return _misses.sum();
+    }
+
+    /* package private */ long getEvictionCount() {
+        return _evictions.sum();
+    }
+
+    private void lookup(final K key, final Entry<V> entry) {
+        V value = null;
+        Throwable failure = null;
+        try {
+            value = _lookup.lookup(key);
+            // CHECKSTYLE.OFF: IllegalCatch - The lookup is pluggable and any failure must complete the future
+        } catch (final UnknownHostException | RuntimeException e) {
+            failure = e;
+        } catch (final Error e) {
+            // CHECKSTYLE.ON: IllegalCatch
+            evict(key, entry, e);
+            throw e;
+        }
+        synchronized (_entries) {
+            final long now = _clock.millis();
+            if (!entry.isResolved()) {
+                entry._expiresAt = now + (failure == null ? _positiveTtlInMillis : _negativeTtlInMillis);
+            } else if (failure != null) {
+                // Retain the stale value and retry after the negative time to live
+                entry._expiresAt = now + _negativeTtlInMillis;
+                entry._refreshing = false;
+            } else if (_entries.get(key) == entry) {
+                _entries.put(key, new Entry<>(CompletableFuture.completedFuture(value), now + _positiveTtlInMillis));
+            }
+        }
+        // Complete outside the lock since dependent actions run on completion;
+        // the future of a refreshed entry is already complete
+        if (failure == null) {
+            entry._future.complete(value);
+        } else {
+            entry._future.completeExceptionally(failure);
+        }
+    }
+
+    private void evict(final K key, final Entry<V> entry, final Throwable failure) {
+        synchronized (_entries) {
+            _entries.remove(key, entry);
+            entry._refreshing = false;
+        }
+        entry._future.completeExceptionally(failure);
+    }
+
+    /* package private */ LookupCache(
+            final CachingDnsResolver.Lookup<K, V> lookup,
+            final int maximumSize,
+            final Duration positiveTtl,
+            final Duration negativeTtl,
+            final Executor executor,
+            final Clock clock) {
+        _lookup = lookup;
+        _positiveTtlInMillis = positiveTtl.toMillis();
+        _negativeTtlInMillis = negativeTtl.toMillis();
+        _executor = executor;
+        _clock = clock;
+        _entries = new LeastRecentlyUsedMap<>(maximumSize, _evictions);
+    }
+
+    private final CachingDnsResolver.Lookup<K, V> _lookup;
+    private final long _positiveTtlInMillis;
+    private final long _negativeTtlInMillis;
+    private final Executor _executor;
+    private final Clock _clock;
+    private final Map<K, Entry<V>> _entries;
+    private final LongAdder _hits = new LongAdder();
+    private final LongAdder _staleHits = new LongAdder();
+    private final LongAdder _misses = new LongAdder();
+    private final LongAdder _evictions = new LongAdder();
+
+    private static final class LeastRecentlyUsedMap<K, V> extends LinkedHashMap<K, V> {
+
+        LeastRecentlyUsedMap(final int maximumSize, final LongAdder evictions) {
+            super(16, 0.75f, true);
+            _maximumSize = maximumSize;
+            _evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            if (size() > _maximumSize) {
+                _evictions.increment();
+                return true;
+            }
+            return false;
+        }
+
+        private final int _maximumSize;
+        private final LongAdder _evictions;
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    // Mutable state is guarded by the lock of the cache's map
+    private static final class Entry<V> {
+
+        Entry() {
+            _future = new CompletableFuture<>();
+        }
+
+        Entry(final CompletableFuture<V> future, final long expiresAt) {
+            _future = future;
+            _expiresAt = expiresAt;
+        }
+
+        boolean isResolved() {
+            return _future.isDone();
+        }
+
+        boolean isFailed() {
+            return _future.isCompletedExceptionally();
+        }
+
+        boolean isExpired(final long now) {
+            return now - _expiresAt >= 0;
+        }
+
+        private final CompletableFuture<V> _future;
+        private long _expiresAt;
+        private boolean _refreshing;
+    }
+}
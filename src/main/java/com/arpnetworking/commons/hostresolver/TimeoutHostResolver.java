@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Nullable;
+
+/**
+ * Limits the time spent waiting for a {@link HostResolver} and optionally
+ * falls back to another {@link HostResolver} if it fails or does not
+ * complete in time. Resolution always proceeds through
+ * {@link HostResolver#resolveAsync()}; a slow resolution continues in the
+ * background after the timeout and may still be cached by the wrapped
+ * resolver.
+ *
+ * For example, to wait at most one second for DNS before using the host name
+ * from the environment:
+ *
+ * <pre>{@code
+ * new TimeoutHostResolver(new DefaultHostResolver(), Duration.ofSeconds(1), new EnvHostResolver());
+ * }</pre>
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class TimeoutHostResolver implements HostResolver {
+
+    @Override
+    public String getLocalHostName() throws UnknownHostException {
+        return HostResolverFutures.join(resolveAsync());
+    }
+
+    @Override
+    public CompletableFuture<String> resolveAsync() {
+        // Time out a copy; the wrapped resolver may share its future across callers
+        final CompletableFuture<String> future = _wrappedHostResolver.resolveAsync()
+                .copy()
+                .orTimeout(_timeoutInMillis, TimeUnit.MILLISECONDS);
+        if (_fallbackHostResolver == null) {
+            return future.exceptionallyCompose(throwable -> CompletableFuture.failedFuture(toUnknownHostException(throwable)));
+        }
+        return future.exceptionallyCompose(throwable -> _fallbackHostResolver.resolveAsync());
+    }
+
+    private static UnknownHostException toUnknownHostException(final Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        if (cause instanceof UnknownHostException) {
+            return (UnknownHostException) cause;
+        }
+        final UnknownHostException unknownHostException = new UnknownHostException(
+                cause instanceof TimeoutException ? "Timed out resolving local host name" : "Failed resolving local host name");
+        unknownHostException.initCause(cause);
+        return unknownHostException;
+    }
+
+    /**
+     * Constructor for a {@link TimeoutHostResolver} without a fallback.
+     *
+     * @param wrappedHostResolver The {@link HostResolver} to delegate to.
+     * @param timeout The maximum time to wait for the wrapped {@link HostResolver}.
+     */
+    public TimeoutHostResolver(final HostResolver wrappedHostResolver, final Duration timeout) {
+        this(wrappedHostResolver, timeout, null);
+    }
+
+    /**
+     * Constructor for a {@link TimeoutHostResolver} with a fallback.
+     *
+     * @param wrappedHostResolver The {@link HostResolver} to delegate to.
+     * @param timeout The maximum time to wait for the wrapped {@link HostResolver}.
+     * @param fallbackHostResolver The {@link HostResolver} to delegate to if the
+     * wrapped {@link HostResolver} fails or times out. The fallback is not time limited.
+     */
+    public TimeoutHostResolver(
+            final HostResolver wrappedHostResolver,
+            final Duration timeout,
+            @Nullable final HostResolver fallbackHostResolver) {
+        _wrappedHostResolver = wrappedHostResolver;
+        _timeoutInMillis = timeout.toMillis();
+        _fallbackHostResolver = fallbackHostResolver;
+    }
+
+    private final HostResolver _wrappedHostResolver;
+    private final long _timeoutInMillis;
+    @Nullable
+    private final HostResolver _fallbackHostResolver;
+}
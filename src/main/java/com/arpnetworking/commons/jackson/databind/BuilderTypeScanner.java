@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Finds the classes in a package and its sub-packages which declare a nested
+ * class named {@code Builder}; these are the types bound through
+ * {@link com.arpnetworking.commons.jackson.databind.introspect.BuilderAnnotationIntrospector}.
+ * Packages are scanned in directories and jar files on the class path of a
+ * {@link ClassLoader}. Candidates are identified by class file name so only
+ * the matching types are loaded, and these are not initialized.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+/* package private */ final class BuilderTypeScanner {
+
+    /* package private */ static List<Class<?>> findBuilderTypes(
+            final ClassLoader classLoader,
+            final String packageName) throws IOException {
+        final String path = packageName.replace('.', '/');
+        final Set<String> classNames = new TreeSet<>();
+        final Enumeration<URL> resources = classLoader.getResources(path);
+        while (resources.hasMoreElements()) {
+            final URL resource = resources.nextElement();
+            if (JAR_PROTOCOL.equals(resource.getProtocol())) {
+                addJarClassNames(classNames, resource, path);
+            } else if (FILE_PROTOCOL.equals(resource.getProtocol())) {
+                addDirectoryClassNames(classNames, Paths.get(URI.create(resource.toString())), packageName);
+            }
+        }
+
+        final List<Class<?>> builderTypes = new ArrayList<>();
+        for (final String className : classNames) {
+            if (className.endsWith(BUILDER_SUFFIX)) {
+                final String builderTypeName = className.substring(0, className.length() - BUILDER_SUFFIX.length());
+                try {
+                    builderTypes.add(Class.forName(builderTypeName, false, classLoader));
+                } catch (final ClassNotFoundException | LinkageError e) {
+                    LOGGER.warn(
+                            String.format(
+                                    "Unable to load builder type; type=%s",
+                                    builderTypeName),
+                            e);
+                }
+            }
+        }
+        return Collections.unmodifiableList(builderTypes);
+    }
+
+    private static void addJarClassNames(final Set<String> classNames, final URL resource, final String path) throws IOException {
+        final JarURLConnection connection = (JarURLConnection) resource.openConnection();
+        // Do not share the jar file with the class loader since it is closed here
+        connection.setUseCaches(false);
+        try (JarFile jarFile = connection.getJarFile()) {
+            jarFile.stream()
+                    .map(JarEntry::getName)
+                    .filter(name -> name.startsWith(path + "/") && name.endsWith(CLASS_SUFFIX))
+                    .map(name -> name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'))
+                    .forEach(classNames::add);
+        }
+    }
+
+    private static void addDirectoryClassNames(
+            final Set<String> classNames,
+            final Path directory,
+            final String packageName) throws IOException {
+        final String separator = directory.getFileSystem().getSeparator();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.map(directory::relativize)
+                    .map(Path::toString)
+                    .filter(name -> name.endsWith(CLASS_SUFFIX))
+                    .map(name -> packageName + "." + name.substring(0, name.length() - CLASS_SUFFIX.length()).replace(separator, "."))
+                    .forEach(classNames::add);
+        }
+    }
+
+    private BuilderTypeScanner() {}
+
+    private static final String BUILDER_SUFFIX = "$Builder";
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String FILE_PROTOCOL = "file";
+    private static final String JAR_PROTOCOL = "jar";
+    private static final Logger LOGGER = LoggerFactory.getLogger(BuilderTypeScanner.class);
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binds JSON directly from {@link ByteBuffer} instances and memory mapped
+ * files without first copying the content onto the heap. Buffers backed by
+ * an accessible array are parsed in place from that array; all other buffers
+ * (e.g. direct, read-only and {@link MappedByteBuffer} instances) are parsed
+ * with Jackson's {@link ByteBuffer} parser which reads the buffer directly.
+ * The position and limit of the buffer are never modified.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-core</li>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class ByteBufferReader {
+
+    /**
+     * Bind a value from the remaining bytes of a {@link ByteBuffer}.
+     *
+     * @param <T> The type of value.
+     * @param objectMapper The {@link ObjectMapper} to bind the value with.
+     * @param buffer The {@link ByteBuffer} to read.
+     * @param type The type of value.
+     * @return The value.
+     * @throws IOException If the content is malformed or cannot be bound.
+     */
+    public static <T> T readValue(final ObjectMapper objectMapper, final ByteBuffer buffer, final Class<T> type) throws IOException {
+        return readValue(objectMapper.reader().forType(type), buffer);
+    }
+
+    /**
+     * Bind a value from the remaining bytes of a {@link ByteBuffer}.
+     *
+     * @param <T> The type of value.
+     * @param reader The {@link ObjectReader} to bind the value with.
+     * @param buffer The {@link ByteBuffer} to read.
+     * @return The value.
+     * @throws IOException If the content is malformed or cannot be bound.
+     */
+    public static <T> T readValue(final ObjectReader reader, final ByteBuffer buffer) throws IOException {
+        try (JsonParser parser = createParser(reader, buffer)) {
+            return reader.readValue(parser);
+        }
+    }
+
+    /**
+     * Bind a value from a memory mapped file. The file is mapped read-only
+     * and must not be larger than {@link Integer#MAX_VALUE} bytes.
+     *
+     * @param <T> The type of value.
+     * @param objectMapper The {@link ObjectMapper} to bind the value with.
+     * @param file The {@link Path} of the file to read.
+     * @param type The type of value.
+     * @return The value.
+     * @throws IOException If the file cannot be read or its content is malformed or cannot be bound.
+     */
+    public static <T> T readValue(final ObjectMapper objectMapper, final Path file, final Class<T> type) throws IOException {
+        return readValue(objectMapper.reader().forType(type), file);
+    }
+
+    /**
+     * Bind a value from a memory mapped file. The file is mapped read-only
+     * and must not be larger than {@link Integer#MAX_VALUE} bytes.
+     *
+     * @param <T> The type of value.
+     * @param reader The {@link ObjectReader} to bind the value with.
+     * @param file The {@link Path} of the file to read.
+     * @return The value.
+     * @throws IOException If the file cannot be read or its content is malformed or cannot be bound.
+     */
+    public static <T> T readValue(final ObjectReader reader, final Path file) throws IOException {
+        return readValue(reader, map(file));
+    }
+
+    /**
+     * Map a file read-only into memory. The mapping remains valid until the
+     * returned buffer is garbage collected.
+     *
+     * @param file The {@link Path} of the file to map.
+     * @return The {@link MappedByteBuffer} containing the entire file.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static MappedByteBuffer map(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Create a {@link JsonParser} over the remaining bytes of a
+     * {@link ByteBuffer}. The buffer must not be modified while the parser is
+     * in use.
+     *
+     * @param reader The {@link ObjectReader} whose factory creates the parser.
+     * @param buffer The {@link ByteBuffer} to parse.
+     * @return New {@link JsonParser} instance.
+     * @throws IOException If the parser cannot be created.
+     */
+    public static JsonParser createParser(final ObjectReader reader, final ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return reader.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        // All the input is available so the parser never waits for more
+        final JsonParser parser = reader.getFactory().createNonBlockingByteBufferParser();
+        final ByteBufferFeeder feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        feeder.feedInput(buffer);
+        feeder.endOfInput();
+        return parser;
+    }
+
+    private ByteBufferReader() {}
+}
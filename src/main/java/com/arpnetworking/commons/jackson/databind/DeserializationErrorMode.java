@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+/**
+ * How much detail deserialization errors raised by this library capture. The
+ * mode is selected when creating an {@link com.fasterxml.jackson.databind.ObjectMapper}
+ * with {@link ObjectMapperFactory#createInstance(DeserializationErrorMode)}
+ * and is exposed to deserializers as a deserialization context attribute
+ * keyed by this class.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public enum DeserializationErrorMode {
+    /**
+     * Errors capture a stack trace and the location of the error including
+     * a reference to the source content. This is the default.
+     */
+    DETAILED,
+    /**
+     * Errors do not capture a stack trace and the location of the error does
+     * not reference the source content. Errors raised by this library are
+     * thrown as a stackless {@link com.fasterxml.jackson.databind.JsonMappingException}
+     * to which Jackson adds the path to the failing property without wrapping
+     * it again. Intended for services which must cheaply reject large volumes
+     * of invalid input.
+     */
+    LIGHTWEIGHT;
+}
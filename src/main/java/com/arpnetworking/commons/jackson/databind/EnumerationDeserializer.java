@@ -16,7 +16,9 @@
 package com.arpnetworking.commons.jackson.databind;
 
 import com.arpnetworking.commons.jackson.databind.exceptions.EnumerationNotFoundException;
+import com.arpnetworking.commons.jackson.databind.exceptions.StacklessJsonMappingException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 
@@ -26,6 +28,12 @@ import java.util.Optional;
 /**
  * Custom deserializer for Enums. The deserialization occurs based on the
  * deserialization strategy specified on an {@link EnumerationDeserializerStrategy}.
+ * Values which cannot be mapped are reported with an
+ * {@link EnumerationNotFoundException} whose detail depends on the
+ * {@link DeserializationErrorMode} of the {@link com.fasterxml.jackson.databind.ObjectMapper}.
+ * In {@link DeserializationErrorMode#LIGHTWEIGHT} mode it is the cause of a
+ * {@link StacklessJsonMappingException} so that Jackson does not wrap it in
+ * an exception which captures a stack trace.
  *
  * Dependencies:
  * <ul>
@@ -57,12 +65,24 @@ public final class EnumerationDeserializer<T extends Enum<T>> extends JsonDeseri
     @Override
     public T deserialize(final JsonParser jp, final DeserializationContext ctxt)
             throws IOException {
-        // NOTE: By contract with JsonDeserializer the stringValue cannot be null
-        final String stringValue = jp.getValueAsString();
-        final Optional<T> value = _strategy.toEnum(_enumClass, stringValue);
+        final Optional<T> value;
+        if (jp.hasToken(JsonToken.VALUE_STRING)) {
+            // Match against the parser's buffer to avoid materializing the value
+            value = _strategy.toEnum(_enumClass, jp.getTextCharacters(), jp.getTextOffset(), jp.getTextLength());
+        } else {
+            // NOTE: By contract with JsonDeserializer the value cannot be null
+            value = _strategy.toEnum(_enumClass, jp.getValueAsString());
+        }
         if (value.isEmpty()) {
+            if (DeserializationErrorMode.LIGHTWEIGHT.equals(ctxt.getAttribute(DeserializationErrorMode.class))) {
+                throw new StacklessJsonMappingException(
+                        EnumerationNotFoundException.createStackless(
+                                jp.getValueAsString(),
+                                _enumClass,
+                                jp.currentLocation()));
+            }
             throw new EnumerationNotFoundException(
-                    stringValue,
+                    jp.getValueAsString(),
                     _enumClass,
                     jp.currentLocation());
         }
@@ -39,4 +39,22 @@ public interface EnumerationDeserializerStrategy<T extends Enum<T>> {
      * @return an {@link Optional} instance of the enumeration represented by key.
      */
     Optional<T> toEnum(Class<T> enumClass, String key);
+
+    /**
+     * Strategy method to map enumerations of type {@code <E>} from a range
+     * of characters; for example, the text buffer of a {@link com.fasterxml.jackson.core.JsonParser}.
+     * The characters must not be retained or modified. The default
+     * implementation creates a {@link String} and delegates to
+     * {@link #toEnum(Class, String)}; implementations should override this
+     * method to avoid the allocation.
+     *
+     * @param enumClass The enumeration class/type.
+     * @param buffer The buffer containing the serialized enumeration value.
+     * @param offset The offset of the first character of the value in the buffer.
+     * @param length The number of characters in the value.
+     * @return an {@link Optional} instance of the enumeration represented by the characters.
+     */
+    default Optional<T> toEnum(final Class<T> enumClass, final char[] buffer, final int offset, final int length) {
+        return toEnum(enumClass, String.valueOf(buffer, offset, length));
+    }
 }
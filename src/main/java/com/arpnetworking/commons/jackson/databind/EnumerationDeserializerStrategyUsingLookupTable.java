@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Implementation of {@link EnumerationDeserializerStrategy} that matches the
+ * serialized value against the names of the enumeration constants ignoring
+ * case. A lookup table is computed once per enumeration class and matching
+ * is performed directly on the supplied string or characters, so
+ * deserializing from a parser's text buffer does not allocate and values which do not match any
+ * constant are rejected without throwing.
+ *
+ * If the names of two constants differ only in case then the constant whose
+ * name is entirely upper case is matched, otherwise the first declared
+ * constant is matched.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @param <T> The class/type of enumeration.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class EnumerationDeserializerStrategyUsingLookupTable<T extends Enum<T>>
+        implements EnumerationDeserializerStrategy<T> {
+
+    /**
+     * Creates a new instance of {@link EnumerationDeserializerStrategyUsingLookupTable}.
+     *
+     * @param <T> The class/type of enumeration.
+     * @return a new instance of {@link EnumerationDeserializerStrategyUsingLookupTable}.
+     */
+    public static <T extends Enum<T>> EnumerationDeserializerStrategy<T> newInstance() {
+        return new EnumerationDeserializerStrategyUsingLookupTable<T>();
+    }
+
+    @Override
+    public Optional<T> toEnum(final Class<T> enumClass, final String key) {
+        @SuppressWarnings("unchecked")
+        final Optional<T> value = (Optional<T>) LOOKUP_TABLES.get(enumClass).find(key);
+        return value;
+    }
+
+    @Override
+    public Optional<T> toEnum(final Class<T> enumClass, final char[] buffer, final int offset, final int length) {
+        @SuppressWarnings("unchecked")
+        final Optional<T> value = (Optional<T>) LOOKUP_TABLES.get(enumClass).find(buffer, offset, length);
+        return value;
+    }
+
+    private EnumerationDeserializerStrategyUsingLookupTable() {}
+
+    private static final ClassValue<LookupTable> LOOKUP_TABLES = new ClassValue<LookupTable>() {
+        @Override
+        protected LookupTable computeValue(final Class<?> type) {
+            return new LookupTable((Enum<?>[]) type.getEnumConstants());
+        }
+    };
+
+    private static final class LookupTable {
+
+        LookupTable(final Enum<?>[] constants) {
+            int size = 2;
+            while (size < constants.length * 2) {
+                size <<= 1;
+            }
+            _mask = size - 1;
+            _keys = new char[size][];
+            _values = new Optional<?>[size];
+            for (final Enum<?> constant : constants) {
+                final char[] key = constant.name().toCharArray();
+                boolean isUpperCase = true;
+                for (int i = 0; i < key.length; ++i) {
+                    final char upperCase = Character.toUpperCase(key[i]);
+                    isUpperCase &= upperCase == key[i];
+                    key[i] = upperCase;
+                }
+                int index = hash(key, 0, key.length) & _mask;
+                while (_keys[index] != null && !Arrays.equals(_keys[index], key)) {
+                    index = (index + 1) & _mask;
+                }
+                if (_keys[index] == null || isUpperCase) {
+                    _keys[index] = key;
+                    _values[index] = Optional.of(constant);
+                }
+            }
+        }
+
+        Optional<?> find(final char[] buffer, final int offset, final int length) {
+            int index = hash(buffer, offset, length) & _mask;
+            char[] key = _keys[index];
+            while (key != null) {
+                if (matches(key, buffer, offset, length)) {
+                    return _values[index];
+                }
+                index = (index + 1) & _mask;
+                key = _keys[index];
+            }
+            return Optional.empty();
+        }
+
+        Optional<?> find(final String buffer) {
+            int index = hash(buffer) & _mask;
+            char[] key = _keys[index];
+            while (key != null) {
+                if (matches(key, buffer)) {
+                    return _values[index];
+                }
+                index = (index + 1) & _mask;
+                key = _keys[index];
+            }
+            return Optional.empty();
+        }
+
+        private static int hash(final char[] buffer, final int offset, final int length) {
+            int hash = 0;
+            for (int i = offset; i < offset + length; ++i) {
+                hash = 31 * hash + Character.toUpperCase(buffer[i]);
+            }
+            return spread(hash);
+        }
+
+        private static int hash(final String buffer) {
+            int hash = 0;
+            for (int i = 0; i < buffer.length(); ++i) {
+                hash = 31 * hash + Character.toUpperCase(buffer.charAt(i));
+            }
+            return spread(hash);
+        }
+
+        private static int spread(final int hash) {
+            // Spread the high bits since only the low bits index the table
+            return hash ^ (hash >>> 16);
+        }
+
+        private static boolean matches(final char[] key, final char[] buffer, final int offset, final int length) {
+            if (key.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; ++i) {
+                if (key[i] != Character.toUpperCase(buffer[offset + i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean matches(final char[] key, final String buffer) {
+            if (key.length != buffer.length()) {
+                return false;
+            }
+            for (int i = 0; i < key.length; ++i) {
+                if (key[i] != Character.toUpperCase(buffer.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Keys are the upper case constant names; the values are precomputed
+        // so that a successful lookup does not allocate.
+        private final char[][] _keys;
+        private final Optional<?>[] _values;
+        private final int _mask;
+    }
+}
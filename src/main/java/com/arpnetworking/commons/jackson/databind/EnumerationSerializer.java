@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.util.Collection;
+import javax.annotation.Nullable;
+
+/**
+ * Custom serializer for Enums which writes the pre-encoded name of each
+ * constant. The name of each constant is encoded as a {@link SerializedString}
+ * once, including its quoted UTF-8 bytes and characters, so each write is a
+ * copy of the encoded form. This is the counterpart of
+ * {@link EnumerationDeserializer}.
+ *
+ * The {@link SerializationFeature#WRITE_ENUMS_USING_INDEX} and
+ * {@link SerializationFeature#WRITE_ENUMS_USING_TO_STRING} features are
+ * honored. A numeric {@link JsonFormat} shape on a property writes the index
+ * and a string shape writes the name regardless of
+ * {@link SerializationFeature#WRITE_ENUMS_USING_INDEX}.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-core</li>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ * </ul>
+ *
+ * @param <T> The class/type of enumeration.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ * @see com.arpnetworking.commons.jackson.databind.module.EnumerationSerializerModule
+ */
+public final class EnumerationSerializer<T extends Enum<T>> extends StdScalarSerializer<T> implements ContextualSerializer {
+
+    /**
+     * Creates a new instance of {@link JsonSerializer} which writes the name
+     * of each constant.
+     *
+     * @param <T> The type of enumeration.
+     * @param enumClass The {@link Class} for the enumeration type.
+     * @return New instance of {@link JsonSerializer}.
+     */
+    public static <T extends Enum<T>> JsonSerializer<T> newInstance(final Class<T> enumClass) {
+        final T[] constants = enumClass.getEnumConstants();
+        final SerializedString[] names = new SerializedString[constants.length];
+        for (final T constant : constants) {
+            names[constant.ordinal()] = encode(constant.name());
+        }
+        return new EnumerationSerializer<>(enumClass, names, null);
+    }
+
+    /**
+     * Creates a new instance of {@link JsonSerializer} which writes the
+     * specified value for each constant.
+     *
+     * @param <T> The type of enumeration.
+     * @param enumClass The {@link Class} for the enumeration type.
+     * @param values The value to write for each constant in ordinal order.
+     * @return New instance of {@link JsonSerializer}.
+     */
+    public static <T extends Enum<T>> JsonSerializer<T> newInstance(
+            final Class<T> enumClass,
+            final Collection<? extends SerializableString> values) {
+        final SerializedString[] names = new SerializedString[values.size()];
+        int ordinal = 0;
+        for (final SerializableString value : values) {
+            names[ordinal++] = encode(value.getValue());
+        }
+        return new EnumerationSerializer<>(enumClass, names, null);
+    }
+
+    @Override
+    public void serialize(final T value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        final boolean writeIndex = _writeIndex == null
+                ? provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+                : _writeIndex;
+        if (writeIndex) {
+            gen.writeNumber(value.ordinal());
+        } else if (provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)) {
+            gen.writeString(value.toString());
+        } else {
+            gen.writeString(_names[value.ordinal()]);
+        }
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(final SerializerProvider prov, final BeanProperty property) {
+        final JsonFormat.Shape shape = findFormatOverrides(prov, property, handledType()).getShape();
+        final Boolean writeIndex;
+        if (shape.isNumeric()) {
+            writeIndex = Boolean.TRUE;
+        } else if (shape == JsonFormat.Shape.STRING) {
+            writeIndex = Boolean.FALSE;
+        } else {
+            return this;
+        }
+        return new EnumerationSerializer<>(handledType(), _names, writeIndex);
+    }
+
+    private static SerializedString encode(final String value) {
+        final SerializedString encoded = new SerializedString(value);
+        // Encode eagerly; the encoded forms are cached by the instance
+        encoded.asQuotedUTF8();
+        encoded.asQuotedChars();
+        return encoded;
+    }
+
+    private EnumerationSerializer(
+            final Class<T> enumClass,
+            final SerializedString[] names,
+            @Nullable final Boolean writeIndex) {
+        super(enumClass);
+        _names = names;
+        _writeIndex = writeIndex;
+    }
+
+    private final SerializedString[] _names;
+    // Whether the property shape requires the index; null to use the feature
+    @Nullable
+    private final Boolean _writeIndex;
+
+    private static final long serialVersionUID = 1L;
+}
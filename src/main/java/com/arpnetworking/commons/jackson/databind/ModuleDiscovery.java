@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.databind.Module;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Constructor;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Discovers the Jackson {@link Module} implementations to register with each
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} created by
+ * {@link ObjectMapperFactory}. By default these are the Guava, Jdk8 and
+ * JavaTime modules, where available, followed by any modules named in the
+ * {@code commons.object-mapper-additional-module-class-names} system
+ * property. Setting the {@code commons.object-mapper-discover-modules} system
+ * property to {@code true} additionally registers every module declared in
+ * {@code META-INF/services/com.fasterxml.jackson.databind.Module} as found
+ * by {@link ServiceLoader}.
+ *
+ * The result is cached per class loader so that only the first
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} created for a class
+ * loader pays for the class lookups; subsequent instances only invoke the
+ * cached module constructors. The system properties are therefore only read
+ * once per class loader. The cache holds the discovered constructors softly
+ * so that it does not prevent a class loader defining a module from being
+ * unloaded.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+/* package private */ final class ModuleDiscovery {
+
+    /* package private */ static List<Constructor<? extends Module>> getModuleConstructors(final ClassLoader classLoader) {
+        synchronized (CACHE) {
+            List<Constructor<? extends Module>> constructors = Optional.ofNullable(CACHE.get(classLoader))
+                    .map(SoftReference::get)
+                    .orElse(null);
+            if (constructors == null) {
+                constructors = discover(
+                        classLoader,
+                        () -> ServiceLoader.load(Module.class, classLoader),
+                        System::getProperty);
+                CACHE.put(classLoader, new SoftReference<>(constructors));
+            }
+            return constructors;
+        }
+    }
+
+    /* package private */ static List<Constructor<? extends Module>> discover(
+            final ClassLoader classLoader,
+            final Supplier<Iterable<Module>> serviceLoader,
+            final Function<String, String> propertyAccessor) {
+        final Map<Class<? extends Module>, Constructor<? extends Module>> constructors = new LinkedHashMap<>();
+        for (final String moduleClassName : DEFAULT_MODULE_CLASS_NAMES) {
+            addConstructor(constructors, classLoader, moduleClassName);
+        }
+        if (Boolean.parseBoolean(propertyAccessor.apply(DISCOVER_MODULES_PROPERTY))) {
+            final Iterator<Module> iterator = serviceLoader.get().iterator();
+            boolean hasNext = true;
+            while (hasNext) {
+                try {
+                    hasNext = iterator.hasNext();
+                    if (hasNext) {
+                        addConstructor(constructors, iterator.next().getClass());
+                    }
+                } catch (final ServiceConfigurationError e) {
+                    // The loader skips the failed provider and continues with the next one
+                    LOGGER.warn("Unable to load module", e);
+                }
+            }
+        }
+        for (final String moduleClassName : getAdditionalModuleClassNames(propertyAccessor)) {
+            addConstructor(constructors, classLoader, moduleClassName);
+        }
+        return List.copyOf(constructors.values());
+    }
+
+    /* package private */ static List<String> getAdditionalModuleClassNames(final Function<String, String> propertyAccessor) {
+        final String moduleClassNames = propertyAccessor.apply(ADDITIONAL_MODULES_PROPERTY);
+        if (moduleClassNames == null) {
+            return List.of();
+        }
+        return List.of(moduleClassNames.split(","));
+    }
+
+    /* package private */ static Optional<Constructor<? extends Module>> getConstructor(
+            final ClassLoader classLoader,
+            final String moduleClassName) {
+        try {
+            @SuppressWarnings("unchecked")
+            final Class<? extends Module> moduleClass =
+                    (Class<? extends Module>) Class.forName(moduleClassName, true, classLoader);
+            return getConstructor(moduleClass);
+        } catch (final ClassNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Constructor<? extends Module>> getConstructor(final Class<? extends Module> moduleClass) {
+        try {
+            return Optional.of(moduleClass.getDeclaredConstructor());
+        } catch (final NoSuchMethodException e) {
+            LOGGER.warn(
+                    String.format(
+                            "Unable to find module constructor; module=%s",
+                            moduleClass),
+                    e);
+            return Optional.empty();
+        }
+    }
+
+    private static void addConstructor(
+            final Map<Class<? extends Module>, Constructor<? extends Module>> constructors,
+            final ClassLoader classLoader,
+            final String moduleClassName) {
+        getConstructor(classLoader, moduleClassName)
+                .ifPresent(constructor -> constructors.putIfAbsent(constructor.getDeclaringClass(), constructor));
+    }
+
+    private static void addConstructor(
+            final Map<Class<? extends Module>, Constructor<? extends Module>> constructors,
+            final Class<? extends Module> moduleClass) {
+        if (!constructors.containsKey(moduleClass)) {
+            getConstructor(moduleClass).ifPresent(constructor -> constructors.put(moduleClass, constructor));
+        }
+    }
+
+    private ModuleDiscovery() {}
+
+    private static final List<String> DEFAULT_MODULE_CLASS_NAMES = List.of(
+            "com.fasterxml.jackson.datatype.guava.GuavaModule",
+            "com.fasterxml.jackson.datatype.jdk8.Jdk8Module",
+            "com.fasterxml.jackson.datatype.jsr310.JavaTimeModule");
+    private static final String DISCOVER_MODULES_PROPERTY = "commons.object-mapper-discover-modules";
+    private static final String ADDITIONAL_MODULES_PROPERTY = "commons.object-mapper-additional-module-class-names";
+    private static final Map<ClassLoader, SoftReference<List<Constructor<? extends Module>>>> CACHE = new WeakHashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModuleDiscovery.class);
+}
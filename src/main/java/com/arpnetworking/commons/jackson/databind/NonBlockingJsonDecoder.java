@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * Incremental decoder binding the elements of a JSON array or a sequence of
+ * root-level JSON values (e.g. newline delimited JSON) from {@link ByteBuffer}
+ * chunks as they arrive, for example from a network channel. Each element is
+ * emitted as soon as its final token (e.g. the closing brace of an object)
+ * has been fed, without first accumulating the complete input.
+ *
+ * Chunks are tokenized with Jackson's non-blocking parser. The tokens of the
+ * element currently being received are held in a {@link TokenBuffer} and
+ * bound once the element is complete, so memory use is bounded by the size
+ * of a single element. Builder backed types are bound through the
+ * {@link com.arpnetworking.commons.builder.ThreadLocalBuilder} pool when the
+ * {@link ObjectMapper} was created by {@link ObjectMapperFactory}. Elements
+ * which are JSON {@code null} are skipped.
+ *
+ * The decoder does not retain a chunk once {@link #feed(ByteBuffer, Consumer)}
+ * returns, so the caller may reuse it. Instances are not thread safe.
+ *
+ * Any failure while decoding, whether malformed input, an element which
+ * cannot be bound or an exception thrown by the consumer, is terminal: the
+ * remainder of the failing chunk is discarded and further calls to
+ * {@link #feed(ByteBuffer, Consumer)} or {@link #endOfInput(Consumer)} throw
+ * {@link IllegalStateException}.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-core</li>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ * </ul>
+ *
+ * @param <T> The type of element.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class NonBlockingJsonDecoder<T> implements Closeable {
+
+    /**
+     * Create a {@link NonBlockingJsonDecoder} emitting the elements of a
+     * JSON array. Any value following the array is malformed input.
+     *
+     * @param <T> The type of element.
+     * @param objectMapper The {@link ObjectMapper} to bind elements with.
+     * @param type The type of element.
+     * @return New {@link NonBlockingJsonDecoder} instance.
+     * @throws IOException If the parser cannot be created.
+     */
+    public static <T> NonBlockingJsonDecoder<T> forArray(final ObjectMapper objectMapper, final Class<T> type) throws IOException {
+        return forArray(objectMapper.reader().forType(type));
+    }
+
+    /**
+     * Create a {@link NonBlockingJsonDecoder} emitting the elements of a
+     * JSON array. Any value following the array is malformed input. The
+     * {@link ObjectReader} must be configured with the
+     * element type and must use a {@link com.fasterxml.jackson.core.JsonFactory}
+     * supporting non-blocking parsing of {@link ByteBuffer} input.
+     *
+     * @param <T> The type of element.
+     * @param reader The {@link ObjectReader} to bind elements with.
+     * @return New {@link NonBlockingJsonDecoder} instance.
+     * @throws IOException If the parser cannot be created.
+     */
+    public static <T> NonBlockingJsonDecoder<T> forArray(final ObjectReader reader) throws IOException {
+        return new NonBlockingJsonDecoder<>(reader, 1);
+    }
+
+    /**
+     * Create a {@link NonBlockingJsonDecoder} emitting a sequence of
+     * root-level JSON values; for example, newline delimited JSON.
+     *
+     * @param <T> The type of element.
+     * @param objectMapper The {@link ObjectMapper} to bind elements with.
+     * @param type The type of element.
+     * @return New {@link NonBlockingJsonDecoder} instance.
+     * @throws IOException If the parser cannot be created.
+     */
+    public static <T> NonBlockingJsonDecoder<T> forSequence(final ObjectMapper objectMapper, final Class<T> type) throws IOException {
+        return forSequence(objectMapper.reader().forType(type));
+    }
+
+    /**
+     * Create a {@link NonBlockingJsonDecoder} emitting a sequence of
+     * root-level JSON values; for example, newline delimited JSON. The
+     * {@link ObjectReader} must be configured with the element type and must
+     * use a {@link com.fasterxml.jackson.core.JsonFactory} supporting
+     * non-blocking parsing of {@link ByteBuffer} input.
+     *
+     * @param <T> The type of element.
+     * @param reader The {@link ObjectReader} to bind elements with.
+     * @return New {@link NonBlockingJsonDecoder} instance.
+     * @throws IOException If the parser cannot be created.
+     */
+    public static <T> NonBlockingJsonDecoder<T> forSequence(final ObjectReader reader) throws IOException {
+        return new NonBlockingJsonDecoder<>(reader, 0);
+    }
+
+    /**
+     * Feed the next chunk of input. The remaining bytes of the chunk are
+     * consumed and each element completed by the chunk is passed to the
+     * consumer before this method returns. The position of the chunk is not
+     * modified.
+     *
+     * @param chunk The next chunk of input.
+     * @param consumer Receives each completed element.
+     * @throws IOException If the input is malformed or an element cannot be bound.
+     * @throws IllegalStateException If decoding previously failed.
+     */
+    public void feed(final ByteBuffer chunk, final Consumer<? super T> consumer) throws IOException {
+        checkNotFailed();
+        _feeder.feedInput(chunk);
+        drain(consumer);
+    }
+
+    /**
+     * Signal the end of the input. Any root-level value which can only be
+     * delimited by the end of the input (e.g. a trailing number in a
+     * sequence) is passed to the consumer.
+     *
+     * @param consumer Receives each completed element.
+     * @throws IOException If the input ends inside an element.
+     * @throws IllegalStateException If decoding previously failed.
+     */
+    public void endOfInput(final Consumer<? super T> consumer) throws IOException {
+        checkNotFailed();
+        _feeder.endOfInput();
+        drain(consumer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        _parser.close();
+    }
+
+    private void checkNotFailed() {
+        if (_failed) {
+            throw new IllegalStateException("Decoder failed on earlier input");
+        }
+    }
+
+    private void drain(final Consumer<? super T> consumer) throws IOException {
+        boolean drained = false;
+        try {
+            JsonToken token = _parser.nextToken();
+            while (token != JsonToken.NOT_AVAILABLE && token != null) {
+                onToken(token, consumer);
+                token = _parser.nextToken();
+            }
+            drained = true;
+        } finally {
+            if (!drained) {
+                // The parser still holds the rest of the chunk and cannot accept more input
+                _failed = true;
+                _tokens = null;
+            }
+        }
+    }
+
+    private void onToken(final JsonToken token, final Consumer<? super T> consumer) throws IOException {
+        if (_depth < _elementDepth) {
+            // Only reached for arrays when outside the enclosing array
+            if (_ended) {
+                throw MismatchedInputException.from(
+                        _parser,
+                        _reader.getValueType(),
+                        String.format("Expected end of input after array; token=%s", token));
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw MismatchedInputException.from(
+                        _parser,
+                        _reader.getValueType(),
+                        String.format("Expected start of array; token=%s", token));
+            }
+            ++_depth;
+            return;
+        }
+        if (_depth == _elementDepth && token == JsonToken.END_ARRAY) {
+            // Only reached for arrays since the parser rejects an unmatched end
+            --_depth;
+            _ended = true;
+            return;
+        }
+        if (_tokens == null) {
+            _tokens = new TokenBuffer(_parser);
+        }
+        _tokens.copyCurrentEvent(_parser);
+        if (token.isStructStart()) {
+            ++_depth;
+        } else if (token.isStructEnd()) {
+            --_depth;
+        }
+        if (_depth == _elementDepth) {
+            final TokenBuffer tokens = _tokens;
+            _tokens = null;
+            emit(tokens, consumer);
+        }
+    }
+
+    private void emit(final TokenBuffer tokens, final Consumer<? super T> consumer) throws IOException {
+        final T value;
+        try (JsonParser parser = tokens.asParser()) {
+            value = _reader.readValue(parser);
+        }
+        if (value != null) {
+            consumer.accept(value);
+        }
+    }
+
+    private NonBlockingJsonDecoder(final ObjectReader reader, final int elementDepth) throws IOException {
+        _reader = reader;
+        _parser = reader.getFactory().createNonBlockingByteBufferParser();
+        _feeder = (ByteBufferFeeder) _parser.getNonBlockingInputFeeder();
+        _elementDepth = elementDepth;
+    }
+
+    private final ObjectReader _reader;
+    private final JsonParser _parser;
+    private final ByteBufferFeeder _feeder;
+    private final int _elementDepth;
+    private int _depth;
+    private boolean _ended;
+    private boolean _failed;
+    @Nullable
+    private TokenBuffer _tokens;
+}
@@ -15,23 +15,45 @@
  */
 package com.arpnetworking.commons.jackson.databind;
 
+import com.arpnetworking.commons.jackson.databind.jsr310.FastJavaTimeModule;
 import com.arpnetworking.commons.jackson.databind.module.BuilderModule;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
 /**
- * Create a "standard" {@link ObjectMapper} instance.
+ * Create a "standard" {@link ObjectMapper} instance. The Guava, Jdk8 and
+ * JavaTime modules, where available to the class loader of this factory, are
+ * located once and registered with each instance; see
+ * {@link ModuleDiscovery} for the system properties which add further
+ * modules. Parser and generator buffers are recycled with a pool suitable for
+ * both platform and virtual threads; see {@link RecyclerPoolType}. When
+ * {@code jackson-datatype-jsr310} is available the {@link FastJavaTimeModule}
+ * is registered to wrap its serializers and deserializers so that
+ * {@link java.time.Instant}, {@link java.time.OffsetDateTime} and
+ * {@link java.time.ZonedDateTime} are formatted and parsed without
+ * {@link java.time.format.DateTimeFormatter}. In addition to JSON,
+ * instances encoding the binary Smile and CBOR formats are available; these
+ * share the same modules and feature configuration as the JSON instances.
  *
  * Dependencies:
  * <ul>
@@ -41,6 +63,8 @@ import java.util.function.Function;
  *     <li>com.google.guava:guava (Optional; only required if above is used)</li>
  *     <li>com.fasterxml.jackson.datatype:jackson-datatype-jdk8 (Optional)</li>
  *     <li>com.fasterxml.jackson.datatype:jackson-datatype-jsr310 (Optional)</li>
+ *     <li>com.fasterxml.jackson.dataformat:jackson-dataformat-smile (Optional; only required for Smile instances)</li>
+ *     <li>com.fasterxml.jackson.dataformat:jackson-dataformat-cbor (Optional; only required for CBOR instances)</li>
  *     <li>cglib:cglib (3.1+; transitively through ImmutableObjectMapper)</li>
  * </ul>
  *
@@ -80,9 +104,155 @@ public final class ObjectMapperFactory {
         return UNMODIFIABLE_OBJECT_MAPPER;
     }
 
+    /**
+     * Create a new {@link ObjectMapper} configured with standard settings
+     * and the specified {@link DeserializationErrorMode}. In
+     * {@link DeserializationErrorMode#LIGHTWEIGHT} mode the source content
+     * is not included in locations and errors raised by this library are
+     * thrown as a stackless
+     * {@link com.fasterxml.jackson.databind.JsonMappingException} with the
+     * property path. Other failures are still wrapped in a
+     * {@link com.fasterxml.jackson.databind.JsonMappingException} so callers
+     * handling {@link java.io.IOException} are not affected. New instances can be safely customized by clients.
+     *
+     * @param errorMode The {@link DeserializationErrorMode}.
+     * @return New mutable {@link ObjectMapper} instance.
+     */
+    public static ObjectMapper createInstance(final DeserializationErrorMode errorMode) {
+        final boolean detailed = errorMode == DeserializationErrorMode.DETAILED;
+        final ObjectMapper objectMapper = createInstance(createJsonFactory(detailed, DEFAULT_RECYCLER_POOL_TYPE));
+        objectMapper.setConfig(objectMapper.getDeserializationConfig().withAttribute(DeserializationErrorMode.class, errorMode));
+        return objectMapper;
+    }
+
+    /**
+     * Get {@link ObjectMapper} instance configured with standard settings
+     * and the specified {@link DeserializationErrorMode}. These instances are
+     * considered shared and are immutable.
+     *
+     * @param errorMode The {@link DeserializationErrorMode}.
+     * @return Shared immutable {@link ObjectMapper} instance.
+     */
+    public static ObjectMapper getInstance(final DeserializationErrorMode errorMode) {
+        if (errorMode == DeserializationErrorMode.LIGHTWEIGHT) {
+            return Lightweight.UNMODIFIABLE_OBJECT_MAPPER;
+        }
+        return getInstance();
+    }
+
+    /**
+     * Create a new {@link ObjectMapper} configured with standard settings
+     * and the specified {@link RecyclerPoolType}. Unless otherwise specified
+     * instances use {@link RecyclerPoolType#VIRTUAL_THREAD_AWARE} which
+     * behaves like Jackson's default on platform threads. New instances can
+     * be safely customized by clients.
+     *
+     * @param recyclerPoolType The {@link RecyclerPoolType}.
+     * @return New mutable {@link ObjectMapper} instance.
+     */
+    public static ObjectMapper createInstance(final RecyclerPoolType recyclerPoolType) {
+        return createInstance(createJsonFactory(true, recyclerPoolType));
+    }
+
+    /**
+     * Create a new {@link ObjectMapper} encoding Smile and configured with
+     * standard settings. New instances can be safely customized by clients.
+     *
+     * @return New mutable {@link ObjectMapper} instance.
+     */
+    public static ObjectMapper createSmileInstance() {
+        return createInstance(Smile.createFactory());
+    }
+
+    /**
+     * Get {@link ObjectMapper} instance encoding Smile and configured with
+     * standard settings. These instances are considered shared and are
+     * immutable.
+     *
+     * @return Shared immutable {@link ObjectMapper} instance.
+     */
+    public static ObjectMapper getSmileInstance() {
+        return Smile.UNMODIFIABLE_OBJECT_MAPPER;
+    }
+
+    /**
+     * Create a new {@link ObjectMapper} encoding CBOR and configured with
+     * standard settings. New instances can be safely customized by clients.
+     *
+     * @return New mutable {@link ObjectMapper} instance.
+     */
+    public static ObjectMapper createCborInstance() {
+        return createInstance(Cbor.createFactory());
+    }
+
+    /**
+     * Get {@link ObjectMapper} instance encoding CBOR and configured with
+     * standard settings. These instances are considered shared and are
+     * immutable.
+     *
+     * @return Shared immutable {@link ObjectMapper} instance.
+     */
+    public static ObjectMapper getCborInstance() {
+        return Cbor.UNMODIFIABLE_OBJECT_MAPPER;
+    }
+
+    /**
+     * Eagerly resolve and cache the deserializers and serializers of the
+     * specified types. Otherwise these are created, including introspection
+     * of any builder, by the first read or write of each type. Both mutable
+     * and immutable {@link ObjectMapper} instances may be pre-warmed. Types
+     * which cannot be deserialized or serialized are logged and skipped.
+     *
+     * @param objectMapper The {@link ObjectMapper} instance to pre-warm.
+     * @param types The types to resolve.
+     */
+    public static void preWarm(final ObjectMapper objectMapper, final Collection<? extends Class<?>> types) {
+        for (final Class<?> type : types) {
+            // Resolving the root value deserializer caches it (and those it depends on) with the mapper
+            final DeserializationContext context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                    .createInstance(objectMapper.getDeserializationConfig(), null, null);
+            try {
+                context.findRootValueDeserializer(objectMapper.constructType(type));
+            } catch (final JsonMappingException e) {
+                LOGGER.warn(
+                        String.format(
+                                "Unable to pre-warm deserializer; type=%s",
+                                type),
+                        e);
+            }
+            // Prefetching the root value serializer caches it with the mapper
+            if (!objectMapper.writerFor(type).hasPrefetchedSerializer()) {
+                LOGGER.warn(String.format("Unable to pre-warm serializer; type=%s", type));
+            }
+        }
+    }
+
+    /**
+     * Eagerly resolve and cache the deserializers and serializers of the
+     * types in the specified package and its sub-packages which declare a
+     * nested class named {@code Builder}. The package is scanned in the
+     * directories and jar files of the thread context class loader. See
+     * {@link #preWarm(ObjectMapper, Collection)}.
+     *
+     * @param objectMapper The {@link ObjectMapper} instance to pre-warm.
+     * @param packageName The name of the package to scan.
+     * @return The types resolved.
+     * @throws IOException If the package cannot be scanned.
+     */
+    public static List<Class<?>> preWarm(final ObjectMapper objectMapper, final String packageName) throws IOException {
+        final List<Class<?>> types = BuilderTypeScanner.findBuilderTypes(getClassLoader(), packageName);
+        preWarm(objectMapper, types);
+        return types;
+    }
+
     private static JsonFactory createJsonFactory() {
+        return createJsonFactory(true, DEFAULT_RECYCLER_POOL_TYPE);
+    }
+
+    private static JsonFactory createJsonFactory(final boolean includeSourceInLocation, final RecyclerPoolType recyclerPoolType) {
         return JsonFactory.builder()
-                .enable(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION)
+                .configure(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION, includeSourceInLocation)
+                .recyclerPool(recyclerPoolType.getPool())
                 .build();
     }
 
@@ -92,10 +262,12 @@ public final class ObjectMapperFactory {
 
     /* package private */ static ObjectMapper createModifiableObjectMapper(final ObjectMapper objectMapper) {
         objectMapper.registerModule(new BuilderModule());
-        registerModule(objectMapper, "com.fasterxml.jackson.datatype.guava.GuavaModule");
-        registerModule(objectMapper, "com.fasterxml.jackson.datatype.jdk8.Jdk8Module");
-        registerModule(objectMapper, "com.fasterxml.jackson.datatype.jsr310.JavaTimeModule");
-        registerAdditionalModules(objectMapper, System::getProperty);
+        final ClassLoader classLoader = ObjectMapperFactory.class.getClassLoader();
+        for (final Constructor<? extends Module> moduleConstructor : ModuleDiscovery.getModuleConstructors(classLoader)) {
+            registerModule(objectMapper, moduleConstructor);
+        }
+        // Wraps the java.time serializers and deserializers of JavaTimeModule
+        FAST_JAVA_TIME_MODULE.ifPresent(objectMapper::registerModule);
         objectMapper.configure(DeserializationFeature.FAIL_ON_TRAILING_TOKENS, true);
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         objectMapper.configure(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE, false);
@@ -106,33 +278,60 @@ public final class ObjectMapperFactory {
         return objectMapper;
     }
 
+    /* package private */ static ClassLoader getClassLoader() {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        if (contextClassLoader != null) {
+            return contextClassLoader;
+        }
+        return ObjectMapperFactory.class.getClassLoader();
+    }
+
+    /**
+     * Register the modules named by the additional modules property.
+     *
+     * @param objectMapper The {@link ObjectMapper} to register modules with.
+     * @param propertyAccessor Accessor for the system properties.
+     * @deprecated Additional modules are registered when they are discovered
+     * by {@link ModuleDiscovery}.
+     */
+    @Deprecated
     /* package private */ static void registerAdditionalModules(
             final ObjectMapper objectMapper,
             final Function<String, String> propertyAccessor) {
-        final String moduleClassNames = propertyAccessor.apply("commons.object-mapper-additional-module-class-names");
-        if (moduleClassNames != null) {
-            for (final String moduleClassName : moduleClassNames.split(",")) {
-                registerModule(objectMapper, moduleClassName);
-            }
+        for (final String moduleClassName : ModuleDiscovery.getAdditionalModuleClassNames(propertyAccessor)) {
+            registerModule(objectMapper, moduleClassName);
         }
     }
 
-    @SuppressFBWarnings("REC_CATCH_EXCEPTION")
+    /**
+     * Register the module with the specified class name if it is available.
+     *
+     * @param objectMapper The {@link ObjectMapper} to register the module with.
+     * @param className The class name of the module.
+     * @deprecated Modules are located once by {@link ModuleDiscovery} and
+     * registered with {@link #registerModule(ObjectMapper, Constructor)}.
+     */
+    @Deprecated
     /* package private */ static void registerModule(final ObjectMapper objectMapper, final String className) {
-        final Optional<Class<? extends Module>> moduleClass = getClass(className);
-        if (moduleClass.isPresent()) {
-            try {
-                final Module module = moduleClass.get().getDeclaredConstructor().newInstance();
-                objectMapper.registerModule(module);
-                // CHECKSTYLE.OFF: IllegalCatch - Catch any exceptions thrown by reflection or the module constructor.
-            } catch (final Exception e) {
-                // CHECKSTYLE.ON: IllegalCatch
-                LOGGER.warn(
-                        String.format(
-                                "Unable to instantiate module; module=%s",
-                                moduleClass.get()),
-                        e);
-            }
+        ModuleDiscovery.getConstructor(ObjectMapperFactory.class.getClassLoader(), className)
+                .ifPresent(moduleConstructor -> registerModule(objectMapper, moduleConstructor));
+    }
+
+    @SuppressFBWarnings("REC_CATCH_EXCEPTION")
+    /* package private */ static void registerModule(
+            final ObjectMapper objectMapper,
+            final Constructor<? extends Module> moduleConstructor) {
+        try {
+            final Module module = moduleConstructor.newInstance();
+            objectMapper.registerModule(module);
+            // CHECKSTYLE.OFF: IllegalCatch - Catch any exceptions thrown by reflection or the module constructor.
+        } catch (final Exception e) {
+            // CHECKSTYLE.ON: IllegalCatch
+            LOGGER.warn(
+                    String.format(
+                            "Unable to instantiate module; module=%s",
+                            moduleConstructor.getDeclaringClass()),
+                    e);
         }
     }
 
@@ -149,6 +348,36 @@ public final class ObjectMapperFactory {
     private ObjectMapperFactory() {}
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ObjectMapperFactory.class);
+    private static final Optional<Module> FAST_JAVA_TIME_MODULE =
+            ObjectMapperFactory.<Module>getClass("com.fasterxml.jackson.datatype.jsr310.JavaTimeModule")
+                    .map(clazz -> new FastJavaTimeModule());
+    private static final RecyclerPoolType DEFAULT_RECYCLER_POOL_TYPE = RecyclerPoolType.VIRTUAL_THREAD_AWARE;
     private static final ObjectMapper UNMODIFIABLE_OBJECT_MAPPER = ImmutableObjectMapper.of(
             createModifiableObjectMapper());
+
+    private static final class Lightweight {
+
+        private static final ObjectMapper UNMODIFIABLE_OBJECT_MAPPER = ImmutableObjectMapper.of(
+                createInstance(DeserializationErrorMode.LIGHTWEIGHT));
+    }
+
+    // The binary formats are held in separate classes so that they are only
+    // loaded (and their optional dependencies only required) on first use.
+    private static final class Smile {
+
+        static JsonFactory createFactory() {
+            return SmileFactory.builder().recyclerPool(DEFAULT_RECYCLER_POOL_TYPE.getPool()).build();
+        }
+
+        private static final ObjectMapper UNMODIFIABLE_OBJECT_MAPPER = ImmutableObjectMapper.of(createSmileInstance());
+    }
+
+    private static final class Cbor {
+
+        static JsonFactory createFactory() {
+            return CBORFactory.builder().recyclerPool(DEFAULT_RECYCLER_POOL_TYPE.getPool()).build();
+        }
+
+        private static final ObjectMapper UNMODIFIABLE_OBJECT_MAPPER = ImmutableObjectMapper.of(createCborInstance());
+    }
 }
@@ -0,0 +1,388 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Reads newline delimited JSON (NDJSON) in parallel. The input is split into
+ * chunks at line boundaries and each chunk is parsed on the supplied
+ * {@link ExecutorService} using a {@link TolerantMappingIterator}. Files are
+ * split using memory mapped regions rather than read into heap buffers by
+ * the calling thread; the parser reads each region through a
+ * {@link ByteBufferBackedInputStream}, which copies it into the parser's own
+ * buffer on the executor. A single line may be at most
+ * {@code Integer.MAX_VALUE - 8} bytes long. Results and element failures are
+ * always delivered on the calling thread so neither the consumer nor the
+ * error handler need to be thread safe. Depending on the configured
+ * {@link Delivery} the results are delivered in input order or in the order
+ * that chunks complete.
+ *
+ * At most twice the configured parallelism of chunks are in flight at once
+ * which bounds memory use to a small multiple of the chunk size regardless
+ * of the size of the input. Within each chunk the failures for elements
+ * which cannot be bound are reported before the values are delivered. A
+ * malformed line is reported once and parsing of its chunk resumes at the
+ * next line.
+ *
+ * Instances are thread safe provided the {@link ExecutorService} is.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-core</li>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ * </ul>
+ *
+ * @param <T> The type of element.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class ParallelNdjsonReader<T> {
+
+    /**
+     * Read the elements of a newline delimited JSON file.
+     *
+     * @param file The {@link Path} of the file to read.
+     * @param consumer Receives each element.
+     * @param errorHandler Receives the failure for each element that cannot be bound.
+     * @throws IOException If the file cannot be read or a chunk cannot be parsed.
+     * @throws InterruptedException If interrupted while waiting for a chunk.
+     */
+    public void read(
+            final Path file,
+            final Consumer<? super T> consumer,
+            final Consumer<? super JsonProcessingException> errorHandler)
+            throws IOException, InterruptedException {
+        final Dispatcher dispatcher = new Dispatcher(consumer, errorHandler);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                final ByteBuffer region = mapChunk(channel, position, size);
+                position += region.limit();
+                dispatcher.submit(() -> parse(region));
+            }
+            dispatcher.drain();
+        } finally {
+            dispatcher.cancel();
+        }
+    }
+
+    /**
+     * Read the elements of a newline delimited JSON byte stream.
+     *
+     * @param inputStream The {@link InputStream} to read.
+     * @param consumer Receives each element.
+     * @param errorHandler Receives the failure for each element that cannot be bound.
+     * @throws IOException If the stream cannot be read or a chunk cannot be parsed.
+     * @throws InterruptedException If interrupted while waiting for a chunk.
+     */
+    public void read(
+            final InputStream inputStream,
+            final Consumer<? super T> consumer,
+            final Consumer<? super JsonProcessingException> errorHandler)
+            throws IOException, InterruptedException {
+        final Dispatcher dispatcher = new Dispatcher(consumer, errorHandler);
+        try {
+            byte[] buffer = new byte[_chunkSize];
+            int length = 0;
+            int read = inputStream.read(buffer, 0, buffer.length);
+            while (read >= 0) {
+                length += read;
+                if (length == buffer.length) {
+                    final int end = lastIndexOfNewline(ByteBuffer.wrap(buffer)) + 1;
+                    if (end == 0) {
+                        // The line is longer than the buffer
+                        buffer = Arrays.copyOf(buffer, grow(buffer.length));
+                    } else {
+                        final byte[] chunk = buffer;
+                        buffer = new byte[chunk.length];
+                        length -= end;
+                        System.arraycopy(chunk, end, buffer, 0, length);
+                        dispatcher.submit(() -> parse(ByteBuffer.wrap(chunk, 0, end)));
+                    }
+                }
+                read = inputStream.read(buffer, length, buffer.length - length);
+            }
+            if (length > 0) {
+                final byte[] chunk = buffer;
+                final int end = length;
+                dispatcher.submit(() -> parse(ByteBuffer.wrap(chunk, 0, end)));
+            }
+            dispatcher.drain();
+        } finally {
+            dispatcher.cancel();
+        }
+    }
+
+    /**
+     * Public constructor.
+     *
+     * @param objectMapper The {@link ObjectMapper} to bind elements with.
+     * @param type The type of element.
+     * @param executor The {@link ExecutorService} to parse chunks on.
+     * @param parallelism The number of chunks to parse concurrently.
+     * @param delivery The {@link Delivery} order of results.
+     */
+    public ParallelNdjsonReader(
+            final ObjectMapper objectMapper,
+            final Class<T> type,
+            final ExecutorService executor,
+            final int parallelism,
+            final Delivery delivery) {
+        this(objectMapper.reader().forType(type), executor, parallelism, DEFAULT_CHUNK_SIZE, delivery);
+    }
+
+    /**
+     * Public constructor.
+     *
+     * @param reader The {@link ObjectReader} to bind elements with.
+     * @param executor The {@link ExecutorService} to parse chunks on.
+     * @param parallelism The number of chunks to parse concurrently.
+     * @param chunkSize The target size of each chunk in bytes.
+     * @param delivery The {@link Delivery} order of results.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "ObjectReader is immutable")
+    public ParallelNdjsonReader(
+            final ObjectReader reader,
+            final ExecutorService executor,
+            final int parallelism,
+            final int chunkSize,
+            final Delivery delivery) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(String.format("Parallelism must be positive; parallelism=%d", parallelism));
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(String.format("Chunk size must be positive; chunkSize=%d", chunkSize));
+        }
+        _reader = reader;
+        _executor = executor;
+        _maxInFlight = parallelism * 2;
+        _chunkSize = chunkSize;
+        _delivery = delivery;
+    }
+
+    private ByteBuffer mapChunk(final FileChannel channel, final long position, final long size) throws IOException {
+        long length = Math.min(_chunkSize, size - position);
+        while (true) {
+            final MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            if (position + length == size) {
+                return region;
+            }
+            final int end = lastIndexOfNewline(region) + 1;
+            if (end > 0) {
+                region.limit(end);
+                return region;
+            }
+            // The line is longer than the region
+            length = Math.min(grow(length), size - position);
+        }
+    }
+
+    private Chunk<T> parse(final ByteBuffer buffer) throws IOException {
+        final Chunk<T> chunk = new Chunk<>();
+        int position = buffer.position();
+        while (position < buffer.limit()) {
+            position = parse(buffer, position, chunk);
+        }
+        return chunk;
+    }
+
+    private int parse(final ByteBuffer buffer, final int position, final Chunk<T> chunk) throws IOException {
+        final int errors = chunk._errors.size();
+        final int next;
+        try (TolerantMappingIterator<T> iterator = TolerantMappingIterator.forSequence(
+                _reader,
+                createParser(buffer, position),
+                chunk._errors::add)) {
+            while (iterator.hasNext()) {
+                chunk._values.add(iterator.next());
+            }
+            // Iteration ends early only after reporting malformed input
+            final boolean malformed = chunk._errors.size() > errors
+                    && !(chunk._errors.get(chunk._errors.size() - 1) instanceof DatabindException);
+            if (malformed) {
+                next = nextLine(buffer, position + (int) iterator.getElementLocation().getByteOffset());
+            } else {
+                next = buffer.limit();
+            }
+        }
+        return next;
+    }
+
+    private JsonParser createParser(final ByteBuffer buffer, final int position) throws IOException {
+        if (buffer.hasArray()) {
+            return _reader.createParser(buffer.array(), buffer.arrayOffset() + position, buffer.limit() - position);
+        }
+        final ByteBuffer remaining = buffer.duplicate();
+        remaining.position(position);
+        return _reader.createParser(new ByteBufferBackedInputStream(remaining));
+    }
+
+    /* package private */ static int grow(final long length) throws IOException {
+        if (length >= MAXIMUM_CHUNK_SIZE) {
+            throw new IOException(String.format(
+                    "Line exceeds the maximum chunk size; maximumChunkSize=%d",
+                    MAXIMUM_CHUNK_SIZE));
+        }
+        return (int) Math.min(length * 2, MAXIMUM_CHUNK_SIZE);
+    }
+
+    private static int nextLine(final ByteBuffer buffer, final int position) {
+        // Skip to the line after the one on which the malformed element starts
+        boolean inElement = false;
+        for (int i = position; i < buffer.limit(); ++i) {
+            final byte b = buffer.get(i);
+            if (b == NEWLINE && inElement) {
+                return i + 1;
+            }
+            inElement |= !isWhitespace(b);
+        }
+        return buffer.limit();
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == NEWLINE;
+    }
+
+    private static int lastIndexOfNewline(final ByteBuffer buffer) {
+        for (int i = buffer.limit() - 1; i >= 0; --i) {
+            if (buffer.get(i) == NEWLINE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private final ObjectReader _reader;
+    private final ExecutorService _executor;
+    private final int _maxInFlight;
+    private final int _chunkSize;
+    private final Delivery _delivery;
+
+    private static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    // The largest array most virtual machines can allocate
+    private static final int MAXIMUM_CHUNK_SIZE = Integer.MAX_VALUE - 8;
+    private static final byte NEWLINE = '\n';
+
+    /**
+     * The order in which results are delivered.
+     */
+    public enum Delivery {
+        /**
+         * Results are delivered in the order they appear in the input.
+         */
+        INPUT_ORDER,
+        /**
+         * Results are delivered in the order that chunks complete parsing.
+         */
+        COMPLETION_ORDER
+    }
+
+    private final class Dispatcher {
+
+        Dispatcher(
+                final Consumer<? super T> consumer,
+                final Consumer<? super JsonProcessingException> errorHandler) {
+            _consumer = consumer;
+            _errorHandler = errorHandler;
+            _completionService = new ExecutorCompletionService<>(_executor);
+        }
+
+        void submit(final Callable<Chunk<T>> task) throws IOException, InterruptedException {
+            if (_pending.size() >= _maxInFlight) {
+                deliver(nextCompleted());
+            }
+            // Futures submitted to the completion service remain queued until
+            // taken so they are only used when delivering in completion order
+            if (_delivery == Delivery.INPUT_ORDER) {
+                _pending.add(_executor.submit(task));
+            } else {
+                _pending.add(_completionService.submit(task));
+            }
+        }
+
+        void drain() throws IOException, InterruptedException {
+            while (!_pending.isEmpty()) {
+                deliver(nextCompleted());
+            }
+        }
+
+        void cancel() {
+            for (final Future<Chunk<T>> future : _pending) {
+                future.cancel(true);
+            }
+            _pending.clear();
+        }
+
+        private Future<Chunk<T>> nextCompleted() throws InterruptedException {
+            if (_delivery == Delivery.INPUT_ORDER) {
+                return _pending.removeFirst();
+            }
+            final Future<Chunk<T>> future = _completionService.take();
+            _pending.remove(future);
+            return future;
+        }
+
+        private void deliver(final Future<Chunk<T>> future) throws IOException, InterruptedException {
+            final Chunk<T> chunk;
+            try {
+                chunk = future.get();
+            } catch (final ExecutionException e) {
+                throw new IOException("Unable to parse chunk", e.getCause());
+            }
+            chunk._errors.forEach(_errorHandler);
+            chunk._values.forEach(_consumer);
+        }
+
+        private final Consumer<? super T> _consumer;
+        private final Consumer<? super JsonProcessingException> _errorHandler;
+        private final CompletionService<Chunk<T>> _completionService;
+        private final Deque<Future<Chunk<T>>> _pending = new ArrayDeque<>();
+    }
+
+    private static final class Chunk<T> {
+
+        private final List<T> _values = new ArrayList<>();
+        private final List<JsonProcessingException> _errors = new ArrayList<>();
+    }
+}
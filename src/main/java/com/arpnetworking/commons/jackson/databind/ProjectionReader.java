@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.arpnetworking.commons.jackson.databind.deser.ThreadLocalBuilderBasedDeserializer;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+
+import java.util.Set;
+
+/**
+ * {@link ObjectReader} which binds only the named properties of a type
+ * deserialized with a {@link com.arpnetworking.commons.builder.ThreadLocalBuilder}.
+ * The values of all other properties are skipped without being bound and
+ * only the constraints on the builder fields backing the named properties
+ * are validated. Consequently, the values read may violate the constraints
+ * of the type; they are intended for inspecting a few properties of large
+ * documents (e.g. for routing or filtering) and not for general use.
+ *
+ * Readers derived from this reader through its {@code with} methods retain
+ * the projection unless the value type is changed.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class ProjectionReader extends ObjectReader {
+
+    /**
+     * Create a {@link ProjectionReader} for a type.
+     *
+     * @param objectMapper The {@link ObjectMapper} to bind values with.
+     * @param type The type of value.
+     * @param propertyNames The names of the properties to bind.
+     * @return New {@link ProjectionReader} instance.
+     * @throws JsonMappingException If the deserializer for the type cannot be created.
+     * @throws IllegalArgumentException If the type is not deserialized with a thread local builder or
+     * its deserialization does not support projections (e.g. it uses views or injectables).
+     */
+    public static ProjectionReader forType(
+            final ObjectMapper objectMapper,
+            final Class<?> type,
+            final Set<String> propertyNames)
+            throws JsonMappingException {
+        final JavaType valueType = objectMapper.constructType(type);
+        final DeserializationContext context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createInstance(objectMapper.getDeserializationConfig(), null, null);
+        final JsonDeserializer<Object> deserializer = context.findRootValueDeserializer(valueType);
+        if (!(deserializer instanceof ThreadLocalBuilderBasedDeserializer)) {
+            throw new IllegalArgumentException(
+                    String.format("Type is not deserialized with a thread local builder; type=%s", type));
+        }
+        return new ProjectionReader(
+                objectMapper.reader().forType(valueType),
+                ((ThreadLocalBuilderBasedDeserializer) deserializer).withProjection(propertyNames));
+    }
+
+    private ProjectionReader(final ObjectReader base, final JsonDeserializer<Object> rootDeserializer) {
+        super(
+                base,
+                base.getConfig(),
+                base.getValueType(),
+                rootDeserializer,
+                null,
+                null,
+                base.getInjectableValues(),
+                null);
+    }
+
+    private static final long serialVersionUID = 1L;
+}
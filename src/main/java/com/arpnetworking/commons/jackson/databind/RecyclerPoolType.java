@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+import java.util.function.Supplier;
+
+/**
+ * The pool used to recycle the buffers of parsers and generators created by
+ * the {@link com.fasterxml.jackson.core.JsonFactory} of an
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} created with
+ * {@link ObjectMapperFactory#createInstance(RecyclerPoolType)}. Each type
+ * other than {@link #NONE} uses a single pool shared across all instances.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-core</li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public enum RecyclerPoolType {
+    /**
+     * Recycle buffers per thread on platform threads and through a shared
+     * concurrent deque on virtual threads. This is the default.
+     *
+     * @see VirtualThreadAwareRecyclerPool
+     */
+    VIRTUAL_THREAD_AWARE(VirtualThreadAwareRecyclerPool::getInstance),
+    /**
+     * Recycle buffers per thread. This is Jackson's default.
+     */
+    THREAD_LOCAL(JsonRecyclerPools::threadLocalPool),
+    /**
+     * Recycle buffers through an unbounded concurrent deque shared across
+     * threads.
+     */
+    CONCURRENT_DEQUE(JsonRecyclerPools::sharedConcurrentDequePool),
+    /**
+     * Recycle buffers through a bounded pool shared across threads; buffers
+     * released to a full pool are discarded.
+     */
+    BOUNDED(JsonRecyclerPools::sharedBoundedPool),
+    /**
+     * Do not recycle buffers.
+     */
+    NONE(JsonRecyclerPools::nonRecyclingPool);
+
+    RecyclerPoolType(final Supplier<RecyclerPool<BufferRecycler>> poolSupplier) {
+        _poolSupplier = poolSupplier;
+    }
+
+    /* package private */ RecyclerPool<BufferRecycler> getPool() {
+        return _poolSupplier.get();
+    }
+
+    private final Supplier<RecyclerPool<BufferRecycler>> _poolSupplier;
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.base.ParserBase;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+/**
+ * Pull-based {@link Iterator} over the elements of a JSON array or of a
+ * sequence of root-level JSON values (e.g. newline delimited JSON). Each
+ * element is bound only when it is pulled so memory use is bounded by the
+ * size of a single element regardless of the size of the input. Builder
+ * backed types are bound through the {@link com.arpnetworking.commons.builder.ThreadLocalBuilder}
+ * pool when the {@link ObjectMapper} was created by {@link ObjectMapperFactory}.
+ *
+ * Unlike {@link com.fasterxml.jackson.databind.MappingIterator} an element
+ * which cannot be bound does not end the iteration. Instead, the failure is
+ * reported to the error handler, the remainder of the element is skipped and
+ * iteration continues with the next element. Malformed input from which the
+ * parser cannot recover is also reported to the error handler but ends the
+ * iteration. Failures reading from the underlying source are thrown as
+ * {@link UncheckedIOException}. Elements which are JSON {@code null} are
+ * skipped.
+ *
+ * Instances are not thread safe.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-core</li>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ * </ul>
+ *
+ * @param <T> The type of element.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class TolerantMappingIterator<T> implements Iterator<T>, Closeable {
+
+    /**
+     * Create a {@link TolerantMappingIterator} over the elements of a JSON
+     * array read from an {@link InputStream}.
+     *
+     * @param <T> The type of element.
+     * @param objectMapper The {@link ObjectMapper} to bind elements with.
+     * @param type The type of element.
+     * @param inputStream The {@link InputStream} containing the JSON array.
+     * @param errorHandler Receives the failure for each element that cannot be bound.
+     * @return New {@link TolerantMappingIterator} instance.
+     * @throws IOException If the input does not start with a JSON array.
+     */
+    public static <T> TolerantMappingIterator<T> forArray(
+            final ObjectMapper objectMapper,
+            final Class<T> type,
+            final InputStream inputStream,
+            final Consumer<? super JsonProcessingException> errorHandler)
+            throws IOException {
+        final ObjectReader reader = objectMapper.reader().forType(type);
+        return forArray(reader, reader.createParser(inputStream), errorHandler);
+    }
+
+    /**
+     * Create a {@link TolerantMappingIterator} over the elements of a JSON
+     * array. The parser must either be positioned on the {@code START_ARRAY}
+     * token or have no current token in which case the next token must be
+     * {@code START_ARRAY}.
+     *
+     * @param <T> The type of element.
+     * @param reader The {@link ObjectReader} to bind elements with.
+     * @param parser The {@link JsonParser} to read elements from.
+     * @param errorHandler Receives the failure for each element that cannot be bound.
+     * @return New {@link TolerantMappingIterator} instance.
+     * @throws IOException If the input does not start with a JSON array.
+     */
+    public static <T> TolerantMappingIterator<T> forArray(
+            final ObjectReader reader,
+            final JsonParser parser,
+            final Consumer<? super JsonProcessingException> errorHandler)
+            throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw MismatchedInputException.from(
+                    parser,
+                    reader.getValueType(),
+                    String.format("Expected start of array; token=%s", token));
+        }
+        return new TolerantMappingIterator<>(reader, parser, errorHandler, JsonToken.END_ARRAY);
+    }
+
+    /**
+     * Create a {@link TolerantMappingIterator} over a sequence of root-level
+     * JSON values read from an {@link InputStream}; for example, newline
+     * delimited JSON.
+     *
+     * @param <T> The type of element.
+     * @param objectMapper The {@link ObjectMapper} to bind elements with.
+     * @param type The type of element.
+     * @param inputStream The {@link InputStream} containing the JSON values.
+     * @param errorHandler Receives the failure for each element that cannot be bound.
+     * @return New {@link TolerantMappingIterator} instance.
+     * @throws IOException If the parser cannot be created.
+     */
+    public static <T> TolerantMappingIterator<T> forSequence(
+            final ObjectMapper objectMapper,
+            final Class<T> type,
+            final InputStream inputStream,
+            final Consumer<? super JsonProcessingException> errorHandler)
+            throws IOException {
+        final ObjectReader reader = objectMapper.reader().forType(type);
+        return forSequence(reader, reader.createParser(inputStream), errorHandler);
+    }
+
+    /**
+     * Create a {@link TolerantMappingIterator} over a sequence of root-level
+     * JSON values; for example, newline delimited JSON. The parser must not
+     * have consumed any tokens.
+     *
+     * @param <T> The type of element.
+     * @param reader The {@link ObjectReader} to bind elements with.
+     * @param parser The {@link JsonParser} to read elements from.
+     * @param errorHandler Receives the failure for each element that cannot be bound.
+     * @return New {@link TolerantMappingIterator} instance.
+     */
+    public static <T> TolerantMappingIterator<T> forSequence(
+            final ObjectReader reader,
+            final JsonParser parser,
+            final Consumer<? super JsonProcessingException> errorHandler) {
+        return new TolerantMappingIterator<>(reader, parser, errorHandler, null);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (_next == null && !_done) {
+            _next = advance();
+        }
+        return _next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final T next = _next;
+        _next = null;
+        return next;
+    }
+
+    @Override
+    public void close() throws IOException {
+        _done = true;
+        _next = null;
+        _parser.close();
+    }
+
+    /* package private */ JsonLocation getElementLocation() {
+        if (_elementLocation == null) {
+            // Use the kind of offset the parser reports for its own locations
+            final JsonLocation tokenLocation = _parser.currentTokenLocation();
+            final boolean byteOffset = tokenLocation.getByteOffset() >= 0;
+            _elementLocation = new JsonLocation(
+                    tokenLocation.contentReference(),
+                    byteOffset ? _elementOffset : -1,
+                    byteOffset ? -1 : _elementOffset,
+                    _elementLineNr,
+                    _elementColumnNr);
+        }
+        return _elementLocation;
+    }
+
+    private void markElement() {
+        // Binding an element clears the token which ended it
+        final JsonToken token = _parser.hasCurrentToken() ? _parser.currentToken() : _parser.getLastClearedToken();
+        if (_parser instanceof ParserBase && token != null && (token.isStructStart() || token.isStructEnd())) {
+            // The parser positions single character tokens after the character
+            // which is where the element begins; record the offsets instead of
+            // allocating a location for every element
+            final ParserBase parser = (ParserBase) _parser;
+            _elementOffset = parser.getTokenCharacterOffset();
+            _elementLineNr = parser.getTokenLineNr();
+            _elementColumnNr = parser.getTokenColumnNr();
+            _elementLocation = null;
+        } else {
+            _elementLocation = _parser.currentLocation();
+        }
+    }
+
+    private @Nullable T advance() {
+        try {
+            while (true) {
+                markElement();
+                final JsonToken token = _parser.nextToken();
+                if (token == null || token == _endToken) {
+                    _done = true;
+                    return null;
+                }
+                try {
+                    final T value = _reader.readValue(_parser);
+                    if (value != null) {
+                        return value;
+                    }
+                } catch (final DatabindException e) {
+                    _errorHandler.accept(e);
+                    skipRemainderOfElement();
+                }
+            }
+        } catch (final JsonProcessingException e) {
+            // The input is malformed and the parser cannot be resynchronized
+            _done = true;
+            _errorHandler.accept(e);
+            return null;
+        } catch (final IOException e) {
+            _done = true;
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void skipRemainderOfElement() throws IOException {
+        // Binding may fail anywhere inside the element; consume tokens until
+        // the parser returns to the context enclosing the elements.
+        JsonStreamContext context = _parser.getParsingContext();
+        while (context != _elementContext && _parser.nextToken() != null) {
+            context = _parser.getParsingContext();
+        }
+    }
+
+    private TolerantMappingIterator(
+            final ObjectReader reader,
+            final JsonParser parser,
+            final Consumer<? super JsonProcessingException> errorHandler,
+            @Nullable final JsonToken endToken) {
+        // Trailing tokens are expected between elements of the sequence
+        _reader = reader.without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        _parser = parser;
+        _errorHandler = errorHandler;
+        _endToken = endToken;
+        _elementContext = parser.getParsingContext();
+        markElement();
+    }
+
+    private final ObjectReader _reader;
+    private final JsonParser _parser;
+    private final Consumer<? super JsonProcessingException> _errorHandler;
+    @Nullable
+    private final JsonToken _endToken;
+    private final JsonStreamContext _elementContext;
+    // The location preceding the element being read; created from the
+    // offsets below on demand if null
+    @Nullable
+    private JsonLocation _elementLocation;
+    private long _elementOffset;
+    private int _elementLineNr;
+    private int _elementColumnNr;
+    @Nullable
+    private T _next;
+    private boolean _done;
+}
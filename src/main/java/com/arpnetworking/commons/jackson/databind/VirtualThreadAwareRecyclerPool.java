@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * {@link RecyclerPool} for Jackson's {@link BufferRecycler} instances which
+ * recycles buffers per thread on platform threads and through a concurrent
+ * deque shared across threads on virtual threads. Thread local recycling is
+ * the cheapest option for a bounded set of long lived platform threads, but
+ * virtual threads are typically created per task so a thread local pool
+ * either never reuses a buffer or retains buffers for each of a very large
+ * number of threads.
+ *
+ * Virtual threads are detected without requiring Java 21 at compile time;
+ * on runtimes without virtual threads this pool behaves exactly like the
+ * thread local pool.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-core</li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@SuppressFBWarnings(
+        value = {"MS_EXPOSE_REP", "SING_SINGLETON_HAS_NONPRIVATE_CONSTRUCTOR", "SING_SINGLETON_IMPLEMENTS_SERIALIZABLE"},
+        justification = "The pool is shared by design; pools are serializable with their factory and resolve to the shared instance")
+public final class VirtualThreadAwareRecyclerPool implements RecyclerPool<BufferRecycler> {
+
+    /**
+     * Get the shared {@link VirtualThreadAwareRecyclerPool} instance.
+     *
+     * @return The shared {@link VirtualThreadAwareRecyclerPool} instance.
+     */
+    public static RecyclerPool<BufferRecycler> getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public BufferRecycler acquireAndLinkPooled() {
+        // Link to the selected pool so the recycler is released to that pool
+        return selectPool().acquireAndLinkPooled();
+    }
+
+    @Override
+    public BufferRecycler acquirePooled() {
+        return selectPool().acquirePooled();
+    }
+
+    @Override
+    public void releasePooled(final BufferRecycler pooled) {
+        selectPool().releasePooled(pooled);
+    }
+
+    @Override
+    public boolean clear() {
+        return _virtualThreadPool.clear();
+    }
+
+    @Override
+    public int pooledCount() {
+        return _virtualThreadPool.pooledCount();
+    }
+
+    // Pools are serialized with the JsonFactory; retain the shared instance
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    /* package private */ static boolean isVirtual(final Thread thread) {
+        return VIRTUAL_THREAD_CLASS.isInstance(thread);
+    }
+
+    private RecyclerPool<BufferRecycler> selectPool() {
+        if (isVirtual(Thread.currentThread())) {
+            return _virtualThreadPool;
+        }
+        return _platformThreadPool;
+    }
+
+    /* package private */ VirtualThreadAwareRecyclerPool(
+            final RecyclerPool<BufferRecycler> platformThreadPool,
+            final RecyclerPool<BufferRecycler> virtualThreadPool) {
+        _platformThreadPool = platformThreadPool;
+        _virtualThreadPool = virtualThreadPool;
+    }
+
+    private final transient RecyclerPool<BufferRecycler> _platformThreadPool;
+    private final transient RecyclerPool<BufferRecycler> _virtualThreadPool;
+
+    // NOTE: Thread.isVirtual is not available when compiling for Java 17; all
+    // virtual thread implementations extend this class. Nothing is an instance
+    // of Void so on earlier runtimes no thread is considered virtual.
+    private static final Class<?> VIRTUAL_THREAD_CLASS = ObjectMapperFactory.getClass("java.lang.BaseVirtualThread")
+            .orElse(Void.class);
+    private static final VirtualThreadAwareRecyclerPool INSTANCE = new VirtualThreadAwareRecyclerPool(
+            JsonRecyclerPools.threadLocalPool(),
+            JsonRecyclerPools.newConcurrentDequePool());
+    private static final long serialVersionUID = 1L;
+}
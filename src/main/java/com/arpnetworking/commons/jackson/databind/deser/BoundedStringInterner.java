@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.deser;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lossy cache canonicalizing {@link String} instances by their
+ * characters. Lookups are keyed directly on a range of a character buffer
+ * (e.g. a parser's text buffer) so that a hit does not allocate. The cache
+ * is a fixed size direct mapped table; when two values map to the same slot
+ * the most recently missed value replaces the other. Values longer than the
+ * maximum length are not cached since they are unlikely to repeat.
+ *
+ * The number of hits and misses and an estimate of the heap saved by
+ * returning cached instances are recorded. The estimate assumes compact
+ * (Latin-1) strings and compressed object pointers.
+ *
+ * This class is thread safe.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class BoundedStringInterner {
+
+    /**
+     * Get the shared {@link BoundedStringInterner} instance. The shared
+     * instance caches up to 4096 values of at most 64 characters.
+     *
+     * @return The shared {@link BoundedStringInterner} instance.
+     */
+    public static BoundedStringInterner getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Create a new {@link BoundedStringInterner}.
+     *
+     * @param capacity The number of values to cache; rounded up to a power of two.
+     * @param maximumLength The maximum length of a value to cache.
+     * @return New {@link BoundedStringInterner} instance.
+     */
+    public static BoundedStringInterner create(final int capacity, final int maximumLength) {
+        if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException(String.format("Invalid capacity; capacity=%d", capacity));
+        }
+        if (maximumLength < 0) {
+            throw new IllegalArgumentException(String.format("Invalid maximum length; maximumLength=%d", maximumLength));
+        }
+        return new BoundedStringInterner(capacity, maximumLength);
+    }
+
+    /**
+     * Return the canonical {@link String} for a range of a character buffer.
+     *
+     * @param buffer The character buffer.
+     * @param offset The offset of the first character in the buffer.
+     * @param length The number of characters.
+     * @return The canonical {@link String} with the characters.
+     */
+    public String intern(final char[] buffer, final int offset, final int length) {
+        if (length > _maximumLength) {
+            return String.valueOf(buffer, offset, length);
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; ++i) {
+            hash = 31 * hash + buffer[i];
+        }
+        // The hash matches String.hashCode so cached values are compared
+        // cheaply using their cached hash code before their characters
+        final int slot = (hash ^ (hash >>> 16)) & _mask;
+        final String cached = _table.get(slot);
+        if (cached != null && cached.hashCode() == hash && matches(cached, buffer, offset, length)) {
+            _hits.increment();
+            _bytesSaved.add(estimateSize(length));
+            return cached;
+        }
+        final String value = String.valueOf(buffer, offset, length);
+        _table.lazySet(slot, value);
+        _misses.increment();
+        return value;
+    }
+
+    /**
+     * Return the number of lookups returning a cached value.
+     *
+     * @return The number of hits.
+     */
+    public long getHits() {
+        return _hits.sum();
+    }
+
+    /**
+     * Return the number of lookups not returning a cached value. Lookups of
+     * values longer than the maximum length are not counted.
+     *
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return _misses.sum();
+    }
+
+    /**
+     * Return the fraction of lookups returning a cached value.
+     *
+     * @return The hit rate between zero and one.
+     */
+    public double getHitRate() {
+        final long hits = _hits.sum();
+        final long total = hits + _misses.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Return an estimate of the heap saved in bytes by returning cached
+     * values instead of new instances.
+     *
+     * @return The estimated bytes saved.
+     */
+    public long getEstimatedBytesSaved() {
+        return _bytesSaved.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "BoundedStringInterner{Capacity=%d, MaximumLength=%d, Hits=%d, Misses=%d, EstimatedBytesSaved=%d}",
+                _table.length(),
+                _maximumLength,
+                getHits(),
+                getMisses(),
+                getEstimatedBytesSaved());
+    }
+
+    private static boolean matches(final String cached, final char[] buffer, final int offset, final int length) {
+        if (cached.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; ++i) {
+            if (cached.charAt(i) != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long estimateSize(final int length) {
+        // String instance plus its byte array aligned to eight bytes
+        return STRING_BYTES + ((ARRAY_HEADER_BYTES + length + 7) & ~7);
+    }
+
+    private BoundedStringInterner(final int capacity, final int maximumLength) {
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        _table = new AtomicReferenceArray<>(Math.max(size, 1));
+        _mask = _table.length() - 1;
+        _maximumLength = maximumLength;
+    }
+
+    private final AtomicReferenceArray<String> _table;
+    private final int _mask;
+    private final int _maximumLength;
+    private final LongAdder _hits = new LongAdder();
+    private final LongAdder _misses = new LongAdder();
+    private final LongAdder _bytesSaved = new LongAdder();
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int STRING_BYTES = 24;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final BoundedStringInterner INSTANCE = new BoundedStringInterner(4096, 64);
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.deser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.type.LogicalType;
+
+import java.io.IOException;
+
+/**
+ * Deserializer for {@link String} values which canonicalizes each value
+ * through a {@link BoundedStringInterner}. Use it for properties whose values
+ * repeat heavily (e.g. host names or metric names) so that each occurrence
+ * does not retain a separate instance. Values are looked up directly from
+ * the parser's character buffer so a cache hit does not allocate.
+ *
+ * Enable it for a builder setter with the
+ * {@link com.arpnetworking.commons.jackson.databind.annotation.JsonIntern}
+ * annotation (requires {@link com.arpnetworking.commons.jackson.databind.module.BuilderModule})
+ * or with {@code @JsonDeserialize(using = InterningStringDeserializer.class)}.
+ * Both use the shared {@link BoundedStringInterner} instance.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-core</li>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class InterningStringDeserializer extends StdScalarDeserializer<String> {
+
+    /**
+     * Get the {@link InterningStringDeserializer} instance using the shared
+     * {@link BoundedStringInterner}.
+     *
+     * @return The shared {@link InterningStringDeserializer} instance.
+     */
+    public static InterningStringDeserializer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Create a new {@link InterningStringDeserializer} using the specified
+     * {@link BoundedStringInterner}.
+     *
+     * @param interner The {@link BoundedStringInterner} to canonicalize values with.
+     * @return New {@link InterningStringDeserializer} instance.
+     */
+    public static InterningStringDeserializer newInstance(final BoundedStringInterner interner) {
+        return new InterningStringDeserializer(interner);
+    }
+
+    /**
+     * Public constructor for use with
+     * {@link com.fasterxml.jackson.databind.annotation.JsonDeserialize}. Uses
+     * the shared {@link BoundedStringInterner}.
+     */
+    public InterningStringDeserializer() {
+        this(BoundedStringInterner.getInstance());
+    }
+
+    @Override
+    public String deserialize(final JsonParser jp, final DeserializationContext ctxt) throws IOException {
+        if (jp.hasToken(JsonToken.VALUE_STRING)) {
+            return _interner.intern(jp.getTextCharacters(), jp.getTextOffset(), jp.getTextLength());
+        }
+        // Coercion of other tokens is rare; defer to the standard deserializer
+        return StringDeserializer.instance.deserialize(jp, ctxt);
+    }
+
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.Textual;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    // The interner is not serializable; deserialized instances use the shared interner
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    private InterningStringDeserializer(final BoundedStringInterner interner) {
+        super(String.class);
+        _interner = interner;
+    }
+
+    private final transient BoundedStringInterner _interner;
+
+    private static final InterningStringDeserializer INSTANCE = new InterningStringDeserializer();
+    private static final long serialVersionUID = 1L;
+}
@@ -28,8 +28,13 @@ import com.fasterxml.jackson.databind.deser.impl.BeanPropertyMap;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
 
 /**
  * Supports {@link ThreadLocalBuilder} use during deserialization.
@@ -43,6 +48,8 @@ public class ThreadLocalBuilderBasedDeserializer extends BuilderBasedDeserialize
     private static final long serialVersionUID = 576412638264270116L;
 
     private final Class<ThreadLocalBuilder<?>> _threadLocalBuilderClass;
+    @Nullable
+    private final HashSet<String> _validatedFieldNames;
 
     // CHECKSTYLE.OFF: ParameterNumber - Constructor based on BuilderBasedDeserializer
     /**
@@ -77,9 +84,66 @@ public class ThreadLocalBuilderBasedDeserializer extends BuilderBasedDeserialize
                 ignoreAllUnknown,
                 anyViews);
         _threadLocalBuilderClass = threadLocalBuilderClass;
+        _validatedFieldNames = null;
     }
     // CHECKSTYLE.ON: ParameterNumber
 
+    /**
+     * Copy constructor for projections.
+     *
+     * @param src The {@link ThreadLocalBuilderBasedDeserializer} to copy.
+     * @param includableProps The names of the properties to bind.
+     * @param validatedFieldNames The names of the builder fields to validate.
+     */
+    protected ThreadLocalBuilderBasedDeserializer(
+            final ThreadLocalBuilderBasedDeserializer src,
+            final Set<String> includableProps,
+            final HashSet<String> validatedFieldNames) {
+        super(src, src._ignorableProps, includableProps);
+        _threadLocalBuilderClass = src._threadLocalBuilderClass;
+        _validatedFieldNames = validatedFieldNames;
+    }
+
+    /**
+     * Create a deserializer which binds only the named properties. The
+     * values of all other properties are skipped without being bound and
+     * only the constraints on the builder fields backing the named
+     * properties are validated. Builder fields are matched to properties by
+     * name ignoring case, leading underscores and the setter prefix.
+     *
+     * Projections are only supported for types bound without views,
+     * injectables, object identities, unwrapped properties or creators
+     * since their builders are built without the projected validation.
+     *
+     * @param propertyNames The names of the properties to bind.
+     * @return New {@link ThreadLocalBuilderBasedDeserializer} instance.
+     * @throws IllegalArgumentException If the type does not support projections.
+     */
+    public ThreadLocalBuilderBasedDeserializer withProjection(final Set<String> propertyNames) {
+        if (!isVanillaFromObject()) {
+            throw new IllegalArgumentException(
+                    String.format("Projections are not supported for non-vanilla deserialization; type=%s", handledType()));
+        }
+        // CHECKSTYLE.OFF: IllegalInstantiation - No Guava
+        final Set<String> memberNames = new HashSet<>();
+        for (final String propertyName : propertyNames) {
+            final SettableBeanProperty property = _beanProperties.find(propertyName);
+            if (property != null) {
+                memberNames.add(SETTER_PREFIX.matcher(property.getMember().getName()).replaceFirst("").toLowerCase(Locale.ROOT));
+            }
+        }
+        final HashSet<String> validatedFieldNames = new HashSet<>();
+        for (Class<?> clazz = _threadLocalBuilderClass; clazz != null; clazz = clazz.getSuperclass()) {
+            for (final Field field : clazz.getDeclaredFields()) {
+                if (memberNames.contains(FIELD_PREFIX.matcher(field.getName()).replaceFirst("").toLowerCase(Locale.ROOT))) {
+                    validatedFieldNames.add(field.getName());
+                }
+            }
+        }
+        return new ThreadLocalBuilderBasedDeserializer(this, new HashSet<>(propertyNames), validatedFieldNames);
+        // CHECKSTYLE.ON: IllegalInstantiation
+    }
+
     /**
      * General structure copied from {@link com.fasterxml.jackson.databind.deser.BuilderBasedDeserializer}
      * and modified to redirect vanilla processing case to custom {@link ThreadLocalBuilder}
@@ -135,7 +199,8 @@ public class ThreadLocalBuilderBasedDeserializer extends BuilderBasedDeserialize
                         } catch (final IOException e) {
                             throw new WrappedIOExceptionException(e);
                         }
-                    });
+                    },
+                    _validatedFieldNames);
         } catch (final WrappedIOExceptionException e) {
             throw e.getCause();
             // CHECKSTYLE.OFF: IllegalCatch - Match behavior in BuilderBasedDeserializer
@@ -170,6 +235,9 @@ public class ThreadLocalBuilderBasedDeserializer extends BuilderBasedDeserialize
                 && _objectIdReader == null;
     }
 
+    private static final Pattern SETTER_PREFIX = Pattern.compile("^set");
+    private static final Pattern FIELD_PREFIX = Pattern.compile("^_+");
+
     @SuppressFBWarnings("BC_UNCONFIRMED_CAST_OF_RETURN_VALUE")
     private static class WrappedIOExceptionException extends RuntimeException {
 
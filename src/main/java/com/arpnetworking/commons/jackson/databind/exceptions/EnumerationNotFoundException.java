@@ -17,11 +17,15 @@ package com.arpnetworking.commons.jackson.databind.exceptions;
 
 import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.ContentReference;
 
 import javax.annotation.Nullable;
 
 /**
  * Exception when you cannot find an Enumeration value of a particular type.
+ * Instances created with {@link #createStackless(String, Class, JsonLocation)}
+ * do not capture a stack trace or retain the source content; these are cheap
+ * to create when rejecting large volumes of invalid input.
  *
  * Dependencies:
  * <ul>
@@ -49,13 +53,7 @@ public final class EnumerationNotFoundException extends JsonProcessingException
             final Class<E> enumClass,
             final JsonLocation location,
             @Nullable final Throwable cause) {
-        super(
-                String.format(
-                        "Enumeration not found; enumClass=%s, value=%s",
-                        enumClass,
-                        value),
-                location,
-                cause);
+        this(value, enumClass, location, cause, true);
     }
 
     /**
@@ -75,5 +73,62 @@ public final class EnumerationNotFoundException extends JsonProcessingException
         this(value, enumClass, location, null);
     }
 
+    /**
+     * Creates an {@link EnumerationNotFoundException} without a stack trace.
+     * The location is retained without any reference to the source content.
+     *
+     * @param <E> the enum type
+     * @param value the value of the enum not found.
+     * @param enumClass the enum type class.
+     * @param location the location in the json where this occurred.
+     * @return New stackless {@link EnumerationNotFoundException}.
+     */
+    public static <E extends Enum<E>> EnumerationNotFoundException createStackless(
+            final String value,
+            final Class<E> enumClass,
+            final JsonLocation location) {
+        return new EnumerationNotFoundException(
+                value,
+                enumClass,
+                new JsonLocation(
+                        ContentReference.redacted(),
+                        location.getByteOffset(),
+                        location.getCharOffset(),
+                        location.getLineNr(),
+                        location.getColumnNr()),
+                null,
+                false);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // NOTE: This is invoked by the Throwable constructor before the fields
+        // of this class are initialized; the constructor of this class fills
+        // in the stack trace instead.
+        if (_writableStackTrace) {
+            return super.fillInStackTrace();
+        }
+        return this;
+    }
+
+    private <E extends Enum<E>> EnumerationNotFoundException(
+            final String value,
+            final Class<E> enumClass,
+            final JsonLocation location,
+            @Nullable final Throwable cause,
+            final boolean writableStackTrace) {
+        super(
+                String.format(
+                        "Enumeration not found; enumClass=%s, value=%s",
+                        enumClass,
+                        value),
+                location,
+                cause);
+        _writableStackTrace = writableStackTrace;
+        fillInStackTrace();
+    }
+
+    private final boolean _writableStackTrace;
+
     private static final long serialVersionUID = 1447758748842501027L;
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.exceptions;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+/**
+ * {@link JsonMappingException} which does not capture a stack trace or
+ * retain the parser. Since it is already a {@link JsonMappingException}
+ * Jackson adds the path to the failing property to it instead of wrapping
+ * it again, so no exception reaching the caller captures a stack trace.
+ * The message and location are those of the cause, which should itself be
+ * stackless; for example, an {@link EnumerationNotFoundException} created
+ * with {@link EnumerationNotFoundException#createStackless(String, Class, com.fasterxml.jackson.core.JsonLocation)}.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-core</li>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class StacklessJsonMappingException extends JsonMappingException {
+
+    /**
+     * Creates a {@link StacklessJsonMappingException}.
+     *
+     * @param cause The cause of this exception.
+     */
+    public StacklessJsonMappingException(final JsonProcessingException cause) {
+        super(null, cause.getOriginalMessage(), cause);
+        _location = cause.getLocation();
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    private static final long serialVersionUID = 1L;
+}
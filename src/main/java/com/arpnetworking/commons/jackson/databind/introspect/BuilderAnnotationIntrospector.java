@@ -17,19 +17,26 @@ package com.arpnetworking.commons.jackson.databind.introspect;
 
 import com.arpnetworking.commons.builder.Builder;
 import com.arpnetworking.commons.jackson.databind.annotation.JsonIgnoreBuilder;
+import com.arpnetworking.commons.jackson.databind.annotation.JsonIntern;
+import com.arpnetworking.commons.jackson.databind.deser.InterningStringDeserializer;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
 import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
 import java.util.Objects;
+import java.util.Optional;
 import javax.annotation.Nullable;
 
 /**
  * Jackson {@link com.fasterxml.jackson.databind.AnnotationIntrospector} that injects a
  * {@link com.fasterxml.jackson.databind.annotation.JsonDeserialize} annotation for classes that contain a
- * {@link com.arpnetworking.commons.builder.Builder} inner class.
+ * {@link com.arpnetworking.commons.builder.Builder} inner class. Properties annotated with
+ * {@link JsonIntern} are deserialized with the {@link InterningStringDeserializer}.
+ * The builder of each class is found once per class and cached for the life
+ * of the class.
  *
  * Dependencies:
  * <ul>
@@ -42,25 +49,42 @@ public final class BuilderAnnotationIntrospector extends NopAnnotationIntrospect
 
     @Override
     public @Nullable Class<?> findPOJOBuilder(final AnnotatedClass ac) {
-        final Class<?> pojoClass = ac.getRawType();
-        final Class<?>[] declaredClasses = pojoClass.getDeclaredClasses();
-        for (final Class<?> declaredClass : declaredClasses) {
-            if (!Modifier.isAbstract(declaredClass.getModifiers())
-                    && Builder.class.isAssignableFrom(declaredClass)
-                    && declaredClass.getAnnotation(JsonIgnoreBuilder.class) == null) {
-                return declaredClass;
-            }
-        }
-        return null;
+        return POJO_BUILDERS.get(ac.getRawType()).orElse(null);
     }
 
     @Override
     public JsonPOJOBuilder.Value findPOJOBuilderConfig(final AnnotatedClass ac) {
-        return new JsonPOJOBuilder.Value(new MyPojoBuilder());
+        return POJO_BUILDER_CONFIG;
+    }
+
+    @Override
+    public @Nullable Object findDeserializer(final Annotated a) {
+        if (a.hasAnnotation(JsonIntern.class)) {
+            return InterningStringDeserializer.getInstance();
+        }
+        return null;
     }
 
+    // The builder of each class is looked up once and shared by all mappers
+    private static final ClassValue<Optional<Class<?>>> POJO_BUILDERS = new PojoBuilderClassValue();
+    private static final JsonPOJOBuilder.Value POJO_BUILDER_CONFIG = new JsonPOJOBuilder.Value(new MyPojoBuilder());
     private static final long serialVersionUID = 4340729558194130927L;
 
+    private static final class PojoBuilderClassValue extends ClassValue<Optional<Class<?>>> {
+
+        @Override
+        protected Optional<Class<?>> computeValue(final Class<?> pojoClass) {
+            for (final Class<?> declaredClass : pojoClass.getDeclaredClasses()) {
+                if (!Modifier.isAbstract(declaredClass.getModifiers())
+                        && Builder.class.isAssignableFrom(declaredClass)
+                        && declaredClass.getAnnotation(JsonIgnoreBuilder.class) == null) {
+                    return Optional.of(declaredClass);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
     /**
      * Constructable implementation of JsonPOJOBuilder annotation.
      */
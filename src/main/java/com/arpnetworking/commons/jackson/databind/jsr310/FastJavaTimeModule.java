@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.jsr310;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+/**
+ * Jackson module wrapping the {@code JavaTimeModule} serializers and
+ * deserializers for {@link java.time.Instant},
+ * {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime} with
+ * ISO-8601 implementations which format and parse directly to and from
+ * character buffers instead of using
+ * {@link java.time.format.DateTimeFormatter}. The wire format is identical to
+ * that of {@code JavaTimeModule} with {@code WRITE_DATES_AS_TIMESTAMPS}
+ * disabled; any other configuration, including the
+ * {@code JavaTimeFeature} settings of the registered {@code JavaTimeModule}
+ * and {@link com.fasterxml.jackson.annotation.JsonFormat} overrides, is
+ * handled by the wrapped {@code jackson-datatype-jsr310} implementations.
+ *
+ * Register this module together with {@code JavaTimeModule}; on its own it
+ * has no effect. Serializers and deserializers for these types provided by
+ * any other module are not wrapped.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ *     <li>com.fasterxml.jackson.datatype:jackson-datatype-jsr310</li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class FastJavaTimeModule extends SimpleModule {
+
+    /**
+     * Public constructor.
+     */
+    public FastJavaTimeModule() {
+        super(FastJavaTimeModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(final SetupContext context) {
+        super.setupModule(context);
+        context.addBeanSerializerModifier(new SerializerModifier());
+        context.addBeanDeserializerModifier(new DeserializerModifier());
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private static final class SerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public JsonSerializer<?> modifySerializer(
+                final SerializationConfig config,
+                final BeanDescription beanDesc,
+                final JsonSerializer<?> serializer) {
+            return Iso8601Serializer.wrap(serializer);
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class DeserializerModifier extends BeanDeserializerModifier {
+
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(
+                final DeserializationConfig config,
+                final BeanDescription beanDesc,
+                final JsonDeserializer<?> deserializer) {
+            return Iso8601Deserializer.wrap(deserializer);
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.jsr310;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import javax.annotation.Nullable;
+
+/**
+ * Formats and parses the common ISO-8601 representations of date-times
+ * directly to and from character buffers. Formatting produces exactly the
+ * output of {@link java.time.format.DateTimeFormatter#ISO_INSTANT} and
+ * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} for years
+ * zero through 9999. Parsing accepts {@code yyyy-MM-ddTHH:mm:ss[.S{1,9}]}
+ * followed by {@code Z} or {@code ±HH:MM}.
+ *
+ * Values outside these forms are rejected rather than handled; callers fall
+ * back to {@link java.time.format.DateTimeFormatter} which also produces the
+ * appropriate error for invalid input.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+/* package private */ final class Iso8601 {
+
+    /**
+     * Format an {@link Instant} as {@link java.time.format.DateTimeFormatter#ISO_INSTANT}.
+     *
+     * @param value The value to format.
+     * @param buffer The buffer of at least {@link #MAXIMUM_LENGTH} characters to format into.
+     * @return The number of characters written or -1 if the value cannot be formatted.
+     */
+    /* package private */ static int formatInstant(final Instant value, final char[] buffer) {
+        final long epochSecond = value.getEpochSecond();
+        final long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        final int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // Convert the epoch day to a civil date; see:
+        // http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+        final long z = epochDay + 719_468;
+        final long era = Math.floorDiv(z, 146_097);
+        final long dayOfEra = z - era * 146_097;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        // Months are counted from March; January and February are in the next year
+        final int month = (int) (shiftedMonth + 3 - 12 * (shiftedMonth / 10));
+        final long year = yearOfEra + era * 400 + shiftedMonth / 10;
+        if (isOutOfRange(year)) {
+            return -1;
+        }
+
+        int position = writeDateTime(
+                buffer,
+                (int) year,
+                month,
+                day,
+                secondOfDay / 3600,
+                secondOfDay / 60 % 60,
+                secondOfDay % 60);
+        final int nano = value.getNano();
+        if (nano != 0) {
+            // Fractions are written in groups of three digits
+            buffer[position] = '.';
+            writeDigits(buffer, position + 1, nano, 9);
+            final int digits = nano % 1_000_000 == 0 ? 3 : nano % 1000 == 0 ? 6 : 9;
+            position += digits + 1;
+        }
+        buffer[position] = 'Z';
+        return position + 1;
+    }
+
+    /**
+     * Format a date-time with offset as {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+     *
+     * @param dateTime The local date-time to format.
+     * @param offset The offset to format.
+     * @param buffer The buffer of at least {@link #MAXIMUM_LENGTH} characters to format into.
+     * @return The number of characters written or -1 if the value cannot be formatted.
+     */
+    /* package private */ static int formatOffsetDateTime(final LocalDateTime dateTime, final ZoneOffset offset, final char[] buffer) {
+        final int year = dateTime.getYear();
+        if (isOutOfRange(year)) {
+            return -1;
+        }
+        int position = writeDateTime(
+                buffer,
+                year,
+                dateTime.getMonthValue(),
+                dateTime.getDayOfMonth(),
+                dateTime.getHour(),
+                dateTime.getMinute(),
+                dateTime.getSecond());
+        final int nano = dateTime.getNano();
+        if (nano != 0) {
+            // Fractions are written without trailing zeros
+            buffer[position] = '.';
+            writeDigits(buffer, position + 1, nano, 9);
+            position += 10;
+            while (buffer[position - 1] == '0') {
+                --position;
+            }
+        }
+        final int totalSeconds = offset.getTotalSeconds();
+        if (totalSeconds == 0) {
+            buffer[position] = 'Z';
+            return position + 1;
+        }
+        final int absoluteSeconds = Math.abs(totalSeconds);
+        buffer[position] = totalSeconds < 0 ? '-' : '+';
+        writeDigits(buffer, position + 1, absoluteSeconds / 3600, 2);
+        buffer[position + 3] = ':';
+        writeDigits(buffer, position + 4, absoluteSeconds / 60 % 60, 2);
+        position += 6;
+        final int seconds = absoluteSeconds % 60;
+        if (seconds != 0) {
+            buffer[position] = ':';
+            writeDigits(buffer, position + 1, seconds, 2);
+            position += 3;
+        }
+        return position;
+    }
+
+    /**
+     * Parse a date-time with offset.
+     *
+     * @param <T> The type of value.
+     * @param buffer The buffer to parse from.
+     * @param offset The offset of the first character in the buffer.
+     * @param length The number of characters.
+     * @param factory Creates the value from the parsed date-time and offset.
+     * @return The value or {@code null} if the characters are not in the supported form or not valid.
+     */
+    /* package private */ static <T> @Nullable T parse(
+            final char[] buffer,
+            final int offset,
+            final int length,
+            final Factory<T> factory) {
+        if (length < MINIMUM_PARSE_LENGTH) {
+            return null;
+        }
+        final int year = readDigits(buffer, offset, 4);
+        final int month = readDigits(buffer, offset + 5, 2);
+        final int day = readDigits(buffer, offset + 8, 2);
+        final int hour = readDigits(buffer, offset + 11, 2);
+        final int minute = readDigits(buffer, offset + 14, 2);
+        final int second = readDigits(buffer, offset + 17, 2);
+        final int separators = (buffer[offset + 4] ^ '-')
+                | (buffer[offset + 7] ^ '-')
+                | (buffer[offset + 10] ^ 'T')
+                | (buffer[offset + 13] ^ ':')
+                | (buffer[offset + 16] ^ ':');
+        // Invalid digits are negative and any mismatched separator is non-zero
+        if ((year | month | day | hour | minute | second) < 0 || separators != 0) {
+            return null;
+        }
+
+        final int end = offset + length;
+        int position = offset + 19;
+        int nano = 0;
+        if (buffer[position] == '.') {
+            final int start = ++position;
+            while (position < end && isDigit(buffer[position])) {
+                ++position;
+            }
+            final int digits = position - start;
+            if (digits < 1 || digits > 9) {
+                return null;
+            }
+            nano = readDigits(buffer, start, digits) * POWERS_OF_TEN[9 - digits];
+        }
+
+        final int offsetSeconds = readOffsetSeconds(buffer, position, end - position);
+        if (offsetSeconds == INVALID_OFFSET) {
+            return null;
+        }
+
+        try {
+            return factory.create(
+                    LocalDateTime.of(year, month, day, hour, minute, second, nano),
+                    ZoneOffset.ofTotalSeconds(offsetSeconds));
+        } catch (final DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static int readOffsetSeconds(final char[] buffer, final int position, final int length) {
+        if (length == 1 && buffer[position] == 'Z') {
+            return 0;
+        } else if (length == 6) {
+            final int sign = buffer[position] == '+' ? 1 : buffer[position] == '-' ? -1 : 0;
+            final int hours = readDigits(buffer, position + 1, 2);
+            final int minutes = readDigits(buffer, position + 4, 2);
+            if (sign == 0 || (hours | minutes) < 0 || minutes > 59 || buffer[position + 3] != ':') {
+                return INVALID_OFFSET;
+            }
+            return sign * (hours * 3600 + minutes * 60);
+        }
+        return INVALID_OFFSET;
+    }
+
+    private static boolean isOutOfRange(final long year) {
+        return (year | (9999 - year)) < 0;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int writeDateTime(
+            final char[] buffer,
+            final int year,
+            final int month,
+            final int day,
+            final int hour,
+            final int minute,
+            final int second) {
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, month, 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, day, 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, hour, 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, minute, 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, second, 2);
+        return 19;
+    }
+
+    private static void writeDigits(final char[] buffer, final int position, final int value, final int digits) {
+        int remaining = value;
+        for (int i = position + digits - 1; i >= position; --i) {
+            buffer[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+    }
+
+    private static int readDigits(final char[] buffer, final int position, final int digits) {
+        int value = 0;
+        int invalid = 0;
+        for (int i = position; i < position + digits; ++i) {
+            final int digit = buffer[i] - '0';
+            invalid |= digit | (9 - digit);
+            value = value * 10 + digit;
+        }
+        // The sign bit of invalid is set if any character is not a digit
+        return value | (invalid >> 31);
+    }
+
+    private Iso8601() {}
+
+    /**
+     * The maximum number of characters written by this class.
+     */
+    /* package private */ static final int MAXIMUM_LENGTH = 38;
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final int MINIMUM_PARSE_LENGTH = 20;
+    private static final int INVALID_OFFSET = Integer.MIN_VALUE;
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+
+    /**
+     * Creates a value from a parsed date-time and offset.
+     *
+     * @param <T> The type of value.
+     */
+    @FunctionalInterface
+    /* package private */ interface Factory<T> {
+
+        /**
+         * Create the value.
+         *
+         * @param dateTime The local date-time.
+         * @param offset The offset.
+         * @return The value.
+         */
+        T create(LocalDateTime dateTime, ZoneOffset offset);
+    }
+}
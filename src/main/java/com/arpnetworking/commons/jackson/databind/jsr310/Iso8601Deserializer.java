@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.jsr310;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.Temporal;
+import javax.annotation.Nullable;
+
+/**
+ * Deserializer reading date-times in the common ISO-8601 forms directly
+ * from the parser's character buffer without using
+ * {@link java.time.format.DateTimeFormatter}. The result is identical to that
+ * of the corresponding {@code jackson-datatype-jsr310} deserializer.
+ *
+ * Each instance wraps the deserializer registered by {@code JavaTimeModule}.
+ * Input in any other form, input which is not valid (so that the error is
+ * reported consistently), adjustment to the context time zone and properties
+ * for which contextualization (e.g. a {@link JsonFormat} override) changes
+ * the wrapped deserializer are delegated to the wrapped deserializer.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-annotations</li>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ *     <li>com.fasterxml.jackson.datatype:jackson-datatype-jsr310</li>
+ * </ul>
+ *
+ * @param <T> The type of date-time.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+/* package private */ abstract class Iso8601Deserializer<T extends Temporal> extends StdScalarDeserializer<T>
+        implements ContextualDeserializer, Iso8601.Factory<T> {
+
+    /**
+     * Wrap the {@code jackson-datatype-jsr310} deserializer for
+     * {@link Instant}, {@link OffsetDateTime} or {@link ZonedDateTime}. Any
+     * other deserializer, including subclasses of these, is returned
+     * unchanged.
+     *
+     * @param deserializer The deserializer to wrap.
+     * @return The wrapping deserializer or the deserializer.
+     */
+    @SuppressWarnings("unchecked")
+    /* package private */ static JsonDeserializer<?> wrap(final JsonDeserializer<?> deserializer) {
+        if (deserializer.getClass() != InstantDeserializer.class) {
+            return deserializer;
+        }
+        final Class<?> type = deserializer.handledType();
+        if (type == Instant.class) {
+            return new InstantIso8601Deserializer((InstantDeserializer<Instant>) deserializer);
+        } else if (type == OffsetDateTime.class) {
+            return new OffsetDateTimeIso8601Deserializer((InstantDeserializer<OffsetDateTime>) deserializer);
+        }
+        // The constructors are protected so instances of exactly this class are
+        // copies of the three jackson-datatype-jsr310 deserializers
+        return new ZonedDateTimeIso8601Deserializer((InstantDeserializer<ZonedDateTime>) deserializer);
+    }
+
+    @Override
+    public @Nullable T deserialize(final JsonParser jp, final DeserializationContext ctxt) throws IOException {
+        if (jp.hasToken(JsonToken.VALUE_STRING) && (ctxt.getDeserializationFeatures() & _delegateFeatures) == 0) {
+            final T value = Iso8601.parse(jp.getTextCharacters(), jp.getTextOffset(), jp.getTextLength(), this);
+            if (value != null) {
+                return value;
+            }
+        }
+        return _delegate.deserialize(jp, ctxt);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(final DeserializationContext ctxt, final BeanProperty property)
+            throws JsonMappingException {
+        final JsonDeserializer<?> delegate = _delegate.createContextual(ctxt, property);
+        if (delegate == _delegate) {
+            return this;
+        }
+        return delegate;
+    }
+
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.DateTime;
+    }
+
+    /* package private */ JsonDeserializer<T> getDelegate() {
+        return _delegate;
+    }
+
+    private Iso8601Deserializer(final InstantDeserializer<T> delegate, final int delegateFeatures) {
+        super(delegate.handledType());
+        _delegate = delegate;
+        _delegateFeatures = delegateFeatures;
+    }
+
+    private final InstantDeserializer<T> _delegate;
+    private final int _delegateFeatures;
+
+    private static final long serialVersionUID = 1L;
+
+    private static final class InstantIso8601Deserializer extends Iso8601Deserializer<Instant> {
+
+        InstantIso8601Deserializer(final InstantDeserializer<Instant> delegate) {
+            // An instant is not affected by adjustment to the context time zone
+            super(delegate, 0);
+        }
+
+        @Override
+        public Instant create(final LocalDateTime dateTime, final ZoneOffset offset) {
+            return Instant.ofEpochSecond(dateTime.toEpochSecond(offset), dateTime.getNano());
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class OffsetDateTimeIso8601Deserializer extends Iso8601Deserializer<OffsetDateTime> {
+
+        OffsetDateTimeIso8601Deserializer(final InstantDeserializer<OffsetDateTime> delegate) {
+            super(delegate, DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE.getMask());
+        }
+
+        @Override
+        public OffsetDateTime create(final LocalDateTime dateTime, final ZoneOffset offset) {
+            return OffsetDateTime.of(dateTime, offset);
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class ZonedDateTimeIso8601Deserializer extends Iso8601Deserializer<ZonedDateTime> {
+
+        ZonedDateTimeIso8601Deserializer(final InstantDeserializer<ZonedDateTime> delegate) {
+            super(delegate, DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE.getMask());
+        }
+
+        @Override
+        public ZonedDateTime create(final LocalDateTime dateTime, final ZoneOffset offset) {
+            return ZonedDateTime.of(dateTime, offset);
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.jsr310;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.InstantSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.OffsetDateTimeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.ZonedDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+/**
+ * Serializer writing date-times in the ISO-8601 format of the corresponding
+ * {@code jackson-datatype-jsr310} serializer without using
+ * {@link java.time.format.DateTimeFormatter}. The value is formatted directly
+ * into a small per-thread character buffer written to the generator.
+ *
+ * Each instance wraps the serializer registered by {@code JavaTimeModule}.
+ * Whenever the output would differ from the default ISO-8601 form (e.g. when
+ * writing timestamps, writing zone identifiers, adjusting to an explicit
+ * time zone, for properties with a {@link JsonFormat} override or for years
+ * outside zero through 9999) serialization is delegated to the wrapped
+ * serializer after it has been contextualized for the property.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-annotations</li>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ *     <li>com.fasterxml.jackson.datatype:jackson-datatype-jsr310</li>
+ * </ul>
+ *
+ * @param <T> The type of date-time.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+/* package private */ abstract class Iso8601Serializer<T> extends StdSerializer<T> implements ContextualSerializer {
+
+    /**
+     * Wrap the {@code jackson-datatype-jsr310} serializer for
+     * {@link Instant}, {@link OffsetDateTime} or {@link ZonedDateTime}. Any
+     * other serializer, including subclasses of these, is returned unchanged.
+     *
+     * @param serializer The serializer to wrap.
+     * @return The wrapping serializer or the serializer.
+     */
+    /* package private */ static JsonSerializer<?> wrap(final JsonSerializer<?> serializer) {
+        if (serializer.getClass() == InstantSerializer.class) {
+            return new InstantIso8601Serializer((InstantSerializer) serializer);
+        } else if (serializer.getClass() == OffsetDateTimeSerializer.class) {
+            return new OffsetDateTimeIso8601Serializer((OffsetDateTimeSerializer) serializer);
+        } else if (serializer.getClass() == ZonedDateTimeSerializer.class) {
+            return new ZonedDateTimeIso8601Serializer((ZonedDateTimeSerializer) serializer);
+        }
+        return serializer;
+    }
+
+    @Override
+    public void serialize(final T value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        if (isDefaultFormat(provider)) {
+            final char[] buffer = BUFFER.get();
+            final int length = format(value, buffer);
+            if (length >= 0) {
+                gen.writeString(buffer, 0, length);
+                return;
+            }
+        }
+        _delegate.serialize(value, gen, provider);
+    }
+
+    @Override
+    public void serializeWithType(
+            final T value,
+            final JsonGenerator gen,
+            final SerializerProvider provider,
+            final TypeSerializer typeSer) throws IOException {
+        _delegate.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(final SerializerProvider provider, final BeanProperty property) throws JsonMappingException {
+        final JsonSerializer<?> delegate = ((ContextualSerializer) _delegate).createContextual(provider, property);
+        if (JsonFormat.Value.empty().equals(findFormatOverrides(provider, property, handledType()))) {
+            // The contextual serializer is always a copy even when nothing is overridden
+            return wrap(delegate);
+        }
+        return delegate;
+    }
+
+    /* package private */ JsonSerializer<T> getDelegate() {
+        return _delegate;
+    }
+
+    @Override
+    public void acceptJsonFormatVisitor(final JsonFormatVisitorWrapper visitor, final JavaType typeHint) throws JsonMappingException {
+        _delegate.acceptJsonFormatVisitor(visitor, typeHint);
+    }
+
+    /**
+     * Format the value.
+     *
+     * @param value The value to format.
+     * @param buffer The buffer to format into.
+     * @return The number of characters written or -1 if the value cannot be formatted.
+     */
+    protected abstract int format(T value, char[] buffer);
+
+    private boolean isDefaultFormat(final SerializerProvider provider) {
+        return (provider.getConfig().getSerializationFeatures() & _delegateFeatures) == 0
+                && !(provider.getConfig().hasExplicitTimeZone()
+                        && provider.isEnabled(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE));
+    }
+
+    private Iso8601Serializer(final StdSerializer<T> delegate, final SerializationFeature... delegateFeatures) {
+        super(delegate.handledType());
+        _delegate = delegate;
+        int mask = 0;
+        for (final SerializationFeature feature : delegateFeatures) {
+            mask |= feature.getMask();
+        }
+        _delegateFeatures = mask;
+    }
+
+    private final StdSerializer<T> _delegate;
+    private final int _delegateFeatures;
+
+    // Formatting does not call back into the generator so the buffer is never shared
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[Iso8601.MAXIMUM_LENGTH]);
+    private static final long serialVersionUID = 1L;
+
+    private static final class InstantIso8601Serializer extends Iso8601Serializer<Instant> {
+
+        InstantIso8601Serializer(final InstantSerializer delegate) {
+            super(delegate, SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        }
+
+        @Override
+        protected int format(final Instant value, final char[] buffer) {
+            return Iso8601.formatInstant(value, buffer);
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class OffsetDateTimeIso8601Serializer extends Iso8601Serializer<OffsetDateTime> {
+
+        OffsetDateTimeIso8601Serializer(final OffsetDateTimeSerializer delegate) {
+            super(delegate, SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        }
+
+        @Override
+        protected int format(final OffsetDateTime value, final char[] buffer) {
+            return Iso8601.formatOffsetDateTime(value.toLocalDateTime(), value.getOffset(), buffer);
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class ZonedDateTimeIso8601Serializer extends Iso8601Serializer<ZonedDateTime> {
+
+        ZonedDateTimeIso8601Serializer(final ZonedDateTimeSerializer delegate) {
+            super(
+                    delegate,
+                    SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                    SerializationFeature.WRITE_DATES_WITH_ZONE_ID);
+        }
+
+        @Override
+        protected int format(final ZonedDateTime value, final char[] buffer) {
+            return Iso8601.formatOffsetDateTime(value.toLocalDateTime(), value.getOffset(), buffer);
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.module;
+
+import com.arpnetworking.commons.jackson.databind.EnumerationSerializer;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.fasterxml.jackson.databind.util.EnumValues;
+
+import java.util.Collection;
+import javax.annotation.Nullable;
+
+/**
+ * Jackson module serializing all Enums with {@link EnumerationSerializer}.
+ * The value written for each constant is the one Jackson would write,
+ * including names customized with {@code JsonProperty} and the
+ * {@code WRITE_ENUMS_TO_LOWERCASE} feature, pre-encoded once per type.
+ * Enums with a {@code JsonValue} accessor, an {@code EnumNaming} strategy
+ * or a class level {@link JsonFormat} shape other than string are left to
+ * Jackson.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li>com.fasterxml.jackson.core:jackson-databind</li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class EnumerationSerializerModule extends SimpleModule {
+
+    /**
+     * Public constructor.
+     */
+    public EnumerationSerializerModule() {
+        super(EnumerationSerializerModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(final SetupContext context) {
+        super.setupModule(context);
+        context.addSerializers(new EnumerationSerializers());
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private static final class EnumerationSerializers extends Serializers.Base {
+
+        @Override
+        public @Nullable JsonSerializer<?> findSerializer(
+                final SerializationConfig config,
+                final JavaType type,
+                final BeanDescription beanDesc) {
+            if (!type.isEnumType() || isCustomized(config, beanDesc)) {
+                return null;
+            }
+            return createSerializer(
+                    ClassUtil.findEnumType(type.getRawClass()),
+                    EnumValues.constructFromName(config, beanDesc.getClassInfo()).values());
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T extends Enum<T>> JsonSerializer<T> createSerializer(
+                final Class<?> enumClass,
+                final Collection<SerializableString> values) {
+            return EnumerationSerializer.newInstance((Class<T>) enumClass, values);
+        }
+
+        private static boolean isCustomized(final SerializationConfig config, final BeanDescription beanDesc) {
+            final JsonFormat.Shape shape = beanDesc.findExpectedFormat().getShape();
+            return beanDesc.findJsonValueAccessor() != null
+                    || shape != JsonFormat.Shape.ANY && shape != JsonFormat.Shape.STRING
+                    || config.getAnnotationIntrospector().findEnumNamingStrategy(config, beanDesc.getClassInfo()) != null;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.uuidfactory;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Creates type 4 random {@code UUID} instances from {@code SecureRandom}
+ * like {@link ThreadLocalSecureRandomUuidFactory}, but draws random bytes
+ * into a buffer in large blocks and slices each {@code UUID} from it. This
+ * amortizes the per call overhead of {@code SecureRandom} across many
+ * identifiers and avoids allocating a buffer per identifier.
+ *
+ * Each instance keeps one buffer and {@code DRBG} {@code SecureRandom} for
+ * each available processor; unlike the platform default on Linux, each
+ * {@code DRBG} instance keeps its own state and lock. Each call locks a
+ * buffer picked at random, so concurrent threads rarely contend while memory
+ * use is independent of the number of threads; this suits virtual threads,
+ * which would each otherwise retain a buffer. Bulk creation releases the
+ * lock whenever the buffer is exhausted, so it blocks other threads for at
+ * most one buffer of identifiers at a time.
+ * Random bytes are generated before they are used and are retained in
+ * memory until then.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class BufferedSecureRandomUuidFactory implements UuidFactory {
+
+    @Override
+    public UUID create() {
+        final EntropyBuffer buffer = getBuffer();
+        synchronized (buffer) {
+            return toUuid(buffer.getBytes(), buffer.next());
+        }
+    }
+
+    @Override
+    public void create(final UUID[] uuids) {
+        create(uuids.length, UuidBits.into(uuids));
+    }
+
+    @Override
+    public void create(final long[] mostSignificantBits, final long[] leastSignificantBits) {
+        create(mostSignificantBits.length, UuidBits.into(mostSignificantBits, leastSignificantBits));
+    }
+
+    /* package private */ static UUID toUuid(final byte[] bytes, final int offset) {
+        return new UUID(
+                UuidBits.toRandomMostSignificantBits(UuidBits.getLong(bytes, offset)),
+                UuidBits.toLeastSignificantBits(UuidBits.getLong(bytes, offset + Long.BYTES)));
+    }
+
+    private void create(final int count, final UuidBits.BitsConsumer consumer) {
+        int index = 0;
+        while (index < count) {
+            // Each acquisition of a buffer refills it at most once
+            final EntropyBuffer buffer = getBuffer();
+            synchronized (buffer) {
+                do {
+                    final int offset = buffer.next();
+                    consumer.accept(
+                            index,
+                            UuidBits.toRandomMostSignificantBits(UuidBits.getLong(buffer.getBytes(), offset)),
+                            UuidBits.toLeastSignificantBits(UuidBits.getLong(buffer.getBytes(), offset + Long.BYTES)));
+                    ++index;
+                } while (index < count && !buffer.isExhausted());
+            }
+        }
+    }
+
+    private EntropyBuffer getBuffer() {
+        return _buffers[ThreadLocalRandom.current().nextInt(_buffers.length)];
+    }
+
+    /**
+     * Constructor for a {@link BufferedSecureRandomUuidFactory} which draws
+     * 4 KB of random bytes at a time.
+     */
+    public BufferedSecureRandomUuidFactory() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor for a {@link BufferedSecureRandomUuidFactory}.
+     *
+     * @param bufferSize The number of random bytes to draw at a time; must be a positive multiple of 16.
+     */
+    public BufferedSecureRandomUuidFactory(final int bufferSize) {
+        if (bufferSize <= 0 || bufferSize % UuidBits.UUID_BYTES != 0) {
+            throw new IllegalArgumentException("Buffer size must be a positive multiple of 16; bufferSize=" + bufferSize);
+        }
+        _buffers = new EntropyBuffer[Runtime.getRuntime().availableProcessors()];
+        for (int i = 0; i < _buffers.length; ++i) {
+            _buffers[i] = new EntropyBuffer(SecureRandomPool.createSecureRandom(), bufferSize);
+        }
+    }
+
+    // Each buffer is guarded by its own lock
+    private final EntropyBuffer[] _buffers;
+
+    private static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    /* package private */ static final class EntropyBuffer {
+
+        EntropyBuffer(final SecureRandom secureRandom, final int size) {
+            _secureRandom = secureRandom;
+            _bytes = new byte[size];
+            _position = size;
+        }
+
+        /* package private */ int next() {
+            if (isExhausted()) {
+                _secureRandom.nextBytes(_bytes);
+                _position = 0;
+            }
+            final int offset = _position;
+            _position += UuidBits.UUID_BYTES;
+            return offset;
+        }
+
+        /* package private */ boolean isExhausted() {
+            return _position == _bytes.length;
+        }
+
+        /* package private */ byte[] getBytes() {
+            return _bytes;
+        }
+
+        private final SecureRandom _secureRandom;
+        private final byte[] _bytes;
+        private int _position;
+    }
+}
@@ -19,7 +19,12 @@ import java.util.UUID;
 
 /**
  * Generates a new {@code UUID} using Java's {@code java.util.UUID.randomUUID()}
- * function.
+ * function. Identifiers created in bulk are type 4 random {@code UUID}
+ * instances drawn in blocks from a pool of {@code DRBG} {@code SecureRandom}
+ * instances which each keep their own state and lock, so that concurrent
+ * bulk creation rarely contends on the same instance. Subclasses which
+ * override {@link #create()} create identifiers in bulk by invoking it for
+ * each identifier instead.
  *
  * Dependencies:
  * <ul>
@@ -53,4 +58,28 @@ public class DefaultUuidFactory implements UuidFactory {
     public UUID create() {
         return UUID.randomUUID();
     }
+
+    @Override
+    public void create(final UUID[] uuids) {
+        if (getClass() != DefaultUuidFactory.class) {
+            // Honor any override of create() in a subclass
+            UuidFactory.super.create(uuids);
+            return;
+        }
+        create(uuids.length, UuidBits.into(uuids));
+    }
+
+    @Override
+    public void create(final long[] mostSignificantBits, final long[] leastSignificantBits) {
+        if (getClass() != DefaultUuidFactory.class) {
+            // Honor any override of create() in a subclass
+            UuidFactory.super.create(mostSignificantBits, leastSignificantBits);
+            return;
+        }
+        create(mostSignificantBits.length, UuidBits.into(mostSignificantBits, leastSignificantBits));
+    }
+
+    private void create(final int count, final UuidBits.BitsConsumer consumer) {
+        UuidBits.createRandom(SecureRandomPool.get(), count, consumer);
+    }
 }
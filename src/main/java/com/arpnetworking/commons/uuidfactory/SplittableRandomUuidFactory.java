@@ -63,6 +63,26 @@ public class SplittableRandomUuidFactory implements UuidFactory {
         return new UUID(gMost, gLeast);
     }
 
+    @Override
+    public void create(final UUID[] uuids) {
+        create(uuids.length, UuidBits.into(uuids));
+    }
+
+    @Override
+    public void create(final long[] mostSignificantBits, final long[] leastSignificantBits) {
+        create(mostSignificantBits.length, UuidBits.into(mostSignificantBits, leastSignificantBits));
+    }
+
+    private void create(final int count, final UuidBits.BitsConsumer consumer) {
+        final SplittableRandom random = _localRandom.get();
+        for (int i = 0; i < count; ++i) {
+            consumer.accept(
+                    i,
+                    UuidBits.toRandomMostSignificantBits(random.nextLong()),
+                    UuidBits.toLeastSignificantBits(random.nextLong()));
+        }
+    }
+
     private final SplittableRandom _random = new SplittableRandom();
     private final ThreadLocal<SplittableRandom> _localRandom = ThreadLocal.withInitial(_random::split);
 }
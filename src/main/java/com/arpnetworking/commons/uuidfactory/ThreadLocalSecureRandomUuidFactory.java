@@ -75,6 +75,22 @@ public final class ThreadLocalSecureRandomUuidFactory implements UuidFactory {
         return new UUID(msb, lsb);
     }
 
+    @Override
+    public void create(final UUID[] uuids) {
+        create(uuids.length, UuidBits.into(uuids));
+    }
+
+    @Override
+    public void create(final long[] mostSignificantBits, final long[] leastSignificantBits) {
+        create(mostSignificantBits.length, UuidBits.into(mostSignificantBits, leastSignificantBits));
+    }
+
+    private void create(final int count, final UuidBits.BitsConsumer consumer) {
+        // As with create(), one large nextBytes call is cheaper than many small
+        // ones so draw the bytes for up to BLOCK_SIZE identifiers with each call
+        UuidBits.createRandom(SECURE_RANDOM_THREAD_LOCAL.get(), count, consumer);
+    }
+
     /* package private */ static long toLong(final byte[] buffer, final int offset) {
         final long value1 = toInt(buffer, offset);
         final long value2 = toInt(buffer, offset + 4);
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.uuidfactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Helpers for creating the bits of {@code UUID} instances in bulk.
+ *
+ * Dependencies:
+ * <ul>
+ *     <li><i>None</i></li>
+ * </ul>
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+/* package private */ final class UuidBits {
+
+    /* package private */ static BitsConsumer into(final UUID[] uuids) {
+        return (index, mostSignificantBits, leastSignificantBits) ->
+                uuids[index] = new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /* package private */ static BitsConsumer into(final long[] mostSignificantBits, final long[] leastSignificantBits) {
+        checkLengths(mostSignificantBits, leastSignificantBits);
+        return (index, mostSignificant, leastSignificant) -> {
+            mostSignificantBits[index] = mostSignificant;
+            leastSignificantBits[index] = leastSignificant;
+        };
+    }
+
+    /* package private */ static void checkLengths(final long[] mostSignificantBits, final long[] leastSignificantBits) {
+        if (mostSignificantBits.length != leastSignificantBits.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Bit arrays must have the same length; mostSignificantBits=%d, leastSignificantBits=%d",
+                    mostSignificantBits.length,
+                    leastSignificantBits.length));
+        }
+    }
+
+    /* package private */ static long getLong(final byte[] bytes, final int offset) {
+        return (long) LONG_VIEW.get(bytes, offset);
+    }
+
+    /* package private */ static long toRandomMostSignificantBits(final long bits) {
+        long msb = bits;
+        msb &= 0xffffffffffff0fffL;
+        msb |= 0x0000000000004000L;
+        return msb;
+    }
+
+    /* package private */ static long toLeastSignificantBits(final long bits) {
+        long lsb = bits;
+        lsb &= 0x3fffffffffffffffL;
+        lsb |= 0x8000000000000000L;
+        return lsb;
+    }
+
+    /**
+     * Create type 4 random {@code UUID} bits drawing random bytes for up to
+     * {@code BLOCK_SIZE} identifiers with each call to the {@code SecureRandom}.
+     *
+     * @param secureRandom The {@code SecureRandom} to draw random bytes from.
+     * @param count The number of identifiers to create.
+     * @param consumer The {@link BitsConsumer} to pass the bits of each identifier to.
+     */
+    /* package private */ static void createRandom(
+            final SecureRandom secureRandom,
+            final int count,
+            final BitsConsumer consumer) {
+        final byte[] bytes = new byte[Math.min(count, BLOCK_SIZE) * UUID_BYTES];
+        for (int start = 0; start < count; start += BLOCK_SIZE) {
+            secureRandom.nextBytes(bytes);
+            final int length = Math.min(count - start, BLOCK_SIZE);
+            for (int i = 0; i < length; ++i) {
+                consumer.accept(
+                        start + i,
+                        toRandomMostSignificantBits(getLong(bytes, i * UUID_BYTES)),
+                        toLeastSignificantBits(getLong(bytes, i * UUID_BYTES + Long.BYTES)));
+            }
+        }
+    }
+
+    private UuidBits() {}
+
+    /* package private */ static final int UUID_BYTES = 16;
+    /* package private */ static final int BLOCK_SIZE = 256;
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Receives the bits of each {@code UUID} created in bulk.
+     */
+    @FunctionalInterface
+    /* package private */ interface BitsConsumer {
+
+        /**
+         * Accept the bits of a {@code UUID}.
+         *
+         * @param index The index of the identifier.
+         * @param mostSignificantBits The most significant bits.
+         * @param leastSignificantBits The least significant bits.
+         */
+        void accept(int index, long mostSignificantBits, long leastSignificantBits);
+    }
+}
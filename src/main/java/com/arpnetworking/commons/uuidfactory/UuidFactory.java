@@ -43,6 +43,35 @@ public interface UuidFactory extends Supplier<UUID> {
      */
     UUID create();
 
+    /**
+     * Create a new {@code UUID} for each element of an array. Implementations
+     * should override this to amortize per identifier overhead.
+     *
+     * @param uuids The array to fill with new {@code UUID} instances.
+     */
+    default void create(final UUID[] uuids) {
+        for (int i = 0; i < uuids.length; ++i) {
+            uuids[i] = create();
+        }
+    }
+
+    /**
+     * Create the bits of a new {@code UUID} for each element of two arrays
+     * without allocating {@code UUID} instances. Implementations should
+     * override this to amortize per identifier overhead.
+     *
+     * @param mostSignificantBits The array to fill with the most significant bits.
+     * @param leastSignificantBits The array of the same length to fill with the least significant bits.
+     */
+    default void create(final long[] mostSignificantBits, final long[] leastSignificantBits) {
+        UuidBits.checkLengths(mostSignificantBits, leastSignificantBits);
+        for (int i = 0; i < mostSignificantBits.length; ++i) {
+            final UUID uuid = create();
+            mostSignificantBits[i] = uuid.getMostSignificantBits();
+            leastSignificantBits[i] = uuid.getLeastSignificantBits();
+        }
+    }
+
     @Override
     default UUID get() {
         return create();
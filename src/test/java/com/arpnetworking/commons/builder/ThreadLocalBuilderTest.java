@@ -15,12 +15,18 @@
  */
 package com.arpnetworking.commons.builder;
 
+import com.arpnetworking.commons.builder.annotations.SkipValidationProcessor;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.CheckWith;
+import net.sf.oval.constraint.CheckWithCheck;
 import net.sf.oval.constraint.NotNull;
+import net.sf.oval.context.OValContext;
 import net.sf.oval.exception.ConstraintsViolatedException;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -138,6 +144,37 @@ public final class ThreadLocalBuilderTest {
         Assert.assertEquals("bar", beanC.getValue());
     }
 
+    @Test
+    public void testBuildValidatingFields() {
+        final TwoFieldThreadLocalPojo pojo = ThreadLocalBuilder.<TwoFieldThreadLocalPojo, TwoFieldThreadLocalPojo.Builder>buildGeneric(
+                TwoFieldThreadLocalPojo.Builder.class,
+                builder -> builder.setFoo("foo"),
+                Collections.singleton("_foo"));
+        Assert.assertEquals("foo", pojo.getFoo());
+        Assert.assertNull(pojo.getBar());
+    }
+
+    @Test
+    public void testBuildValidatingFieldsFailure() {
+        try {
+            ThreadLocalBuilder.<TwoFieldThreadLocalPojo, TwoFieldThreadLocalPojo.Builder>buildGeneric(
+                    TwoFieldThreadLocalPojo.Builder.class,
+                    builder -> builder.setFoo("foo"),
+                    Collections.singleton("_bar"));
+            Assert.fail("Expected exception not thrown");
+        } catch (final ConstraintsViolatedException e) {
+            Assert.assertEquals(1, e.getConstraintViolations().length);
+        }
+    }
+
+    @Test(expected = ConstraintsViolatedException.class)
+    public void testBuildValidatingFieldsClassConstraint() {
+        ThreadLocalBuilder.<ClassConstraintThreadLocalPojo, ClassConstraintThreadLocalPojo.Builder>buildGeneric(
+                ClassConstraintThreadLocalPojo.Builder.class,
+                builder -> { },
+                Collections.emptySet());
+    }
+
     private static final class MyThreadLocalPojo {
 
         public String getValue() {
@@ -276,4 +313,77 @@ public final class ThreadLocalBuilderTest {
             private List<T> _value;
         }
     }
+
+    private static final class TwoFieldThreadLocalPojo {
+
+        public String getFoo() {
+            return _foo;
+        }
+
+        public String getBar() {
+            return _bar;
+        }
+
+        private TwoFieldThreadLocalPojo(final Builder builder) {
+            _foo = builder._foo;
+            _bar = builder._bar;
+        }
+
+        private final String _foo;
+        private final String _bar;
+
+        private static final class Builder extends ThreadLocalBuilder<TwoFieldThreadLocalPojo> {
+
+            /* package private */ Builder() {
+                super(TwoFieldThreadLocalPojo::new);
+            }
+
+            public Builder setFoo(final String value) {
+                _foo = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _foo = null;
+                _bar = null;
+            }
+
+            @NotNull
+            private String _foo;
+            @NotNull
+            private String _bar;
+        }
+    }
+
+    private static final class ClassConstraintThreadLocalPojo {
+
+        private ClassConstraintThreadLocalPojo(final Builder builder) { }
+
+        @SkipValidationProcessor
+        @CheckWith(RejectingCheck.class)
+        private static final class Builder extends ThreadLocalBuilder<ClassConstraintThreadLocalPojo> {
+
+            /* package private */ Builder() {
+                super(ClassConstraintThreadLocalPojo::new);
+            }
+
+            @Override
+            protected void reset() { }
+        }
+    }
+
+    private static final class RejectingCheck implements CheckWithCheck.SimpleCheck {
+
+        @Override
+        public boolean isSatisfied(
+                final Object validatedObject,
+                final Object value,
+                final OValContext context,
+                final Validator validator) {
+            return false;
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
 }
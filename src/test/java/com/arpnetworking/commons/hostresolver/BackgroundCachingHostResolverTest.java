@@ -31,8 +31,14 @@ import java.net.UnknownHostException;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 /**
@@ -174,6 +180,91 @@ public class BackgroundCachingHostResolverTest {
         Assert.assertNotNull(_function.apply(backgroundCachingHostResolver));
     }
 
+    @Test
+    public void testClose() throws UnknownHostException {
+        final ScheduledExecutorService executor = Mockito.mock(ScheduledExecutorService.class);
+        final ScheduledFuture<?> future = Mockito.mock(ScheduledFuture.class);
+        Mockito.doReturn(future).when(executor).scheduleAtFixedRate(
+                Mockito.any(Runnable.class),
+                Mockito.anyLong(),
+                Mockito.anyLong(),
+                Mockito.any(TimeUnit.class));
+        Mockito.doReturn("foo.example.com").when(_hostResolver).getLocalHostName();
+
+        final BackgroundCachingHostResolver backgroundCachingHostResolver = new BackgroundCachingHostResolver(
+                _hostResolver,
+                DURATION,
+                executor);
+        backgroundCachingHostResolver.close();
+
+        Mockito.verify(future).cancel(false);
+        Assert.assertEquals("foo.example.com", _function.apply(backgroundCachingHostResolver));
+    }
+
+    @Test
+    public void testSharedScheduler() throws Exception {
+        final ScheduledExecutorService executor = BackgroundCachingHostResolver.SHARED_SCHEDULED_EXECUTOR_SERVICE.get();
+        Assert.assertSame(executor, BackgroundCachingHostResolver.SHARED_SCHEDULED_EXECUTOR_SERVICE.get());
+        MatcherAssert.assertThat(executor, Matchers.instanceOf(ScheduledThreadPoolExecutor.class));
+        Assert.assertTrue(((ScheduledThreadPoolExecutor) executor).getRemoveOnCancelPolicy());
+        Assert.assertTrue(((ScheduledThreadPoolExecutor) executor).allowsCoreThreadTimeOut());
+
+        final CountDownLatch refreshed = new CountDownLatch(3);
+        final AtomicInteger resolutions = new AtomicInteger();
+        Mockito.doAnswer(invocation -> {
+            resolutions.incrementAndGet();
+            refreshed.countDown();
+            return "foo.example.com";
+        }).when(_hostResolver).getLocalHostName();
+
+        try (BackgroundCachingHostResolver backgroundCachingHostResolver = new BackgroundCachingHostResolver(
+                _hostResolver,
+                Duration.ofMillis(10))) {
+            Assert.assertTrue(refreshed.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals("foo.example.com", _function.apply(backgroundCachingHostResolver));
+        }
+
+        // At most a refresh already in progress completes after closing
+        final int resolutionsAtClose = resolutions.get();
+        Thread.sleep(100);
+        MatcherAssert.assertThat(resolutions.get(), Matchers.lessThanOrEqualTo(resolutionsAtClose + 1));
+    }
+
+    @Test
+    public void testResolveAsync() throws Exception {
+        final ScheduledExecutorService executor = Mockito.mock(ScheduledExecutorService.class);
+        Mockito.doReturn("foo.example.com").when(_hostResolver).getLocalHostName();
+
+        final HostResolver backgroundCachingHostResolver = new BackgroundCachingHostResolver(
+                _hostResolver,
+                DURATION,
+                executor);
+
+        final CompletableFuture<String> future = backgroundCachingHostResolver.resolveAsync();
+        Assert.assertTrue(future.isDone());
+        Assert.assertEquals("foo.example.com", future.get());
+        Mockito.verify(_hostResolver).getLocalHostName();
+        Mockito.verifyNoMoreInteractions(_hostResolver);
+    }
+
+    @Test
+    public void testInitialFailureResolveAsync() throws Exception {
+        final ScheduledExecutorService executor = Mockito.mock(ScheduledExecutorService.class);
+        Mockito.doThrow(new UnknownHostException()).when(_hostResolver).getLocalHostName();
+
+        final HostResolver backgroundCachingHostResolver = new BackgroundCachingHostResolver(
+                _hostResolver,
+                DURATION,
+                executor);
+
+        try {
+            backgroundCachingHostResolver.resolveAsync().get();
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(UnknownHostException.class));
+        }
+    }
+
     // NOTE: This test is not parameterized as it is specific to "getLocalHostName"
     @Test
     public void testInitialFailureGetLocalHostName() throws UnknownHostException {
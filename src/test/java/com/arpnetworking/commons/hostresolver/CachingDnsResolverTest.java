@@ -0,0 +1,371 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import com.arpnetworking.commons.java.time.ManualClock;
+import net.sf.oval.exception.ConstraintsViolatedException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the {@link CachingDnsResolver} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class CachingDnsResolverTest {
+
+    @Before
+    public void setUp() throws UnknownHostException {
+        _clock = new ManualClock(Instant.ofEpochSecond(1458582933L), Duration.ofSeconds(1), ZoneId.of("UTC"));
+        _pending = new ArrayDeque<>();
+        _forwardLookups = new AtomicInteger();
+        _reverseLookups = new AtomicInteger();
+        _addresses = Map.of(
+                "foo.example.com", List.of(InetAddress.getByAddress("foo.example.com", new byte[]{10, 0, 0, 1})),
+                "bar.example.com", List.of(InetAddress.getByAddress("bar.example.com", new byte[]{10, 0, 0, 2})));
+        _resolver = createResolver(Map.of(), 10);
+    }
+
+    @Test
+    public void testForward() throws Exception {
+        final CompletableFuture<List<InetAddress>> future = _resolver.getAllByNameAsync("foo.example.com");
+        Assert.assertFalse(future.isDone());
+        runPending();
+        Assert.assertEquals(_addresses.get("foo.example.com"), future.get());
+        Assert.assertEquals(_addresses.get("foo.example.com"), _resolver.getAllByName("foo.example.com"));
+        Assert.assertTrue(_pending.isEmpty());
+        Assert.assertEquals(1, _forwardLookups.get());
+        Assert.assertEquals(1, _resolver.getMissCount());
+        Assert.assertEquals(1, _resolver.getHitCount());
+    }
+
+    @Test
+    public void testReverse() throws Exception {
+        final InetAddress address = _addresses.get("foo.example.com").get(0);
+        _resolver = createResolver(Map.of(address, "foo.example.com"), 10);
+        final CompletableFuture<String> future = _resolver.getHostNameAsync(address);
+        runPending();
+        Assert.assertEquals("foo.example.com", future.get());
+        Assert.assertEquals("foo.example.com", _resolver.getHostName(address));
+        Assert.assertEquals(1, _reverseLookups.get());
+    }
+
+    @Test
+    public void testCoalescing() throws Exception {
+        final CompletableFuture<List<InetAddress>> first = _resolver.getAllByNameAsync("foo.example.com");
+        final CompletableFuture<List<InetAddress>> second = _resolver.getAllByNameAsync("foo.example.com");
+        Assert.assertEquals(1, _pending.size());
+
+        // Completing a returned future does not affect other callers
+        second.complete(List.of());
+        runPending();
+        Assert.assertEquals(_addresses.get("foo.example.com"), first.get());
+        Assert.assertEquals(_addresses.get("foo.example.com"), _resolver.getAllByNameAsync("foo.example.com").getNow(null));
+        Assert.assertEquals(1, _forwardLookups.get());
+    }
+
+    @Test
+    public void testNegativeCaching() throws Exception {
+        final CompletableFuture<List<InetAddress>> future = _resolver.getAllByNameAsync("unknown.example.com");
+        runPending();
+        assertUnknownHost(future);
+        assertUnknownHost(_resolver.getAllByNameAsync("unknown.example.com"));
+        Assert.assertEquals(1, _forwardLookups.get());
+
+        // Failed lookups expire after the negative time to live and are never served stale
+        _clock.tick();
+        _clock.tick();
+        final CompletableFuture<List<InetAddress>> retry = _resolver.getAllByNameAsync("unknown.example.com");
+        Assert.assertFalse(retry.isDone());
+        runPending();
+        assertUnknownHost(retry);
+        Assert.assertEquals(2, _forwardLookups.get());
+        Assert.assertEquals(2, _resolver.getMissCount());
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() throws Exception {
+        _resolver.getAllByNameAsync("foo.example.com");
+        runPending();
+        for (int i = 0; i < 5; ++i) {
+            _clock.tick();
+        }
+
+        // Expired results are returned while one lookup refreshes them
+        Assert.assertEquals(_addresses.get("foo.example.com"), _resolver.getAllByNameAsync("foo.example.com").getNow(null));
+        Assert.assertEquals(_addresses.get("foo.example.com"), _resolver.getAllByNameAsync("foo.example.com").getNow(null));
+        Assert.assertEquals(1, _pending.size());
+        Assert.assertEquals(2, _resolver.getStaleHitCount());
+
+        _addresses = Map.of("foo.example.com", _addresses.get("bar.example.com"));
+        runPending();
+        Assert.assertEquals(_addresses.get("foo.example.com"), _resolver.getAllByNameAsync("foo.example.com").getNow(null));
+        Assert.assertEquals(2, _forwardLookups.get());
+    }
+
+    @Test
+    public void testStaleRefreshFailure() throws Exception {
+        _resolver.getAllByNameAsync("foo.example.com");
+        runPending();
+        for (int i = 0; i < 5; ++i) {
+            _clock.tick();
+        }
+
+        // A failed refresh retains the stale result until the negative time to live expires
+        _addresses = Map.of();
+        Assert.assertNotNull(_resolver.getAllByNameAsync("foo.example.com").getNow(null));
+        runPending();
+        Assert.assertNotNull(_resolver.getAllByNameAsync("foo.example.com").getNow(null));
+        Assert.assertTrue(_pending.isEmpty());
+
+        _clock.tick();
+        _clock.tick();
+        Assert.assertNotNull(_resolver.getAllByNameAsync("foo.example.com").getNow(null));
+        Assert.assertEquals(1, _pending.size());
+        runPending();
+        Assert.assertEquals(3, _forwardLookups.get());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        _resolver = createResolver(Map.of(), 1);
+        _resolver.getAllByNameAsync("foo.example.com");
+        runPending();
+        _resolver.getAllByNameAsync("bar.example.com");
+        runPending();
+        Assert.assertEquals(1, _resolver.getEvictionCount());
+
+        // The least recently used result was evicted
+        _resolver.getAllByNameAsync("bar.example.com");
+        Assert.assertTrue(_pending.isEmpty());
+        _resolver.getAllByNameAsync("foo.example.com");
+        Assert.assertEquals(1, _pending.size());
+        runPending();
+        Assert.assertEquals(3, _forwardLookups.get());
+    }
+
+    @Test
+    public void testRefreshOfEvictedResult() throws Exception {
+        _resolver = createResolver(Map.of(), 1);
+        _resolver.getAllByNameAsync("foo.example.com");
+        runPending();
+        for (int i = 0; i < 5; ++i) {
+            _clock.tick();
+        }
+        _resolver.getAllByNameAsync("foo.example.com");
+        _resolver.getAllByNameAsync("bar.example.com");
+        runPending();
+
+        // The refreshed result is not cached since its entry was evicted
+        Assert.assertFalse(_resolver.getAllByNameAsync("foo.example.com").isDone());
+    }
+
+    @Test
+    public void testLookupFailure() throws Exception {
+        final IllegalStateException failure = new IllegalStateException("failure");
+        _resolver = new CachingDnsResolver.Builder()
+                .setForwardLookup(hostName -> {
+                    throw failure;
+                })
+                .setExecutor(Runnable::run)
+                .build();
+        try {
+            _resolver.getAllByName("foo.example.com");
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnknownHostException e) {
+            Assert.assertSame(failure, e.getCause());
+            Assert.assertEquals("failure", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testUnknownHost() {
+        _resolver = new CachingDnsResolver.Builder()
+                .setForwardLookup(hostName -> {
+                    throw new UnknownHostException(hostName);
+                })
+                .setExecutor(Runnable::run)
+                .build();
+        try {
+            _resolver.getAllByName("foo.example.com");
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnknownHostException e) {
+            Assert.assertEquals("foo.example.com", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDefaultLookups() throws Exception {
+        final CachingDnsResolver resolver = new CachingDnsResolver.Builder().build();
+        Assert.assertFalse(resolver.getAllByName("localhost").isEmpty());
+        Assert.assertNotNull(resolver.getHostName(InetAddress.getLoopbackAddress()));
+    }
+
+    @Test
+    public void testSharedFutureNotCompletable() throws Exception {
+        final CompletableFuture<List<InetAddress>> future = _resolver.getAllByNameAsync("foo.example.com");
+        runPending();
+        _resolver.getAllByNameAsync("foo.example.com").complete(List.of());
+        Assert.assertEquals(_addresses.get("foo.example.com"), future.get());
+        Assert.assertEquals(_addresses.get("foo.example.com"), _resolver.getAllByNameAsync("foo.example.com").get());
+    }
+
+    @Test
+    public void testExecutorRejection() throws Exception {
+        final AtomicInteger rejections = new AtomicInteger();
+        _resolver = new CachingDnsResolver.Builder()
+                .setForwardLookup(hostName -> _addresses.get(hostName))
+                .setExecutor(runnable -> {
+                    if (rejections.getAndIncrement() == 0) {
+                        throw new RejectedExecutionException("saturated");
+                    }
+                    runnable.run();
+                })
+                .build();
+        try {
+            _resolver.getAllByName("foo.example.com");
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnknownHostException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(RejectedExecutionException.class));
+        }
+
+        // The rejected lookup is not cached
+        Assert.assertEquals(_addresses.get("foo.example.com"), _resolver.getAllByName("foo.example.com"));
+        Assert.assertEquals(2, rejections.get());
+    }
+
+    @Test
+    public void testLookupError() throws Exception {
+        final AssertionError error = new AssertionError("error");
+        final AtomicInteger lookups = new AtomicInteger();
+        _resolver = new CachingDnsResolver.Builder()
+                .setForwardLookup(hostName -> {
+                    if (lookups.getAndIncrement() == 0) {
+                        throw error;
+                    }
+                    return _addresses.get(hostName);
+                })
+                .setExecutor(_pending::add)
+                .build();
+        final CompletableFuture<List<InetAddress>> future = _resolver.getAllByNameAsync("foo.example.com");
+        try {
+            runPending();
+            Assert.fail("Expected error not thrown");
+        } catch (final AssertionError e) {
+            Assert.assertSame(error, e);
+        }
+        try {
+            future.get();
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            Assert.assertSame(error, e.getCause());
+        }
+
+        // The failed lookup is not cached
+        final CompletableFuture<List<InetAddress>> retried = _resolver.getAllByNameAsync("foo.example.com");
+        runPending();
+        Assert.assertEquals(_addresses.get("foo.example.com"), retried.get());
+        Assert.assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void testRequireHostName() throws Exception {
+        final InetAddress address = InetAddress.getByAddress(new byte[]{10, 0, 0, 1});
+        Assert.assertEquals("foo.example.com", CachingDnsResolver.requireHostName(address, "foo.example.com"));
+        try {
+            CachingDnsResolver.requireHostName(address, "10.0.0.1");
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnknownHostException e) {
+            Assert.assertEquals("10.0.0.1", e.getMessage());
+        }
+    }
+
+    @Test(expected = ConstraintsViolatedException.class)
+    public void testInvalidPositiveTtl() {
+        new CachingDnsResolver.Builder().setPositiveTtl(Duration.ofSeconds(-1)).build();
+    }
+
+    @Test(expected = ConstraintsViolatedException.class)
+    public void testInvalidNegativeTtl() {
+        new CachingDnsResolver.Builder().setNegativeTtl(Duration.ofSeconds(-1)).build();
+    }
+
+    @Test(expected = ConstraintsViolatedException.class)
+    public void testInvalidMaximumSize() {
+        new CachingDnsResolver.Builder().setMaximumSize(0).build();
+    }
+
+    private CachingDnsResolver createResolver(final Map<InetAddress, String> hostNames, final int maximumSize) {
+        return new CachingDnsResolver.Builder()
+                .setForwardLookup(hostName -> {
+                    _forwardLookups.incrementAndGet();
+                    final List<InetAddress> addresses = _addresses.get(hostName);
+                    if (addresses == null) {
+                        throw new UnknownHostException(hostName);
+                    }
+                    return addresses;
+                })
+                .setReverseLookup(address -> {
+                    _reverseLookups.incrementAndGet();
+                    return hostNames.get(address);
+                })
+                .setMaximumSize(maximumSize)
+                .setPositiveTtl(Duration.ofSeconds(4))
+                .setNegativeTtl(Duration.ofSeconds(2))
+                .setExecutor(_pending::add)
+                .setClock(_clock)
+                .build();
+    }
+
+    private void runPending() {
+        while (!_pending.isEmpty()) {
+            _pending.remove().run();
+        }
+    }
+
+    private static void assertUnknownHost(final CompletableFuture<?> future) throws InterruptedException {
+        try {
+            future.get();
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(UnknownHostException.class));
+        }
+    }
+
+    private ManualClock _clock;
+    private Queue<Runnable> _pending;
+    private AtomicInteger _forwardLookups;
+    private AtomicInteger _reverseLookups;
+    private Map<String, List<InetAddress>> _addresses;
+    private CachingDnsResolver _resolver;
+}
@@ -16,6 +16,8 @@
 package com.arpnetworking.commons.hostresolver;
 
 import com.arpnetworking.commons.java.time.ManualClock;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -33,6 +35,15 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
@@ -116,6 +127,303 @@ public class CachingHostResolverTest {
         Mockito.verifyNoMoreInteractions(_hostResolver);
     }
 
+    @Test
+    public void testStaleWhileRefreshing() throws Exception {
+        final ManualClock manualClock = new ManualClock(Instant.ofEpochSecond(1458582933L), Duration.ofSeconds(2), ZoneId.of("UTC"));
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                manualClock,
+                Duration.ofSeconds(3));
+        Mockito.doReturn("foo.example.com").when(_hostResolver).getLocalHostName();
+        Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+
+        manualClock.tick();
+        manualClock.tick();
+
+        // The refreshing caller blocks in the wrapped resolver
+        final CountDownLatch refreshing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            refreshing.countDown();
+            Assert.assertTrue(release.await(10, TimeUnit.SECONDS));
+            return "foo2.example.com";
+        }).when(_hostResolver).getLocalHostName();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String> refresh = executor.submit(() -> _function.apply(cachingHostResolver));
+            Assert.assertTrue(refreshing.await(10, TimeUnit.SECONDS));
+
+            // Other callers receive the stale value without resolving
+            Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+            Mockito.verify(_hostResolver, Mockito.times(2)).getLocalHostName();
+
+            release.countDown();
+            Assert.assertEquals("foo2.example.com", refresh.get());
+            Assert.assertEquals("foo2.example.com", _function.apply(cachingHostResolver));
+            Mockito.verifyNoMoreInteractions(_hostResolver);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRefreshFailure() throws UnknownHostException {
+        final ManualClock manualClock = new ManualClock(Instant.ofEpochSecond(1458582933L), Duration.ofSeconds(2), ZoneId.of("UTC"));
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                manualClock,
+                Duration.ofSeconds(3));
+        Mockito.doReturn("foo.example.com").when(_hostResolver).getLocalHostName();
+        Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+
+        manualClock.tick();
+        manualClock.tick();
+
+        // The failed refresh returns the stale value
+        Mockito.doThrow(new UnknownHostException()).when(_hostResolver).getLocalHostName();
+        Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+        Mockito.verify(_hostResolver, Mockito.times(2)).getLocalHostName();
+
+        // The stale value is served without resolving until the retry deadline
+        Mockito.doReturn("foo2.example.com").when(_hostResolver).getLocalHostName();
+        Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+        Mockito.verifyNoMoreInteractions(_hostResolver);
+
+        // The first caller after the retry deadline resolves again
+        manualClock.tick();
+        Assert.assertEquals("foo2.example.com", _function.apply(cachingHostResolver));
+        Mockito.verify(_hostResolver, Mockito.times(3)).getLocalHostName();
+    }
+
+    @Test
+    public void testConcurrentRefresh() throws UnknownHostException {
+        final Clock clock = Mockito.mock(Clock.class);
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                clock,
+                Duration.ofMillis(5));
+        Mockito.doReturn(0L).when(clock).millis();
+        Mockito.doReturn("foo.example.com").when(_hostResolver).getLocalHostName();
+        Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+
+        // Another caller refreshes the expired value after it was read
+        final AtomicBoolean refreshed = new AtomicBoolean();
+        Mockito.doAnswer(invocation -> {
+            if (refreshed.compareAndSet(false, true)) {
+                Assert.assertEquals("foo2.example.com", _function.apply(cachingHostResolver));
+            }
+            return 10L;
+        }).when(clock).millis();
+        Mockito.doReturn("foo2.example.com").when(_hostResolver).getLocalHostName();
+        Assert.assertEquals("foo2.example.com", _function.apply(cachingHostResolver));
+        Mockito.verify(_hostResolver, Mockito.times(2)).getLocalHostName();
+    }
+
+    @Test
+    public void testResolveAsync() throws Exception {
+        final ManualClock manualClock = new ManualClock(Instant.ofEpochSecond(1458582933L), Duration.ofSeconds(2), ZoneId.of("UTC"));
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                manualClock,
+                Duration.ofSeconds(3));
+
+        // Initial call resolves through the wrapped resolver
+        Mockito.doReturn(CompletableFuture.completedFuture("foo.example.com")).when(_hostResolver).resolveAsync();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().get());
+        Mockito.verify(_hostResolver).resolveAsync();
+
+        // Call within the timeout completes immediately from the cache
+        manualClock.tick();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().getNow(null));
+        Mockito.verifyNoMoreInteractions(_hostResolver);
+
+        // Calls after the timeout complete immediately with the stale value while one refresh is pending
+        manualClock.tick();
+        final CompletableFuture<String> refresh = new CompletableFuture<>();
+        Mockito.doReturn(refresh).when(_hostResolver).resolveAsync();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().getNow(null));
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().getNow(null));
+        Mockito.verify(_hostResolver, Mockito.times(2)).resolveAsync();
+
+        // Refreshed value is cached once resolved
+        refresh.complete("foo2.example.com");
+        Assert.assertEquals("foo2.example.com", cachingHostResolver.resolveAsync().getNow(null));
+        Assert.assertEquals("foo2.example.com", _function.apply(cachingHostResolver));
+        Mockito.verifyNoMoreInteractions(_hostResolver);
+    }
+
+    @Test
+    public void testResolveAsyncRefreshFailure() throws Exception {
+        final ManualClock manualClock = new ManualClock(Instant.ofEpochSecond(1458582933L), Duration.ofSeconds(2), ZoneId.of("UTC"));
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                manualClock,
+                Duration.ofSeconds(3));
+        Mockito.doReturn(CompletableFuture.completedFuture("foo.example.com")).when(_hostResolver).resolveAsync();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().get());
+
+        manualClock.tick();
+        manualClock.tick();
+
+        // The failed refresh retains the stale value until the retry deadline
+        Mockito.doReturn(CompletableFuture.failedFuture(new UnknownHostException())).when(_hostResolver).resolveAsync();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().getNow(null));
+        Mockito.doReturn(CompletableFuture.completedFuture("foo2.example.com")).when(_hostResolver).resolveAsync();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().getNow(null));
+        Mockito.verify(_hostResolver, Mockito.times(2)).resolveAsync();
+
+        // The first caller after the retry deadline refreshes again
+        manualClock.tick();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().getNow(null));
+        Mockito.verify(_hostResolver, Mockito.times(3)).resolveAsync();
+        Assert.assertEquals("foo2.example.com", cachingHostResolver.resolveAsync().getNow(null));
+    }
+
+    @Test
+    public void testResolveAsyncConcurrentRefresh() throws Exception {
+        final Clock clock = Mockito.mock(Clock.class);
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                clock,
+                Duration.ofMillis(5));
+        Mockito.doReturn(0L).when(clock).millis();
+        Mockito.doReturn(CompletableFuture.completedFuture("foo.example.com")).when(_hostResolver).resolveAsync();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().get());
+
+        // Another caller claims the refresh of the expired value after it was read
+        final AtomicBoolean refreshed = new AtomicBoolean();
+        Mockito.doAnswer(invocation -> {
+            if (refreshed.compareAndSet(false, true)) {
+                Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().getNow(null));
+            }
+            return 10L;
+        }).when(clock).millis();
+        Mockito.doReturn(new CompletableFuture<>()).when(_hostResolver).resolveAsync();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().getNow(null));
+        Mockito.verify(_hostResolver, Mockito.times(2)).resolveAsync();
+    }
+
+    @Test
+    public void testResolveAsyncInitialFailure() throws Exception {
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                Clock.fixed(Instant.ofEpochSecond(1458582933L), ZoneId.of("UTC")),
+                Duration.ofMillis(1));
+        Mockito.doReturn(CompletableFuture.failedFuture(new UnknownHostException())).when(_hostResolver).resolveAsync();
+        try {
+            cachingHostResolver.resolveAsync().get();
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(UnknownHostException.class));
+        }
+
+        // The failure is not cached and the next caller resolves again
+        Mockito.doReturn(CompletableFuture.completedFuture("foo.example.com")).when(_hostResolver).resolveAsync();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().get());
+        Mockito.verify(_hostResolver, Mockito.times(2)).resolveAsync();
+    }
+
+    @Test
+    public void testResolveAsyncInitialCoalesced() throws Exception {
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                Clock.fixed(Instant.ofEpochSecond(1458582933L), ZoneId.of("UTC")),
+                Duration.ofSeconds(3));
+        final CompletableFuture<String> resolution = new CompletableFuture<>();
+        Mockito.doReturn(resolution).when(_hostResolver).resolveAsync();
+
+        // Callers before the first value is cached share the pending resolution
+        final CompletableFuture<String> first = cachingHostResolver.resolveAsync();
+        final CompletableFuture<String> second = cachingHostResolver.resolveAsync();
+        Assert.assertNotSame(first, second);
+        Assert.assertFalse(first.isDone());
+        Mockito.verify(_hostResolver).resolveAsync();
+
+        // Cancelling one caller's future does not affect the others
+        first.cancel(false);
+        resolution.complete("foo.example.com");
+        Assert.assertEquals("foo.example.com", second.getNow(null));
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().getNow(null));
+        Mockito.verifyNoMoreInteractions(_hostResolver);
+    }
+
+    @Test
+    public void testInitialCoalesced() throws Exception {
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                Clock.fixed(Instant.ofEpochSecond(1458582933L), ZoneId.of("UTC")),
+                Duration.ofSeconds(3));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            started.countDown();
+            Assert.assertTrue(release.await(10, TimeUnit.SECONDS));
+            return "foo.example.com";
+        }).when(_hostResolver).getLocalHostName();
+
+        // The synchronous caller resolves on its own thread
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            final Future<String> first = executor.submit(() -> _function.apply(cachingHostResolver));
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            // Other callers before the first value is cached share its resolution
+            final CompletableFuture<String> second = cachingHostResolver.resolveAsync();
+            final AtomicReference<String> third = new AtomicReference<>();
+            final Thread thread = new Thread(() -> third.set(_function.apply(cachingHostResolver)));
+            thread.start();
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+            Assert.assertFalse(second.isDone());
+
+            release.countDown();
+            Assert.assertEquals("foo.example.com", first.get(10, TimeUnit.SECONDS));
+            Assert.assertEquals("foo.example.com", second.get(10, TimeUnit.SECONDS));
+            thread.join(10000);
+            Assert.assertEquals("foo.example.com", third.get());
+            Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+            Mockito.verify(_hostResolver).getLocalHostName();
+            Mockito.verifyNoMoreInteractions(_hostResolver);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testInitialFailureShared() throws Exception {
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                Clock.fixed(Instant.ofEpochSecond(1458582933L), ZoneId.of("UTC")),
+                Duration.ofSeconds(3));
+        final IllegalStateException failure = new IllegalStateException("failure");
+        final AtomicReference<CompletableFuture<String>> second = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            second.set(cachingHostResolver.resolveAsync());
+            throw failure;
+        }).when(_hostResolver).getLocalHostName();
+
+        // A failure of the synchronous resolution fails the callers sharing it
+        try {
+            _function.apply(cachingHostResolver);
+            Assert.fail("Expected exception not thrown");
+        } catch (final IllegalStateException e) {
+            Assert.assertSame(failure, e);
+        }
+        try {
+            second.get().get(10, TimeUnit.SECONDS);
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            Assert.assertSame(failure, e.getCause());
+        }
+
+        // The failure is not cached and the next caller resolves again
+        Mockito.doReturn("foo.example.com").when(_hostResolver).getLocalHostName();
+        Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+        Mockito.verify(_hostResolver, Mockito.times(2)).getLocalHostName();
+        Mockito.verifyNoMoreInteractions(_hostResolver);
+    }
+
     @Test
     public void testConstructor() throws UnknownHostException {
         final CachingHostResolver cachingHostResolver = new CachingHostResolver(Duration.ofSeconds(10));
@@ -132,6 +440,67 @@ public class CachingHostResolverTest {
 
     }
 
+    @Test
+    public void testMetrics() throws UnknownHostException {
+        final ManualClock manualClock = new ManualClock(Instant.ofEpochSecond(1458582933L), Duration.ofSeconds(2), ZoneId.of("UTC"));
+        final HostResolverStatistics statistics = new HostResolverStatistics();
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                manualClock,
+                Duration.ofSeconds(3),
+                statistics);
+        Mockito.doReturn("foo.example.com").when(_hostResolver).getLocalHostName();
+
+        Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+        Assert.assertEquals(0, statistics.getCacheHitCount());
+        Assert.assertEquals(1, statistics.getCacheMissCount());
+
+        manualClock.tick();
+        Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+        Assert.assertEquals(1, statistics.getCacheHitCount());
+        Assert.assertEquals(1, statistics.getCacheMissCount());
+
+        manualClock.tick();
+        Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+        Assert.assertEquals(1, statistics.getCacheHitCount());
+        Assert.assertEquals(2, statistics.getCacheMissCount());
+    }
+
+    @Test
+    public void testResolveAsyncMetrics() throws Exception {
+        final ManualClock manualClock = new ManualClock(Instant.ofEpochSecond(1458582933L), Duration.ofSeconds(2), ZoneId.of("UTC"));
+        final HostResolverStatistics statistics = new HostResolverStatistics();
+        final HostResolver cachingHostResolver = new CachingHostResolver(
+                _hostResolver,
+                manualClock,
+                Duration.ofSeconds(3),
+                statistics);
+        Mockito.doReturn(CompletableFuture.completedFuture("foo.example.com")).when(_hostResolver).resolveAsync();
+
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().get());
+        Assert.assertEquals(0, statistics.getCacheHitCount());
+        Assert.assertEquals(1, statistics.getCacheMissCount());
+
+        manualClock.tick();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().get());
+        Assert.assertEquals(1, statistics.getCacheHitCount());
+
+        // The stale value is returned without waiting for the refresh
+        manualClock.tick();
+        Assert.assertEquals("foo.example.com", cachingHostResolver.resolveAsync().get());
+        Assert.assertEquals(2, statistics.getCacheHitCount());
+        Assert.assertEquals(1, statistics.getCacheMissCount());
+    }
+
+    @Test
+    public void testConstructorWithMetrics() throws UnknownHostException {
+        final HostResolverStatistics statistics = new HostResolverStatistics();
+        final CachingHostResolver cachingHostResolver = new CachingHostResolver(_hostResolver, Duration.ofSeconds(10), statistics);
+        Mockito.doReturn("foo.example.com").when(_hostResolver).getLocalHostName();
+        Assert.assertEquals("foo.example.com", _function.apply(cachingHostResolver));
+        Assert.assertEquals(1, statistics.getCacheMissCount());
+    }
+
     // NOTE: This test is not parameterized as it is specific to "getLocalHostName"
     @Test
     public void testNoNegativeCachingGetLocalHostName() throws UnknownHostException {
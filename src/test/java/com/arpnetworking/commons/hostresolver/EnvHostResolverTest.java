@@ -15,12 +15,17 @@
  */
 package com.arpnetworking.commons.hostresolver;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.net.UnknownHostException;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Tests for the EnvHostResolver class.
@@ -115,11 +120,29 @@ public class EnvHostResolverTest {
         }
     }
 
+    @Test
+    public void testResolveAsync() throws Exception {
+        final EnvHostResolver envHostResolver = new EnvHostResolver(ImmutableMap.of("HOSTNAME", "test-host")::get);
+        final CompletableFuture<String> future = envHostResolver.resolveAsync();
+        Assert.assertTrue(future.isDone());
+        Assert.assertEquals("test-host", future.get());
+    }
+
+    @Test
+    public void testResolveAsyncUnknown() throws Exception {
+        final CompletableFuture<String> future = new EnvHostResolver(x -> null).resolveAsync();
+        try {
+            future.get();
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(UnknownHostException.class));
+        }
+    }
+
     private static final class TestEnvHostResolver extends EnvHostResolver {
         @Override
         public String getLocalHostName() throws UnknownHostException {
             throw new UnknownHostException("The host is not known!");
         }
     }
-
 }
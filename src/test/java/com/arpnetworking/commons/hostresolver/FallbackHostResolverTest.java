@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the {@link FallbackHostResolver} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class FallbackHostResolverTest {
+
+    @Before
+    public void setUp() {
+        _mocks = MockitoAnnotations.openMocks(this);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        _mocks.close();
+    }
+
+    @Test
+    public void testFirst() throws Exception {
+        Mockito.doReturn(CompletableFuture.completedFuture("foo.example.com")).when(_first).resolveAsync();
+        final HostResolver hostResolver = new FallbackHostResolver(List.of(_first, _second));
+
+        Assert.assertEquals("foo.example.com", hostResolver.getLocalHostName());
+        Mockito.verifyNoInteractions(_second);
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        Mockito.doReturn(CompletableFuture.failedFuture(new UnknownHostException())).when(_first).resolveAsync();
+        Mockito.doReturn(CompletableFuture.completedFuture("bar.example.com")).when(_second).resolveAsync();
+        final HostResolver hostResolver = new FallbackHostResolver(List.of(_first, _second));
+
+        Assert.assertEquals("bar.example.com", hostResolver.getLocalHostName());
+    }
+
+    @Test
+    public void testFallbackAfterThrow() throws Exception {
+        final IllegalStateException failure = new IllegalStateException("failure");
+        Mockito.doThrow(failure).when(_first).resolveAsync();
+        Mockito.doReturn(CompletableFuture.completedFuture("bar.example.com")).when(_second).resolveAsync();
+        final HostResolver hostResolver = new FallbackHostResolver(List.of(_first, _second));
+
+        Assert.assertEquals("bar.example.com", hostResolver.getLocalHostName());
+    }
+
+    @Test
+    public void testAllThrow() {
+        final IllegalStateException failure = new IllegalStateException("failure");
+        Mockito.doThrow(failure).when(_first).resolveAsync();
+        final HostResolver hostResolver = new FallbackHostResolver(List.of(_first));
+
+        try {
+            hostResolver.getLocalHostName();
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnknownHostException e) {
+            Assert.assertArrayEquals(new Throwable[]{failure}, e.getSuppressed());
+        }
+    }
+
+    @Test
+    public void testNoHedging() {
+        Mockito.doReturn(new CompletableFuture<>()).when(_first).resolveAsync();
+        final HostResolver hostResolver = new FallbackHostResolver(List.of(_first, _second));
+
+        Assert.assertFalse(hostResolver.resolveAsync().isDone());
+        Mockito.verifyNoInteractions(_second);
+    }
+
+    @Test
+    public void testHedging() throws Exception {
+        final CompletableFuture<String> slow = new CompletableFuture<>();
+        Mockito.doReturn(slow).when(_first).resolveAsync();
+        Mockito.doReturn(CompletableFuture.completedFuture("bar.example.com")).when(_second).resolveAsync();
+        final HostResolver hostResolver = new FallbackHostResolver(List.of(_first, _second), Duration.ofMillis(10));
+
+        Assert.assertEquals("bar.example.com", hostResolver.resolveAsync().get(10, TimeUnit.SECONDS));
+
+        // The first success is used even if a slower resolver completes later
+        slow.complete("foo.example.com");
+        Mockito.verify(_first).resolveAsync();
+        Mockito.verify(_second).resolveAsync();
+    }
+
+    @Test
+    public void testHedgingAfterSuccess() throws Exception {
+        Mockito.doReturn(CompletableFuture.completedFuture("foo.example.com")).when(_first).resolveAsync();
+        final HostResolver hostResolver = new FallbackHostResolver(List.of(_first, _second), Duration.ofMillis(10));
+
+        Assert.assertEquals("foo.example.com", hostResolver.getLocalHostName());
+        Thread.sleep(100);
+        Mockito.verifyNoInteractions(_second);
+    }
+
+    @Test
+    public void testHedgingAfterLaterSuccess() throws Exception {
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        Mockito.doReturn(first).when(_first).resolveAsync();
+        Mockito.doReturn(new CompletableFuture<>()).when(_second).resolveAsync();
+        final HostResolver hostResolver = new FallbackHostResolver(List.of(_first, _second), Duration.ofMillis(50));
+
+        // The hedge is scheduled but the first resolver succeeds before it fires
+        final CompletableFuture<String> result = hostResolver.resolveAsync();
+        first.complete("foo.example.com");
+        Assert.assertEquals("foo.example.com", result.get(10, TimeUnit.SECONDS));
+        Thread.sleep(100);
+    }
+
+    @Test
+    public void testHedgingAfterFailure() throws Exception {
+        final CompletableFuture<String> slow = new CompletableFuture<>();
+        Mockito.doReturn(CompletableFuture.failedFuture(new UnknownHostException())).when(_first).resolveAsync();
+        Mockito.doReturn(slow).when(_second).resolveAsync();
+        final CompletableFuture<String> third = new CompletableFuture<>();
+        Mockito.doReturn(third).when(_third).resolveAsync();
+        final HostResolver hostResolver = new FallbackHostResolver(List.of(_first, _second, _third), Duration.ofMillis(50));
+
+        // The failure starts the second resolver immediately and the third is hedged after it
+        final CompletableFuture<String> result = hostResolver.resolveAsync();
+        Mockito.verify(_second).resolveAsync();
+        Mockito.verify(_third, Mockito.timeout(10000)).resolveAsync();
+
+        // The hedge of the first resolver does not start the second resolver again
+        Thread.sleep(100);
+        third.complete("baz.example.com");
+        Assert.assertEquals("baz.example.com", result.get(10, TimeUnit.SECONDS));
+        Mockito.verify(_second).resolveAsync();
+    }
+
+    @Test
+    public void testHedgingEarlyResolverFailsLast() throws Exception {
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final CompletableFuture<String> second = new CompletableFuture<>();
+        final UnknownHostException firstFailure = new UnknownHostException("first");
+        final UnknownHostException secondFailure = new UnknownHostException("second");
+        Mockito.doReturn(first).when(_first).resolveAsync();
+        Mockito.doReturn(second).when(_second).resolveAsync();
+        final HostResolver hostResolver = new FallbackHostResolver(List.of(_first, _second), Duration.ofMillis(10));
+
+        // Every resolver has been started when the later one fails
+        final CompletableFuture<String> result = hostResolver.resolveAsync();
+        Mockito.verify(_second, Mockito.timeout(10000)).resolveAsync();
+        second.completeExceptionally(secondFailure);
+        Assert.assertFalse(result.isDone());
+        first.completeExceptionally(firstFailure);
+
+        try {
+            result.get(10, TimeUnit.SECONDS);
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(UnknownHostException.class));
+            // The hedged resolver may attach its completion handler after the test fails its future
+            MatcherAssert.assertThat(e.getCause().getSuppressed(), Matchers.arrayContainingInAnyOrder(firstFailure, secondFailure));
+        }
+        Mockito.verify(_first).resolveAsync();
+    }
+
+    @Test
+    public void testAllFail() {
+        final UnknownHostException firstFailure = new UnknownHostException("first");
+        final IllegalStateException secondFailure = new IllegalStateException("second");
+        Mockito.doReturn(CompletableFuture.failedFuture(firstFailure)).when(_first).resolveAsync();
+        Mockito.doReturn(CompletableFuture.failedFuture(new CompletionException(secondFailure))).when(_second).resolveAsync();
+        final HostResolver hostResolver = new FallbackHostResolver(List.of(_first, _second), Duration.ofHours(1));
+
+        try {
+            hostResolver.getLocalHostName();
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnknownHostException e) {
+            Assert.assertArrayEquals(new Throwable[]{firstFailure, secondFailure}, e.getSuppressed());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmpty() {
+        new FallbackHostResolver(List.of());
+    }
+
+    @Mock
+    private HostResolver _first;
+    @Mock
+    private HostResolver _second;
+    @Mock
+    private HostResolver _third;
+    private AutoCloseable _mocks;
+}
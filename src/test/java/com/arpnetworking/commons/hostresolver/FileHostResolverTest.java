@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tests for the {@link FileHostResolver} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class FileHostResolverTest {
+
+    @Test
+    public void testReadOnConstruction() throws Exception {
+        final Path file = write(_temporaryFolder.getRoot().toPath().resolve("hostname"), "  foo.example.com\n");
+        try (FileHostResolver resolver = new FileHostResolver(file)) {
+            Assert.assertEquals("foo.example.com", resolver.getLocalHostName());
+            Assert.assertEquals("foo.example.com", resolver.resolveAsync().getNow(null));
+        }
+    }
+
+    @Test
+    public void testModify() throws Exception {
+        final Path file = write(_temporaryFolder.getRoot().toPath().resolve("hostname"), "foo");
+        try (FileHostResolver resolver = new FileHostResolver(file)) {
+            Assert.assertEquals("foo", resolver.getLocalHostName());
+            write(file, "bar");
+            awaitHostName(resolver, "bar");
+        }
+    }
+
+    @Test
+    public void testReplace() throws Exception {
+        final Path directory = _temporaryFolder.getRoot().toPath();
+        final Path file = write(directory.resolve("hostname"), "foo");
+        try (FileHostResolver resolver = new FileHostResolver(file)) {
+            Files.move(
+                    write(directory.resolve("hostname.tmp"), "bar"),
+                    file,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            awaitHostName(resolver, "bar");
+        }
+    }
+
+    @Test
+    public void testMissingThenCreated() throws Exception {
+        final Path file = _temporaryFolder.getRoot().toPath().resolve("hostname");
+        try (FileHostResolver resolver = new FileHostResolver(file)) {
+            try {
+                resolver.getLocalHostName();
+                Assert.fail("Expected exception not thrown");
+            } catch (final UnknownHostException e) {
+                Assert.assertTrue(e.getMessage().contains(file.toString()));
+            }
+            try {
+                resolver.resolveAsync().get();
+                Assert.fail("Expected exception not thrown");
+            } catch (final ExecutionException e) {
+                MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(UnknownHostException.class));
+            }
+            write(file, "foo");
+            awaitHostName(resolver, "foo");
+        }
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        final Path file = write(_temporaryFolder.getRoot().toPath().resolve("hostname"), " \n");
+        try (FileHostResolver resolver = new FileHostResolver(file)) {
+            try {
+                resolver.getLocalHostName();
+                Assert.fail("Expected exception not thrown");
+            } catch (final UnknownHostException e) {
+                Assert.assertTrue(e.getMessage().contains(file.toString()));
+            }
+            write(file, "foo");
+            awaitHostName(resolver, "foo");
+        }
+    }
+
+    @Test
+    public void testDeletedRetainsValue() throws Exception {
+        final Path file = write(_temporaryFolder.getRoot().toPath().resolve("hostname"), "foo");
+        try (FileHostResolver resolver = new FileHostResolver(file)) {
+            Files.delete(file);
+            Thread.sleep(100);
+            Assert.assertEquals("foo", resolver.getLocalHostName());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoDirectory() throws IOException {
+        new FileHostResolver(FileSystems.getDefault().getRootDirectories().iterator().next()).close();
+    }
+
+    @Test
+    public void testRegisterFailureClosesWatchService() throws Exception {
+        final IOException failure = new NoSuchFileException("directory");
+        final IOException closeFailure = new IOException("close");
+        final WatchService watchService = Mockito.mock(WatchService.class);
+        Mockito.doThrow(closeFailure).when(watchService).close();
+        final FileSystem fileSystem = Mockito.mock(FileSystem.class);
+        Mockito.doReturn(watchService).when(fileSystem).newWatchService();
+        final Path directory = Mockito.mock(Path.class);
+        Mockito.doThrow(failure).when(directory).register(Mockito.eq(watchService), Mockito.any(WatchEvent.Kind[].class));
+        final Path file = Mockito.mock(Path.class);
+        Mockito.doReturn(file).when(file).toAbsolutePath();
+        Mockito.doReturn(directory).when(file).getParent();
+        Mockito.doReturn(fileSystem).when(file).getFileSystem();
+        try {
+            new FileHostResolver(file).close();
+            Assert.fail("Expected exception not thrown");
+        } catch (final IOException e) {
+            Assert.assertSame(failure, e);
+            Assert.assertArrayEquals(new Throwable[]{closeFailure}, e.getSuppressed());
+        }
+        Mockito.verify(watchService).close();
+    }
+
+    @Test
+    public void testRegisterFailure() throws Exception {
+        final Path file = _temporaryFolder.getRoot().toPath().resolve("missing").resolve("hostname");
+        try {
+            new FileHostResolver(file).close();
+            Assert.fail("Expected exception not thrown");
+        } catch (final NoSuchFileException e) {
+            Assert.assertEquals(0, e.getSuppressed().length);
+        }
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        final Path file = write(_temporaryFolder.getRoot().toPath().resolve("hostname"), "foo");
+        final FileHostResolver resolver = new FileHostResolver(file);
+        final Thread thread = resolver.getWatchThread();
+        Assert.assertTrue(thread.isDaemon());
+        resolver.close();
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        Assert.assertFalse(thread.isAlive());
+        Assert.assertEquals("foo", resolver.getLocalHostName());
+    }
+
+    @Test
+    public void testDirectoryDeleted() throws Exception {
+        final Path directory = _temporaryFolder.newFolder().toPath();
+        final Path file = write(directory.resolve("hostname"), "foo");
+        try (FileHostResolver resolver = new FileHostResolver(file)) {
+            Files.delete(file);
+            Files.delete(directory);
+            resolver.getWatchThread().join(TimeUnit.SECONDS.toMillis(10));
+            Assert.assertFalse(resolver.getWatchThread().isAlive());
+            Assert.assertEquals("foo", resolver.getLocalHostName());
+        }
+    }
+
+    @Test
+    public void testInterrupted() throws Exception {
+        final Path file = write(_temporaryFolder.getRoot().toPath().resolve("hostname"), "foo");
+        try (FileHostResolver resolver = new FileHostResolver(file)) {
+            resolver.getWatchThread().interrupt();
+            resolver.getWatchThread().join(TimeUnit.SECONDS.toMillis(10));
+            Assert.assertFalse(resolver.getWatchThread().isAlive());
+        }
+    }
+
+    private static Path write(final Path file, final String contents) throws IOException {
+        return Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void awaitHostName(final HostResolver resolver, final String expected) throws InterruptedException {
+        await(() -> {
+            try {
+                return expected.equals(resolver.getLocalHostName());
+            } catch (final UnknownHostException e) {
+                return false;
+            }
+        });
+        Assert.assertEquals(expected, resolver.resolveAsync().getNow(null));
+    }
+
+    private static void await(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue("Timed out waiting for condition", System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @Rule
+    public final TemporaryFolder _temporaryFolder = new TemporaryFolder();
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import com.arpnetworking.commons.java.time.ManualClock;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * Tests for the {@link HostResolverStatistics} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class HostResolverStatisticsTest {
+
+    @Test
+    public void testCounts() {
+        final HostResolverStatistics statistics = new HostResolverStatistics();
+        statistics.recordSuccess(1);
+        statistics.recordFailure(2);
+        statistics.recordFailure(3);
+        statistics.recordCacheHit();
+        statistics.recordCacheHit();
+        statistics.recordCacheHit();
+        statistics.recordCacheMiss();
+
+        Assert.assertEquals(1, statistics.getSuccessCount());
+        Assert.assertEquals(2, statistics.getFailureCount());
+        Assert.assertEquals(3, statistics.getCacheHitCount());
+        Assert.assertEquals(1, statistics.getCacheMissCount());
+    }
+
+    @Test
+    public void testTimeSinceLastSuccess() {
+        final ManualClock manualClock = new ManualClock(Instant.ofEpochSecond(1458582933L), Duration.ofSeconds(2), ZoneId.of("UTC"));
+        final HostResolverStatistics statistics = new HostResolverStatistics(manualClock);
+        Assert.assertEquals(Optional.empty(), statistics.getTimeSinceLastSuccess());
+
+        statistics.recordSuccess(1);
+        Assert.assertEquals(Optional.of(Duration.ZERO), statistics.getTimeSinceLastSuccess());
+
+        manualClock.tick();
+        statistics.recordFailure(1);
+        Assert.assertEquals(Optional.of(Duration.ofSeconds(2)), statistics.getTimeSinceLastSuccess());
+
+        statistics.recordSuccess(1);
+        Assert.assertEquals(Optional.of(Duration.ZERO), statistics.getTimeSinceLastSuccess());
+    }
+
+    @Test
+    public void testBuckets() {
+        Assert.assertEquals(0, HostResolverStatistics.getBucket(-1));
+        Assert.assertEquals(0, HostResolverStatistics.getBucket(0));
+        Assert.assertEquals(1, HostResolverStatistics.getBucket(1));
+        Assert.assertEquals(2, HostResolverStatistics.getBucket(2));
+        Assert.assertEquals(2, HostResolverStatistics.getBucket(3));
+        Assert.assertEquals(3, HostResolverStatistics.getBucket(4));
+        Assert.assertEquals(63, HostResolverStatistics.getBucket(Long.MAX_VALUE));
+
+        Assert.assertEquals(0, HostResolverStatistics.getUpperBoundInNanos(0));
+        Assert.assertEquals(1, HostResolverStatistics.getUpperBoundInNanos(1));
+        Assert.assertEquals(3, HostResolverStatistics.getUpperBoundInNanos(2));
+        Assert.assertEquals(Long.MAX_VALUE, HostResolverStatistics.getUpperBoundInNanos(63));
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        final HostResolverStatistics statistics = new HostResolverStatistics();
+        statistics.recordSuccess(0);
+        statistics.recordSuccess(5);
+        statistics.recordFailure(7);
+        statistics.recordSuccess(Long.MAX_VALUE);
+
+        final long[] histogram = statistics.getLatencyHistogram();
+        Assert.assertEquals(64, histogram.length);
+        Assert.assertEquals(1, histogram[0]);
+        Assert.assertEquals(2, histogram[3]);
+        Assert.assertEquals(1, histogram[63]);
+    }
+
+    @Test
+    public void testLatencyQuantile() {
+        final HostResolverStatistics statistics = new HostResolverStatistics();
+        Assert.assertEquals(Optional.empty(), statistics.getLatencyQuantile(0.5));
+
+        for (int i = 0; i < 9; ++i) {
+            statistics.recordSuccess(1_000);
+        }
+        statistics.recordFailure(1_000_000);
+
+        Assert.assertEquals(Optional.of(Duration.ofNanos(1023)), statistics.getLatencyQuantile(0.0));
+        Assert.assertEquals(Optional.of(Duration.ofNanos(1023)), statistics.getLatencyQuantile(0.5));
+        Assert.assertEquals(Optional.of(Duration.ofNanos(1023)), statistics.getLatencyQuantile(0.9));
+        Assert.assertEquals(Optional.of(Duration.ofNanos(1_048_575)), statistics.getLatencyQuantile(0.99));
+        Assert.assertEquals(Optional.of(Duration.ofNanos(1_048_575)), statistics.getLatencyQuantile(1.0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLatencyQuantileTooSmall() {
+        new HostResolverStatistics().getLatencyQuantile(-0.1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLatencyQuantileTooLarge() {
+        new HostResolverStatistics().getLatencyQuantile(1.1);
+    }
+}
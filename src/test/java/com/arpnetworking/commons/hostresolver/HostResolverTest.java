@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the default methods of the {@link HostResolver} interface.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class HostResolverTest {
+
+    @Test
+    public void testResolveAsync() throws Exception {
+        final Thread caller = Thread.currentThread();
+        final HostResolver hostResolver = () -> {
+            Assert.assertNotSame(caller, Thread.currentThread());
+            MatcherAssert.assertThat(Thread.currentThread().getName(), Matchers.startsWith("HostResolver-"));
+            Assert.assertTrue(Thread.currentThread().isDaemon());
+            return "foo.example.com";
+        };
+        Assert.assertEquals("foo.example.com", hostResolver.resolveAsync().get());
+    }
+
+    @Test
+    public void testResolveAsyncFailure() throws Exception {
+        final HostResolver hostResolver = () -> {
+            throw new UnknownHostException();
+        };
+        final CompletableFuture<String> future = hostResolver.resolveAsync();
+        try {
+            future.get();
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(UnknownHostException.class));
+        }
+    }
+
+    @Test
+    public void testResolveAsyncRuntimeException() throws Exception {
+        final IllegalStateException failure = new IllegalStateException("failure");
+        final HostResolver hostResolver = () -> {
+            throw failure;
+        };
+        try {
+            hostResolver.resolveAsync().get(10, TimeUnit.SECONDS);
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            Assert.assertSame(failure, e.getCause());
+        }
+    }
+
+    @Test
+    public void testResolveAsyncError() throws Exception {
+        final AssertionError failure = new AssertionError("failure");
+        final HostResolver hostResolver = () -> {
+            throw failure;
+        };
+        try {
+            hostResolver.resolveAsync().get(10, TimeUnit.SECONDS);
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            Assert.assertSame(failure, e.getCause());
+        }
+    }
+
+    @Test
+    public void testResolveAsyncSaturated() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final HostResolver blockingHostResolver = () -> {
+            try {
+                Assert.assertTrue(release.await(10, TimeUnit.SECONDS));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "foo.example.com";
+        };
+        // Saturate a private executor so that concurrently running tests are unaffected
+        final Executor executor = HostResolverExecutor.createExecutor();
+        final List<CompletableFuture<String>> futures = new ArrayList<>();
+        CompletableFuture<String> rejected = null;
+        try {
+            // Occupy every thread and fill the queue
+            for (int i = 0; i <= HostResolverExecutor.POOL_SIZE + HostResolverExecutor.QUEUE_CAPACITY && rejected == null; ++i) {
+                final CompletableFuture<String> future = HostResolverFutures.resolveAsync(blockingHostResolver, executor);
+                if (future.isCompletedExceptionally()) {
+                    rejected = future;
+                } else {
+                    futures.add(future);
+                }
+            }
+        } finally {
+            release.countDown();
+        }
+        Assert.assertNotNull(rejected);
+        try {
+            rejected.get();
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(UnknownHostException.class));
+            MatcherAssert.assertThat(e.getCause().getCause(), Matchers.instanceOf(RejectedExecutionException.class));
+        }
+        for (final CompletableFuture<String> future : futures) {
+            Assert.assertEquals("foo.example.com", future.get(10, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Tests for the {@link InstrumentedHostResolver} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class InstrumentedHostResolverTest {
+
+    @Before
+    public void setUp() {
+        _mocks = MockitoAnnotations.openMocks(this);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        _mocks.close();
+    }
+
+    @Test
+    public void testSuccess() throws Exception {
+        final HostResolverStatistics statistics = new HostResolverStatistics();
+        final HostResolver hostResolver = new InstrumentedHostResolver(_hostResolver, statistics);
+        Mockito.doReturn("foo.example.com").when(_hostResolver).getLocalHostName();
+        Mockito.doReturn(CompletableFuture.completedFuture("foo.example.com")).when(_hostResolver).resolveAsync();
+
+        Assert.assertEquals("foo.example.com", hostResolver.getLocalHostName());
+        Assert.assertEquals("foo.example.com", hostResolver.resolveAsync().get());
+
+        Assert.assertEquals(2, statistics.getSuccessCount());
+        Assert.assertEquals(0, statistics.getFailureCount());
+        Assert.assertEquals(2, sum(statistics.getLatencyHistogram()));
+        Assert.assertTrue(statistics.getTimeSinceLastSuccess().isPresent());
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        final HostResolverStatistics statistics = new HostResolverStatistics();
+        final HostResolver hostResolver = new InstrumentedHostResolver(_hostResolver, statistics);
+        final UnknownHostException exception = new UnknownHostException();
+        Mockito.doThrow(exception).when(_hostResolver).getLocalHostName();
+        Mockito.doReturn(CompletableFuture.failedFuture(exception)).when(_hostResolver).resolveAsync();
+
+        try {
+            hostResolver.getLocalHostName();
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnknownHostException e) {
+            Assert.assertSame(exception, e);
+        }
+        try {
+            hostResolver.resolveAsync().get();
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            Assert.assertSame(exception, e.getCause());
+        }
+
+        Assert.assertEquals(0, statistics.getSuccessCount());
+        Assert.assertEquals(2, statistics.getFailureCount());
+        Assert.assertEquals(2, sum(statistics.getLatencyHistogram()));
+        Assert.assertFalse(statistics.getTimeSinceLastSuccess().isPresent());
+    }
+
+    @Test
+    public void testRuntimeException() throws Exception {
+        final HostResolverStatistics statistics = new HostResolverStatistics();
+        final HostResolver hostResolver = new InstrumentedHostResolver(_hostResolver, statistics);
+        final IllegalStateException exception = new IllegalStateException("failure");
+        Mockito.doThrow(exception).when(_hostResolver).getLocalHostName();
+
+        try {
+            hostResolver.getLocalHostName();
+            Assert.fail("Expected exception not thrown");
+        } catch (final IllegalStateException e) {
+            Assert.assertSame(exception, e);
+        }
+
+        Assert.assertEquals(0, statistics.getSuccessCount());
+        Assert.assertEquals(1, statistics.getFailureCount());
+        Assert.assertEquals(1, sum(statistics.getLatencyHistogram()));
+    }
+
+    @Test
+    public void testDefaultMetrics() throws Exception {
+        final HostResolver hostResolver = new InstrumentedHostResolver(_hostResolver, NO_METRICS);
+        Mockito.doReturn(CompletableFuture.completedFuture("foo.example.com")).when(_hostResolver).resolveAsync();
+        Mockito.doThrow(new UnknownHostException()).when(_hostResolver).getLocalHostName();
+
+        Assert.assertEquals("foo.example.com", hostResolver.resolveAsync().get());
+        try {
+            hostResolver.getLocalHostName();
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnknownHostException e) {
+            // Expected
+        }
+    }
+
+    private static long sum(final long[] values) {
+        long sum = 0;
+        for (final long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Mock
+    private HostResolver _hostResolver;
+    private AutoCloseable _mocks;
+
+    private static final HostResolverMetrics NO_METRICS = new HostResolverMetrics() { };
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.hostresolver;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tests for the {@link TimeoutHostResolver} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class TimeoutHostResolverTest {
+
+    @Before
+    public void setUp() {
+        _mocks = MockitoAnnotations.openMocks(this);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        _mocks.close();
+    }
+
+    @Test
+    public void testResolved() throws Exception {
+        Mockito.doReturn(CompletableFuture.completedFuture("foo.example.com")).when(_hostResolver).resolveAsync();
+        final HostResolver timeoutHostResolver = new TimeoutHostResolver(_hostResolver, TIMEOUT, _fallbackHostResolver);
+
+        Assert.assertEquals("foo.example.com", timeoutHostResolver.getLocalHostName());
+        Assert.assertEquals("foo.example.com", timeoutHostResolver.resolveAsync().get());
+        Mockito.verifyNoInteractions(_fallbackHostResolver);
+    }
+
+    @Test
+    public void testTimeout() {
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+        Mockito.doReturn(pending).when(_hostResolver).resolveAsync();
+        final HostResolver timeoutHostResolver = new TimeoutHostResolver(_hostResolver, TIMEOUT);
+
+        try {
+            timeoutHostResolver.getLocalHostName();
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnknownHostException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(TimeoutException.class));
+        }
+        // The future of the wrapped resolver is not completed by the timeout
+        Assert.assertFalse(pending.isDone());
+    }
+
+    @Test
+    public void testTimeoutAsync() throws Exception {
+        Mockito.doReturn(new CompletableFuture<>()).when(_hostResolver).resolveAsync();
+        final HostResolver timeoutHostResolver = new TimeoutHostResolver(_hostResolver, TIMEOUT);
+
+        try {
+            timeoutHostResolver.resolveAsync().get();
+            Assert.fail("Expected exception not thrown");
+        } catch (final ExecutionException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(UnknownHostException.class));
+            MatcherAssert.assertThat(e.getCause().getCause(), Matchers.instanceOf(TimeoutException.class));
+        }
+    }
+
+    @Test
+    public void testTimeoutWithFallback() throws Exception {
+        Mockito.doReturn(new CompletableFuture<>()).when(_hostResolver).resolveAsync();
+        Mockito.doReturn(CompletableFuture.completedFuture("bar.example.com")).when(_fallbackHostResolver).resolveAsync();
+        final HostResolver timeoutHostResolver = new TimeoutHostResolver(_hostResolver, TIMEOUT, _fallbackHostResolver);
+
+        Assert.assertEquals("bar.example.com", timeoutHostResolver.getLocalHostName());
+    }
+
+    @Test
+    public void testFailureWithFallback() throws Exception {
+        Mockito.doReturn(CompletableFuture.failedFuture(new UnknownHostException())).when(_hostResolver).resolveAsync();
+        Mockito.doReturn(CompletableFuture.completedFuture("bar.example.com")).when(_fallbackHostResolver).resolveAsync();
+        final HostResolver timeoutHostResolver = new TimeoutHostResolver(_hostResolver, TIMEOUT, _fallbackHostResolver);
+
+        Assert.assertEquals("bar.example.com", timeoutHostResolver.resolveAsync().get());
+    }
+
+    @Test
+    public void testUnknownHost() {
+        final UnknownHostException unknownHostException = new UnknownHostException();
+        Mockito.doReturn(CompletableFuture.failedFuture(unknownHostException)).when(_hostResolver).resolveAsync();
+        final HostResolver timeoutHostResolver = new TimeoutHostResolver(_hostResolver, TIMEOUT);
+
+        try {
+            timeoutHostResolver.getLocalHostName();
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnknownHostException e) {
+            Assert.assertSame(unknownHostException, e);
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        final IllegalStateException illegalStateException = new IllegalStateException();
+        Mockito.doReturn(CompletableFuture.failedFuture(illegalStateException)).when(_hostResolver).resolveAsync();
+        final HostResolver timeoutHostResolver = new TimeoutHostResolver(_hostResolver, TIMEOUT);
+
+        try {
+            timeoutHostResolver.getLocalHostName();
+            Assert.fail("Expected exception not thrown");
+        } catch (final UnknownHostException e) {
+            Assert.assertSame(illegalStateException, e.getCause());
+        }
+    }
+
+    @Mock
+    private HostResolver _hostResolver;
+    @Mock
+    private HostResolver _fallbackHostResolver;
+    private AutoCloseable _mocks;
+
+    private static final Duration TIMEOUT = Duration.ofMillis(50);
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.arpnetworking.commons.jackson.databind.prewarm.PreWarmTestBean;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the {@link BuilderTypeScanner} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class BuilderTypeScannerTest {
+
+    @Test
+    public void testFindInDirectory() throws Exception {
+        Assert.assertEquals(
+                Arrays.asList(PreWarmTestBean.class, PreWarmTestBean.Nested.class),
+                BuilderTypeScanner.findBuilderTypes(getClass().getClassLoader(), PACKAGE_NAME));
+    }
+
+    @Test
+    public void testFindInJar() throws Exception {
+        final File jar = _temporaryFolder.newFile("prewarm.jar");
+        final Path root = Paths.get(PreWarmTestBean.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final String packagePath = PACKAGE_NAME.replace('.', '/');
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar.toPath()));
+             Stream<Path> files = Files.list(root.resolve(packagePath))) {
+            // Jar files list directories as entries; the package is found through its directory entry
+            final StringBuilder directory = new StringBuilder();
+            for (final String name : packagePath.split("/")) {
+                directory.append(name).append('/');
+                output.putNextEntry(new JarEntry(directory.toString()));
+                output.closeEntry();
+            }
+            for (final Path file : files.collect(Collectors.toList())) {
+                output.putNextEntry(new JarEntry(packagePath + "/" + file.getFileName()));
+                Files.copy(file, output);
+                output.closeEntry();
+            }
+            output.putNextEntry(new JarEntry(packagePath + "/README.txt"));
+            output.closeEntry();
+            output.putNextEntry(new JarEntry("other/Other$Builder.class"));
+            output.closeEntry();
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {jar.toURI().toURL()}, null)) {
+            final List<Class<?>> types = BuilderTypeScanner.findBuilderTypes(classLoader, PACKAGE_NAME);
+            Assert.assertEquals(
+                    Arrays.asList(PreWarmTestBean.class.getName(), PreWarmTestBean.Nested.class.getName()),
+                    types.stream().map(Class::getName).collect(Collectors.toList()));
+            Assert.assertSame(classLoader, types.get(0).getClassLoader());
+        }
+    }
+
+    @Test
+    public void testMissingType() throws Exception {
+        final File directory = _temporaryFolder.newFolder("classes");
+        final Path packageDirectory = Files.createDirectories(directory.toPath().resolve("example"));
+        try (OutputStream output = Files.newOutputStream(packageDirectory.resolve("Missing$Builder.class"))) {
+            output.flush();
+        }
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {directory.toURI().toURL()}, null)) {
+            Assert.assertTrue(BuilderTypeScanner.findBuilderTypes(classLoader, "example").isEmpty());
+        }
+    }
+
+    @Test
+    public void testUnsupportedProtocol() throws Exception {
+        Assert.assertTrue(BuilderTypeScanner.findBuilderTypes(new RemoteClassLoader(), PACKAGE_NAME).isEmpty());
+    }
+
+    @Rule
+    public final TemporaryFolder _temporaryFolder = new TemporaryFolder();
+
+    private static final String PACKAGE_NAME = "com.arpnetworking.commons.jackson.databind.prewarm";
+
+    private static final class RemoteClassLoader extends ClassLoader {
+
+        RemoteClassLoader() {
+            super(null);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(final String name) throws IOException {
+            return Collections.enumeration(Collections.singletonList(URI.create("http://example.com/" + name).toURL()));
+        }
+    }
+}
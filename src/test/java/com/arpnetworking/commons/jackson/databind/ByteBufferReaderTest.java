@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import net.sf.oval.constraint.NotNull;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests for the {@link ByteBufferReader} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class ByteBufferReaderTest {
+
+    @Test
+    public void testHeapBuffer() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(PADDED_JSON, 2, JSON.length + 1).slice();
+        buffer.position(1);
+        final TestBean bean = ByteBufferReader.readValue(OBJECT_MAPPER, buffer, TestBean.class);
+        Assert.assertEquals(1, bean.getI());
+        Assert.assertEquals(1, buffer.position());
+        Assert.assertEquals(JSON.length + 1, buffer.limit());
+    }
+
+    @Test
+    public void testReadOnlyHeapBuffer() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(JSON).asReadOnlyBuffer();
+        Assert.assertFalse(buffer.hasArray());
+        final TestBean bean = ByteBufferReader.readValue(OBJECT_MAPPER, buffer, TestBean.class);
+        Assert.assertEquals(1, bean.getI());
+        Assert.assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void testDirectBuffer() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(PADDED_JSON.length);
+        buffer.put(PADDED_JSON);
+        buffer.position(3);
+        buffer.limit(PADDED_JSON.length - 2);
+        final TestBean bean = ByteBufferReader.readValue(OBJECT_MAPPER, buffer, TestBean.class);
+        Assert.assertEquals(1, bean.getI());
+        Assert.assertEquals(3, buffer.position());
+        Assert.assertEquals(PADDED_JSON.length - 2, buffer.limit());
+    }
+
+    @Test
+    public void testMappedFile() throws IOException {
+        final Path file = _temporaryFolder.newFile("test.json").toPath();
+        Files.write(file, "[{\"i\":1},{\"i\":2},{\"i\":3}]".getBytes(StandardCharsets.UTF_8));
+        final List<TestBean> beans = ByteBufferReader.readValue(
+                OBJECT_MAPPER.reader().forType(OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, TestBean.class)),
+                file);
+        Assert.assertEquals(3, beans.size());
+        Assert.assertEquals(3, beans.get(2).getI());
+        Assert.assertEquals(1, ByteBufferReader.readValue(OBJECT_MAPPER, file, TestBean[].class)[0].getI());
+
+        final MappedByteBuffer buffer = ByteBufferReader.map(file);
+        Assert.assertTrue(buffer.isDirect());
+        Assert.assertEquals(Files.size(file), buffer.remaining());
+    }
+
+    @Test(expected = MismatchedInputException.class)
+    public void testEmptyBuffer() throws IOException {
+        ByteBufferReader.readValue(OBJECT_MAPPER, ByteBuffer.allocateDirect(0), TestBean.class);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void testMalformedDirectBuffer() throws IOException {
+        final byte[] json = "{\"i\":1,}".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(json.length);
+        buffer.put(json).flip();
+        ByteBufferReader.readValue(OBJECT_MAPPER, buffer, TestBean.class);
+    }
+
+    @Test(expected = DatabindException.class)
+    public void testInvalidHeapBuffer() throws IOException {
+        ByteBufferReader.readValue(OBJECT_MAPPER, ByteBuffer.wrap("{}".getBytes(StandardCharsets.UTF_8)), TestBean.class);
+    }
+
+    @Rule
+    public final TemporaryFolder _temporaryFolder = new TemporaryFolder();
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+    private static final byte[] JSON = "{\"i\":1}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PADDED_JSON = "[[ {\"i\":1}]]".getBytes(StandardCharsets.UTF_8);
+
+    private static final class TestBean {
+
+        public int getI() {
+            return _i;
+        }
+
+        private TestBean(final Builder builder) {
+            _i = builder._i;
+        }
+
+        private final int _i;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<TestBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(TestBean::new);
+            }
+
+            public Builder setI(final Integer value) {
+                _i = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _i = null;
+            }
+
+            @NotNull
+            private Integer _i;
+        }
+    }
+}
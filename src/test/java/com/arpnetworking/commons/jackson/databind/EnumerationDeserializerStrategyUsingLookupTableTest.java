@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Tests for the {@link EnumerationDeserializerStrategyUsingLookupTable} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public class EnumerationDeserializerStrategyUsingLookupTableTest {
+
+    @Test
+    public void testStrategy() {
+        final EnumerationDeserializerStrategy<TestEnum> strategy = EnumerationDeserializerStrategyUsingLookupTable.newInstance();
+        Assert.assertEquals(Optional.of(TestEnum.ABC), strategy.toEnum(TestEnum.class, "abc"));
+        Assert.assertEquals(Optional.of(TestEnum.ABC), strategy.toEnum(TestEnum.class, "ABC"));
+        Assert.assertEquals(Optional.of(TestEnum.DEF_GHI), strategy.toEnum(TestEnum.class, "Def_Ghi"));
+        Assert.assertEquals(Optional.of(TestEnum.JKL), strategy.toEnum(TestEnum.class, "jkl"));
+    }
+
+    @Test
+    public void testStrategyFailure() {
+        final EnumerationDeserializerStrategy<TestEnum> strategy = EnumerationDeserializerStrategyUsingLookupTable.newInstance();
+        Assert.assertEquals(Optional.empty(), strategy.toEnum(TestEnum.class, "foo"));
+        Assert.assertEquals(Optional.empty(), strategy.toEnum(TestEnum.class, ""));
+        Assert.assertEquals(Optional.empty(), strategy.toEnum(TestEnum.class, "abcd"));
+    }
+
+    @Test
+    public void testStrategyCharacters() {
+        final EnumerationDeserializerStrategy<TestEnum> strategy = EnumerationDeserializerStrategyUsingLookupTable.newInstance();
+        final char[] buffer = "xxabcdef_ghixx".toCharArray();
+        Assert.assertEquals(Optional.of(TestEnum.ABC), strategy.toEnum(TestEnum.class, buffer, 2, 3));
+        Assert.assertEquals(Optional.of(TestEnum.DEF_GHI), strategy.toEnum(TestEnum.class, buffer, 5, 7));
+        Assert.assertEquals(Optional.empty(), strategy.toEnum(TestEnum.class, buffer, 2, 4));
+    }
+
+    @Test
+    public void testSingleConstant() {
+        // A single constant table has two slots so every miss probes the occupied slot or the empty one
+        final EnumerationDeserializerStrategy<SingleEnum> strategy = EnumerationDeserializerStrategyUsingLookupTable.newInstance();
+        Assert.assertEquals(Optional.of(SingleEnum.A), strategy.toEnum(SingleEnum.class, "a"));
+        Assert.assertEquals(Optional.empty(), strategy.toEnum(SingleEnum.class, "B"));
+        Assert.assertEquals(Optional.empty(), strategy.toEnum(SingleEnum.class, "C"));
+        Assert.assertEquals(Optional.empty(), strategy.toEnum(SingleEnum.class, "AB"));
+    }
+
+    @Test
+    public void testHashCollision() {
+        // The upper case names "AO" and "B0" have the same hash
+        final EnumerationDeserializerStrategy<CollisionEnum> strategy = EnumerationDeserializerStrategyUsingLookupTable.newInstance();
+        Assert.assertEquals(Optional.of(CollisionEnum.AO), strategy.toEnum(CollisionEnum.class, "ao"));
+        Assert.assertEquals(Optional.of(CollisionEnum.B0), strategy.toEnum(CollisionEnum.class, "b0"));
+        final char[] buffer = "xaob0x".toCharArray();
+        Assert.assertEquals(Optional.of(CollisionEnum.AO), strategy.toEnum(CollisionEnum.class, buffer, 1, 2));
+        Assert.assertEquals(Optional.of(CollisionEnum.B0), strategy.toEnum(CollisionEnum.class, buffer, 3, 2));
+    }
+
+    @Test
+    public void testCaseCollision() {
+        final EnumerationDeserializerStrategy<CaseEnum> strategy = EnumerationDeserializerStrategyUsingLookupTable.newInstance();
+        Assert.assertEquals(Optional.of(CaseEnum.MIXED), strategy.toEnum(CaseEnum.class, "mixed"));
+        Assert.assertEquals(Optional.of(CaseEnum.MIXED), strategy.toEnum(CaseEnum.class, "Mixed"));
+        Assert.assertEquals(Optional.of(CaseEnum.Other), strategy.toEnum(CaseEnum.class, "OTHER"));
+    }
+
+    @Test
+    public void testEmptyEnum() {
+        final EnumerationDeserializerStrategy<EmptyEnum> strategy = EnumerationDeserializerStrategyUsingLookupTable.newInstance();
+        Assert.assertEquals(Optional.empty(), strategy.toEnum(EmptyEnum.class, "a"));
+    }
+
+    @Test
+    public void testDeserializer() throws IOException {
+        final SimpleModule module = new SimpleModule();
+        module.addDeserializer(
+                TestEnum.class,
+                EnumerationDeserializer.newInstance(TestEnum.class, EnumerationDeserializerStrategyUsingLookupTable.newInstance()));
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        objectMapper.registerModule(module);
+        Assert.assertEquals(TestEnum.DEF_GHI, objectMapper.readValue("\"def_ghi\"", TestEnum.class));
+    }
+
+    private enum TestEnum {
+        ABC,
+        DEF_GHI,
+        JKL
+    }
+
+    private enum SingleEnum {
+        A
+    }
+
+    private enum CollisionEnum {
+        AO,
+        B0
+    }
+
+    // CHECKSTYLE.OFF: MemberName - Testing names which differ only in case
+    private enum CaseEnum {
+        Mixed,
+        MIXED,
+        mixed,
+        Other,
+        other
+    }
+    // CHECKSTYLE.ON: MemberName
+
+    private enum EmptyEnum {
+    }
+}
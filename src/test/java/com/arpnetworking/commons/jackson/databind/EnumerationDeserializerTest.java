@@ -16,6 +16,8 @@
 package com.arpnetworking.commons.jackson.databind;
 
 import com.arpnetworking.commons.jackson.databind.exceptions.EnumerationNotFoundException;
+import com.arpnetworking.commons.jackson.databind.exceptions.StacklessJsonMappingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.hamcrest.MatcherAssert;
@@ -24,6 +26,7 @@ import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -67,11 +70,27 @@ public class EnumerationDeserializerTest {
         objectMapper.registerModule(module);
 
         final TestContainer c = objectMapper.readValue("{\"enum\":\"bar\"}", TestContainer.class);
+        verifyCharacters(3);
         Mockito.verify(_strategy).toEnum(TestEnum.class, "bar");
         Mockito.verifyNoMoreInteractions(_strategy);
         Assert.assertEquals(TestEnum.FOO, c.getEnum());
     }
 
+    @Test
+    public void testDeserializerNonString() throws Exception {
+        Mockito.doReturn(Optional.of(TestEnum.FOO)).when(_strategy).toEnum(TestEnum.class, "1");
+
+        final SimpleModule module = new SimpleModule();
+        module.addDeserializer(TestEnum.class, EnumerationDeserializer.newInstance(TestEnum.class, _strategy));
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        objectMapper.registerModule(module);
+
+        final TestContainer c = objectMapper.readValue("{\"enum\":1}", TestContainer.class);
+        Mockito.verify(_strategy).toEnum(TestEnum.class, "1");
+        Mockito.verifyNoMoreInteractions(_strategy);
+        Assert.assertEquals(TestEnum.FOO, c.getEnum());
+    }
+
     @Test
     public void testEnumerationNotFound() throws Exception {
         Mockito.doReturn(Optional.empty()).when(_strategy).toEnum(TestEnum.class, "bar");
@@ -86,12 +105,64 @@ public class EnumerationDeserializerTest {
             Assert.fail("Expected exception not thrown");
         } catch (final IOException e) {
             MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(EnumerationNotFoundException.class));
+            verifyCharacters(3);
             Mockito.verify(_strategy).toEnum(TestEnum.class, "bar");
             Mockito.verifyNoMoreInteractions(_strategy);
         }
     }
 
-    @Mock
+    @Test
+    public void testEnumerationNotFoundLightweight() throws Exception {
+        Mockito.doReturn(Optional.empty()).when(_strategy).toEnum(TestEnum.class, "bar");
+
+        final SimpleModule module = new SimpleModule();
+        module.addDeserializer(TestEnum.class, EnumerationDeserializer.newInstance(TestEnum.class, _strategy));
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance(DeserializationErrorMode.LIGHTWEIGHT);
+        objectMapper.registerModule(module);
+
+        try {
+            objectMapper.readValue("{\"enum\":\"bar\"}", TestContainer.class);
+            Assert.fail("Expected exception not thrown");
+        } catch (final JsonMappingException e) {
+            // The exception reaching the caller is not wrapped again
+            MatcherAssert.assertThat(e, Matchers.instanceOf(StacklessJsonMappingException.class));
+            Assert.assertEquals(0, e.getStackTrace().length);
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(EnumerationNotFoundException.class));
+            Assert.assertEquals(0, e.getCause().getStackTrace().length);
+            Assert.assertEquals(1, e.getLocation().getLineNr());
+            Assert.assertEquals("enum", e.getPath().get(0).getFieldName());
+            Assert.assertNull(e.getProcessor());
+        }
+    }
+
+    @Test
+    public void testEnumerationNotFoundDetailed() throws Exception {
+        Mockito.doReturn(Optional.empty()).when(_strategy).toEnum(TestEnum.class, "bar");
+
+        final SimpleModule module = new SimpleModule();
+        module.addDeserializer(TestEnum.class, EnumerationDeserializer.newInstance(TestEnum.class, _strategy));
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance(DeserializationErrorMode.DETAILED);
+        objectMapper.registerModule(module);
+
+        try {
+            objectMapper.readValue("{\"enum\":\"bar\"}", TestContainer.class);
+            Assert.fail("Expected exception not thrown");
+        } catch (final IOException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(EnumerationNotFoundException.class));
+            Assert.assertNotEquals(0, e.getCause().getStackTrace().length);
+        }
+    }
+
+    private void verifyCharacters(final int length) {
+        Mockito.verify(_strategy).toEnum(
+                Mockito.eq(TestEnum.class),
+                Mockito.any(char[].class),
+                Mockito.anyInt(),
+                Mockito.eq(length));
+    }
+
+    // Calls the default character buffer method which delegates to the stubbed string method
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private EnumerationDeserializerStrategy<TestEnum> _strategy;
 
     private static final class TestContainer {
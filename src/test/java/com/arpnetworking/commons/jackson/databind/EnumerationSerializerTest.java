@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.google.common.collect.ImmutableList;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Tests for the {@link EnumerationSerializer} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class EnumerationSerializerTest {
+
+    @Test
+    public void testSerializer() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper(EnumerationSerializer.newInstance(TestEnum.class));
+
+        Assert.assertEquals("\"FOO\"", objectMapper.writeValueAsString(TestEnum.FOO));
+        Assert.assertEquals("{\"enum\":\"BAR\"}", objectMapper.writeValueAsString(new TestContainer(TestEnum.BAR)));
+        Assert.assertArrayEquals("\"BAR\"".getBytes(StandardCharsets.UTF_8), objectMapper.writeValueAsBytes(TestEnum.BAR));
+    }
+
+    @Test
+    public void testSerializerWithValues() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper(EnumerationSerializer.newInstance(
+                TestEnum.class,
+                ImmutableList.of(new SerializedString("föo"), new SerializedString("b\"ar"))));
+
+        Assert.assertEquals("\"föo\"", objectMapper.writeValueAsString(TestEnum.FOO));
+        Assert.assertArrayEquals("\"b\\\"ar\"".getBytes(StandardCharsets.UTF_8), objectMapper.writeValueAsBytes(TestEnum.BAR));
+        Assert.assertArrayEquals("\"föo\"".getBytes(StandardCharsets.UTF_8), objectMapper.writeValueAsBytes(TestEnum.FOO));
+    }
+
+    @Test
+    public void testWriteEnumsUsingIndex() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper(EnumerationSerializer.newInstance(TestEnum.class));
+        objectMapper.enable(SerializationFeature.WRITE_ENUMS_USING_INDEX);
+
+        Assert.assertEquals("1", objectMapper.writeValueAsString(TestEnum.BAR));
+    }
+
+    @Test
+    public void testWriteEnumsUsingToString() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper(EnumerationSerializer.newInstance(TestEnum.class));
+        objectMapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+
+        Assert.assertEquals("\"bar\"", objectMapper.writeValueAsString(TestEnum.BAR));
+    }
+
+    @Test
+    public void testNumericShape() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper(EnumerationSerializer.newInstance(TestEnum.class));
+
+        Assert.assertEquals(
+                "{\"enum\":\"BAR\",\"index\":1,\"name\":\"BAR\"}",
+                objectMapper.writeValueAsString(new TestIndexContainer(TestEnum.BAR)));
+    }
+
+    @Test
+    public void testStringShape() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper(EnumerationSerializer.newInstance(TestEnum.class));
+        objectMapper.enable(SerializationFeature.WRITE_ENUMS_USING_INDEX);
+
+        Assert.assertEquals(
+                "{\"enum\":1,\"index\":1,\"name\":\"BAR\"}",
+                objectMapper.writeValueAsString(new TestIndexContainer(TestEnum.BAR)));
+    }
+
+    private static ObjectMapper createObjectMapper(final JsonSerializer<TestEnum> serializer) {
+        final SimpleModule module = new SimpleModule();
+        module.addSerializer(TestEnum.class, serializer);
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
+    private static class TestContainer {
+
+        TestContainer(final TestEnum value) {
+            _enum = value;
+        }
+
+        public TestEnum getEnum() {
+            return _enum;
+        }
+
+        private final TestEnum _enum;
+    }
+
+    @JsonPropertyOrder({"enum", "index", "name"})
+    private static final class TestIndexContainer extends TestContainer {
+
+        TestIndexContainer(final TestEnum value) {
+            super(value);
+        }
+
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER)
+        public TestEnum getIndex() {
+            return getEnum();
+        }
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        public TestEnum getName() {
+            return getEnum();
+        }
+    }
+
+    private enum TestEnum {
+        FOO,
+        BAR;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.guava.GuavaModule;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.ServiceConfigurationError;
+import java.util.function.Function;
+
+/**
+ * Tests for the {@link ModuleDiscovery} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class ModuleDiscoveryTest {
+
+    @Test
+    public void testGetModuleConstructors() throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            final List<Constructor<? extends Module>> constructors = ModuleDiscovery.getModuleConstructors(classLoader);
+            MatcherAssert.assertThat(
+                    toClasses(constructors),
+                    Matchers.containsInAnyOrder(GuavaModule.class, Jdk8Module.class, JavaTimeModule.class));
+            Assert.assertSame(constructors, ModuleDiscovery.getModuleConstructors(classLoader));
+        }
+    }
+
+    @Test
+    public void testGetModuleConstructorsServiceLoader() throws Exception {
+        System.setProperty("commons.object-mapper-discover-modules", "true");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            MatcherAssert.assertThat(
+                    toClasses(ModuleDiscovery.getModuleConstructors(classLoader)),
+                    Matchers.hasItems(GuavaModule.class, Jdk8Module.class, JavaTimeModule.class));
+        } finally {
+            System.clearProperty("commons.object-mapper-discover-modules");
+        }
+    }
+
+    @Test
+    public void testGetModuleConstructorsUnavailable() throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], null)) {
+            Assert.assertEquals(List.of(), ModuleDiscovery.getModuleConstructors(classLoader));
+        }
+    }
+
+    @Test
+    public void testDiscoverDefaultModules() {
+        final List<Constructor<? extends Module>> constructors = ModuleDiscovery.discover(
+                getClass().getClassLoader(),
+                () -> {
+                    throw new AssertionError("Service loader used without opt-in");
+                },
+                s -> null);
+        Assert.assertEquals(List.of(GuavaModule.class, Jdk8Module.class, JavaTimeModule.class), toClasses(constructors));
+    }
+
+    @Test
+    public void testDiscoverServiceLoaderDisabled() {
+        final List<Constructor<? extends Module>> constructors = ModuleDiscovery.discover(
+                getClass().getClassLoader(),
+                () -> List.of(new TestModule()),
+                s -> "false");
+        Assert.assertEquals(List.of(GuavaModule.class, Jdk8Module.class, JavaTimeModule.class), toClasses(constructors));
+    }
+
+    @Test
+    public void testDiscoverServiceLoader() {
+        final List<Constructor<? extends Module>> constructors = ModuleDiscovery.discover(
+                getClass().getClassLoader(),
+                () -> List.of(new TestModule(), new GuavaModule()),
+                discoverModules());
+        Assert.assertEquals(
+                List.of(GuavaModule.class, Jdk8Module.class, JavaTimeModule.class, TestModule.class),
+                toClasses(constructors));
+    }
+
+    @Test
+    public void testDiscoverAdditionalModules() {
+        final List<Constructor<? extends Module>> constructors = ModuleDiscovery.discover(
+                getClass().getClassLoader(),
+                List::of,
+                s -> "com.arpnetworking.commons.jackson.databind.ModuleDiscoveryTest$TestModule,foo.bar,"
+                        + "com.fasterxml.jackson.datatype.guava.GuavaModule");
+        Assert.assertEquals(
+                List.of(GuavaModule.class, Jdk8Module.class, JavaTimeModule.class, TestModule.class),
+                toClasses(constructors));
+    }
+
+    @Test
+    public void testDiscoverServiceConfigurationError() {
+        final List<Constructor<? extends Module>> constructors = ModuleDiscovery.discover(
+                getClass().getClassLoader(),
+                () -> FailingIterator::new,
+                discoverModules());
+        Assert.assertEquals(
+                List.of(GuavaModule.class, Jdk8Module.class, JavaTimeModule.class, TestModule.class),
+                toClasses(constructors));
+    }
+
+    @Test
+    public void testDiscoverNoConstructor() {
+        final List<Constructor<? extends Module>> constructors = ModuleDiscovery.discover(
+                getClass().getClassLoader(),
+                () -> List.of(new NamedModule("foo"), new TestModule()),
+                discoverModules("com.arpnetworking.commons.jackson.databind.ModuleDiscoveryTest$NamedModule"));
+        Assert.assertEquals(
+                List.of(GuavaModule.class, Jdk8Module.class, JavaTimeModule.class, TestModule.class),
+                toClasses(constructors));
+    }
+
+    @Test
+    public void testGetAdditionalModuleClassNames() {
+        Assert.assertEquals(List.of(), ModuleDiscovery.getAdditionalModuleClassNames(s -> null));
+        Assert.assertEquals(List.of("foo", "bar"), ModuleDiscovery.getAdditionalModuleClassNames(s -> "foo,bar"));
+    }
+
+    private static Function<String, String> discoverModules() {
+        return s -> "commons.object-mapper-discover-modules".equals(s) ? "true" : null;
+    }
+
+    private static Function<String, String> discoverModules(final String additionalModuleClassNames) {
+        return s -> "commons.object-mapper-discover-modules".equals(s) ? "true" : additionalModuleClassNames;
+    }
+
+    private static List<Class<?>> toClasses(final List<Constructor<? extends Module>> constructors) {
+        final List<Class<?>> classes = new ArrayList<>();
+        for (final Constructor<? extends Module> constructor : constructors) {
+            classes.add(constructor.getDeclaringClass());
+        }
+        return classes;
+    }
+
+    private static final class NamedModule extends SimpleModule {
+
+        NamedModule(final String name) {
+            super(name);
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * Module available through a public no-argument constructor.
+     */
+    public static final class TestModule extends SimpleModule {
+
+        public TestModule() {
+            super("TestModule");
+        }
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class FailingIterator implements Iterator<Module> {
+
+        @Override
+        public boolean hasNext() {
+            if (!_failed) {
+                _failed = true;
+                throw new ServiceConfigurationError("Provider not found");
+            }
+            return !_done;
+        }
+
+        @Override
+        public Module next() {
+            if (_done) {
+                throw new NoSuchElementException();
+            }
+            _done = true;
+            return new TestModule();
+        }
+
+        private boolean _failed;
+        private boolean _done;
+    }
+}
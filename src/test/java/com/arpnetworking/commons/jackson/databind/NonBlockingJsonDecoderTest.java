@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import net.sf.oval.constraint.NotNull;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the {@link NonBlockingJsonDecoder} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class NonBlockingJsonDecoderTest {
+
+    @Test
+    public void testArrayEmitsOnClosingBrace() throws IOException {
+        final String json = "[{\"i\":1},{\"x\":{\"a\":[1,{\"b\":2}]},\"i\":2},null,{\"i\":3}]";
+        final List<Integer> values = new ArrayList<>();
+        final List<Integer> emittedAt = new ArrayList<>();
+        try (NonBlockingJsonDecoder<TestBean> decoder = NonBlockingJsonDecoder.forArray(OBJECT_MAPPER, TestBean.class)) {
+            final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < bytes.length; ++i) {
+                final int index = i;
+                decoder.feed(ByteBuffer.wrap(bytes, i, 1), value -> {
+                    values.add(value.getI());
+                    emittedAt.add(index);
+                });
+            }
+            decoder.endOfInput(value -> Assert.fail("Unexpected value: " + value));
+        }
+        Assert.assertEquals(List.of(1, 2, 3), values);
+        // Each element is emitted when its closing brace is fed
+        Assert.assertEquals(List.of(json.indexOf("},{"), json.indexOf("},null"), json.lastIndexOf('}')), emittedAt);
+    }
+
+    @Test
+    public void testSequence() throws IOException {
+        final List<Integer> values = new ArrayList<>();
+        try (NonBlockingJsonDecoder<TestBean> decoder = NonBlockingJsonDecoder.forSequence(OBJECT_MAPPER, TestBean.class)) {
+            decoder.feed(toBuffer("{\"i\":1}\n{\"i\""), value -> values.add(value.getI()));
+            Assert.assertEquals(List.of(1), values);
+            decoder.feed(toBuffer(":2}\n{\"i\":3}\n"), value -> values.add(value.getI()));
+            Assert.assertEquals(List.of(1, 2, 3), values);
+            decoder.endOfInput(value -> values.add(value.getI()));
+        }
+        Assert.assertEquals(List.of(1, 2, 3), values);
+    }
+
+    @Test
+    public void testSequenceOfScalars() throws IOException {
+        final List<Integer> values = new ArrayList<>();
+        try (NonBlockingJsonDecoder<Integer> decoder = NonBlockingJsonDecoder.forSequence(
+                OBJECT_MAPPER.reader().forType(Integer.class))) {
+            decoder.feed(toBuffer("1 2 3"), values::add);
+            Assert.assertEquals(List.of(1, 2), values);
+            decoder.endOfInput(values::add);
+        }
+        Assert.assertEquals(List.of(1, 2, 3), values);
+    }
+
+    @Test
+    public void testValueAfterArray() throws IOException {
+        final List<Integer> values = new ArrayList<>();
+        try (NonBlockingJsonDecoder<Integer> decoder = NonBlockingJsonDecoder.forArray(
+                OBJECT_MAPPER.reader().forType(Integer.class))) {
+            decoder.feed(toBuffer("[1,2] "), values::add);
+            try {
+                decoder.feed(toBuffer("[3]"), values::add);
+                Assert.fail("Expected exception not thrown");
+            } catch (final MismatchedInputException e) {
+                MatcherAssert.assertThat(e.getMessage(), Matchers.containsString("START_ARRAY"));
+            }
+        }
+        Assert.assertEquals(List.of(1, 2), values);
+    }
+
+    @Test
+    public void testEndOfInputAfterArray() throws IOException {
+        final List<Integer> values = new ArrayList<>();
+        try (NonBlockingJsonDecoder<Integer> decoder = NonBlockingJsonDecoder.forArray(
+                OBJECT_MAPPER.reader().forType(Integer.class))) {
+            decoder.feed(toBuffer("[1,2]\n"), values::add);
+            decoder.endOfInput(values::add);
+        }
+        Assert.assertEquals(List.of(1, 2), values);
+    }
+
+    @Test
+    public void testChunkNotModified() throws IOException {
+        final List<Integer> values = new ArrayList<>();
+        try (NonBlockingJsonDecoder<TestBean> decoder = NonBlockingJsonDecoder.forSequence(OBJECT_MAPPER, TestBean.class)) {
+            final ByteBuffer chunk = ByteBuffer.allocateDirect(64);
+            chunk.put("xx{\"i\":".getBytes(StandardCharsets.UTF_8)).flip().position(2);
+            decoder.feed(chunk, value -> values.add(value.getI()));
+            Assert.assertEquals(2, chunk.position());
+
+            // The chunk may be reused once it has been fed
+            chunk.clear();
+            chunk.put("12}".getBytes(StandardCharsets.UTF_8)).flip();
+            decoder.feed(chunk, value -> values.add(value.getI()));
+            decoder.endOfInput(value -> values.add(value.getI()));
+        }
+        Assert.assertEquals(List.of(12), values);
+    }
+
+    @Test(expected = MismatchedInputException.class)
+    public void testArrayNotArray() throws IOException {
+        try (NonBlockingJsonDecoder<TestBean> decoder = NonBlockingJsonDecoder.forArray(OBJECT_MAPPER, TestBean.class)) {
+            decoder.feed(toBuffer("{\"i\":1}"), value -> Assert.fail("Unexpected value: " + value));
+        }
+    }
+
+    @Test(expected = DatabindException.class)
+    public void testBindFailure() throws IOException {
+        try (NonBlockingJsonDecoder<TestBean> decoder = NonBlockingJsonDecoder.forArray(OBJECT_MAPPER, TestBean.class)) {
+            decoder.feed(toBuffer("[{\"i\":\"x\"}"), value -> Assert.fail("Unexpected value: " + value));
+        }
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void testMalformed() throws IOException {
+        try (NonBlockingJsonDecoder<TestBean> decoder = NonBlockingJsonDecoder.forSequence(OBJECT_MAPPER, TestBean.class)) {
+            decoder.feed(toBuffer("{\"i\":]"), value -> Assert.fail("Unexpected value: " + value));
+        }
+    }
+
+    @Test(expected = JsonEOFException.class)
+    public void testEndOfInputInsideElement() throws IOException {
+        try (NonBlockingJsonDecoder<TestBean> decoder = NonBlockingJsonDecoder.forArray(OBJECT_MAPPER, TestBean.class)) {
+            decoder.feed(toBuffer("[{\"i\":1},{\"i\":"), value -> Assert.assertEquals(1, value.getI()));
+            decoder.endOfInput(value -> Assert.fail("Unexpected value: " + value));
+        }
+    }
+
+    @Test
+    public void testBindFailureIsTerminal() throws IOException {
+        final List<Integer> values = new ArrayList<>();
+        try (NonBlockingJsonDecoder<TestBean> decoder = NonBlockingJsonDecoder.forArray(OBJECT_MAPPER, TestBean.class)) {
+            try {
+                decoder.feed(toBuffer("[{\"i\":1},{\"i\":\"x\"},{\"i\":3}"), value -> values.add(value.getI()));
+                Assert.fail("Expected exception not thrown");
+            } catch (final DatabindException e) {
+                // Expected exception
+            }
+            assertFailed(decoder);
+        }
+        Assert.assertEquals(List.of(1), values);
+    }
+
+    @Test
+    public void testConsumerFailureIsTerminal() throws IOException {
+        try (NonBlockingJsonDecoder<TestBean> decoder = NonBlockingJsonDecoder.forSequence(OBJECT_MAPPER, TestBean.class)) {
+            try {
+                decoder.feed(toBuffer("{\"i\":1}"), value -> {
+                    throw new IllegalArgumentException("Rejected value");
+                });
+                Assert.fail("Expected exception not thrown");
+            } catch (final IllegalArgumentException e) {
+                // Expected exception
+            }
+            assertFailed(decoder);
+        }
+    }
+
+    private static void assertFailed(final NonBlockingJsonDecoder<TestBean> decoder) throws IOException {
+        try {
+            decoder.feed(toBuffer("{\"i\":4}"), value -> Assert.fail("Unexpected value: " + value));
+            Assert.fail("Expected exception not thrown");
+        } catch (final IllegalStateException e) {
+            // Expected exception
+        }
+        try {
+            decoder.endOfInput(value -> Assert.fail("Unexpected value: " + value));
+            Assert.fail("Expected exception not thrown");
+        } catch (final IllegalStateException e) {
+            // Expected exception
+        }
+    }
+
+    private static ByteBuffer toBuffer(final String json) {
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+
+    private static final class TestBean {
+
+        public int getI() {
+            return _i;
+        }
+
+        private TestBean(final Builder builder) {
+            _i = builder._i;
+        }
+
+        private final int _i;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<TestBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(TestBean::new);
+            }
+
+            public Builder setI(final Integer value) {
+                _i = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _i = null;
+            }
+
+            @NotNull
+            private Integer _i;
+        }
+    }
+}
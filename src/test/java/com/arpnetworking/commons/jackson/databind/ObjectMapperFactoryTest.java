@@ -15,16 +15,36 @@
  */
 package com.arpnetworking.commons.jackson.databind;
 
+import com.arpnetworking.commons.builder.OvalBuilder;
+import com.arpnetworking.commons.jackson.databind.prewarm.PreWarmTestBean;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.StreamReadFeature;
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.exception.ConstraintsViolatedException;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
@@ -37,8 +57,12 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tests for {@link ObjectMapperFactory}.
@@ -117,17 +141,33 @@ public class ObjectMapperFactoryTest {
     }
 
     @Test
-    public void testRegisterModule() {
+    public void testRegisterModule() throws NoSuchMethodException {
+        final ObjectMapper objectMapper = Mockito.mock(ObjectMapper.class);
+        ObjectMapperFactory.registerModule(objectMapper, GuavaModule.class.getDeclaredConstructor());
+        Mockito.verify(objectMapper).registerModule(Mockito.any(GuavaModule.class));
+    }
+
+    @Test
+    public void testBadRegisterModule() throws NoSuchMethodException {
+        final ObjectMapper objectMapper = Mockito.mock(ObjectMapper.class);
+        ObjectMapperFactory.registerModule(objectMapper, BadModule.class.getDeclaredConstructor());
+        Mockito.verifyNoInteractions(objectMapper);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testRegisterModuleByName() {
         final ObjectMapper objectMapper = Mockito.mock(ObjectMapper.class);
         ObjectMapperFactory.registerModule(objectMapper, "foo.bar");
         Mockito.verifyNoInteractions(objectMapper);
 
         ObjectMapperFactory.registerModule(objectMapper, "com.fasterxml.jackson.datatype.guava.GuavaModule");
-        Mockito.verify(objectMapper).registerModule(Mockito.any(Module.class));
+        Mockito.verify(objectMapper).registerModule(Mockito.any(GuavaModule.class));
     }
 
     @Test
-    public void testBadRegisterModule() {
+    @SuppressWarnings("deprecation")
+    public void testBadRegisterModuleByName() {
         final ObjectMapper objectMapper = Mockito.mock(ObjectMapper.class);
         ObjectMapperFactory.registerModule(
                 objectMapper,
@@ -136,6 +176,7 @@ public class ObjectMapperFactoryTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     public void testRegisterAdditionalModulesOneModule() {
         final ObjectMapper objectMapper = Mockito.mock(ObjectMapper.class);
         ObjectMapperFactory.registerAdditionalModules(
@@ -145,6 +186,7 @@ public class ObjectMapperFactoryTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     public void testRegisterAdditionalModulesMultipleModules() {
         final ObjectMapper objectMapper = Mockito.mock(ObjectMapper.class);
         ObjectMapperFactory.registerAdditionalModules(
@@ -161,6 +203,7 @@ public class ObjectMapperFactoryTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     public void testRegisterAdditionalModulesNotConfigured() {
         final ObjectMapper objectMapper = Mockito.mock(ObjectMapper.class);
         ObjectMapperFactory.registerAdditionalModules(
@@ -169,6 +212,30 @@ public class ObjectMapperFactoryTest {
         Mockito.verifyNoInteractions(objectMapper);
     }
 
+    @Test
+    public void testDiscoveredModulesRegistered() {
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        MatcherAssert.assertThat(
+                objectMapper.getRegisteredModuleIds(),
+                Matchers.hasItems(
+                        new GuavaModule().getTypeId(),
+                        new Jdk8Module().getTypeId(),
+                        new JavaTimeModule().getTypeId()));
+    }
+
+    @Test
+    public void testGetClassLoader() {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try {
+            Assert.assertSame(contextClassLoader, ObjectMapperFactory.getClassLoader());
+            thread.setContextClassLoader(null);
+            Assert.assertSame(ObjectMapperFactory.class.getClassLoader(), ObjectMapperFactory.getClassLoader());
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
     @Test
     public void testGetClass() {
         final Optional<Class<? extends String>> classA = ObjectMapperFactory.getClass("java.lang.String");
@@ -226,6 +293,194 @@ public class ObjectMapperFactoryTest {
         Assert.assertEquals(actualValue, ZonedDateTime.parse("2014-03-24T12:15:40.008Z"));
     }
 
+    @Test
+    public void testNewInstanceDetailedErrorMode() {
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance(DeserializationErrorMode.DETAILED);
+        Assert.assertTrue(objectMapper.getFactory().isEnabled(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION));
+        Assert.assertTrue(objectMapper.isEnabled(DeserializationFeature.WRAP_EXCEPTIONS));
+        Assert.assertEquals(
+                DeserializationErrorMode.DETAILED,
+                objectMapper.getDeserializationConfig().getAttributes().getAttribute(DeserializationErrorMode.class));
+        assertStandardConfiguration(objectMapper);
+    }
+
+    @Test
+    public void testNewInstanceLightweightErrorMode() {
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance(DeserializationErrorMode.LIGHTWEIGHT);
+        Assert.assertFalse(objectMapper.getFactory().isEnabled(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION));
+        Assert.assertTrue(objectMapper.isEnabled(DeserializationFeature.WRAP_EXCEPTIONS));
+        Assert.assertEquals(
+                DeserializationErrorMode.LIGHTWEIGHT,
+                objectMapper.getDeserializationConfig().getAttributes().getAttribute(DeserializationErrorMode.class));
+        assertStandardConfiguration(objectMapper);
+    }
+
+    @Test
+    public void testGetInstanceErrorMode() {
+        Assert.assertSame(ObjectMapperFactory.getInstance(), ObjectMapperFactory.getInstance(DeserializationErrorMode.DETAILED));
+        final ObjectMapper objectMapper = ObjectMapperFactory.getInstance(DeserializationErrorMode.LIGHTWEIGHT);
+        Assert.assertSame(objectMapper, ObjectMapperFactory.getInstance(DeserializationErrorMode.LIGHTWEIGHT));
+        Assert.assertNotSame(objectMapper, ObjectMapperFactory.getInstance());
+        Assert.assertTrue(objectMapper.isEnabled(DeserializationFeature.WRAP_EXCEPTIONS));
+    }
+
+    @Test
+    public void testLightweightErrorModeWrapsBuildFailure() throws IOException {
+        final ObjectMapper objectMapper = ObjectMapperFactory.getInstance(DeserializationErrorMode.LIGHTWEIGHT);
+        try {
+            objectMapper.readValue("{}", ValidatedBean.class);
+            Assert.fail("Expected exception not thrown");
+        } catch (final JsonMappingException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(ConstraintsViolatedException.class));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetInstanceErrorModeUnmodifiable() {
+        ObjectMapperFactory.getInstance(DeserializationErrorMode.LIGHTWEIGHT).configure(DeserializationFeature.WRAP_EXCEPTIONS, true);
+    }
+
+    @Test
+    public void testNewInstanceRecyclerPool() throws IOException {
+        for (final RecyclerPoolType recyclerPoolType : RecyclerPoolType.values()) {
+            final ObjectMapper objectMapper = ObjectMapperFactory.createInstance(recyclerPoolType);
+            Assert.assertSame(recyclerPoolType.getPool(), objectMapper.getFactory()._getRecyclerPool());
+            Assert.assertTrue(objectMapper.getFactory().isEnabled(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION));
+            assertStandardConfiguration(objectMapper);
+            assertRoundTrip(objectMapper);
+        }
+    }
+
+    @Test
+    public void testDefaultRecyclerPool() {
+        Assert.assertSame(
+                VirtualThreadAwareRecyclerPool.getInstance(),
+                ObjectMapperFactory.createInstance().getFactory()._getRecyclerPool());
+        Assert.assertSame(
+                VirtualThreadAwareRecyclerPool.getInstance(),
+                ObjectMapperFactory.createInstance(DeserializationErrorMode.LIGHTWEIGHT).getFactory()._getRecyclerPool());
+        Assert.assertSame(
+                VirtualThreadAwareRecyclerPool.getInstance(),
+                ObjectMapperFactory.createSmileInstance().getFactory()._getRecyclerPool());
+        Assert.assertSame(
+                VirtualThreadAwareRecyclerPool.getInstance(),
+                ObjectMapperFactory.createCborInstance().getFactory()._getRecyclerPool());
+    }
+
+    @Test
+    public void testNewSmileInstance() throws IOException {
+        final ObjectMapper objectMapper = ObjectMapperFactory.createSmileInstance();
+        Assert.assertNotSame(objectMapper, ObjectMapperFactory.createSmileInstance());
+        MatcherAssert.assertThat(objectMapper.getFactory(), Matchers.instanceOf(SmileFactory.class));
+        assertStandardConfiguration(objectMapper);
+        assertRoundTrip(objectMapper);
+    }
+
+    @Test
+    public void testGetSmileInstance() throws IOException {
+        final ObjectMapper objectMapper = ObjectMapperFactory.getSmileInstance();
+        Assert.assertSame(objectMapper, ObjectMapperFactory.getSmileInstance());
+        assertStandardConfiguration(objectMapper);
+        assertRoundTrip(objectMapper);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetSmileInstanceUnmodifiable() {
+        ObjectMapperFactory.getSmileInstance().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+    }
+
+    @Test
+    public void testNewCborInstance() throws IOException {
+        final ObjectMapper objectMapper = ObjectMapperFactory.createCborInstance();
+        Assert.assertNotSame(objectMapper, ObjectMapperFactory.createCborInstance());
+        MatcherAssert.assertThat(objectMapper.getFactory(), Matchers.instanceOf(CBORFactory.class));
+        assertStandardConfiguration(objectMapper);
+        assertRoundTrip(objectMapper);
+    }
+
+    @Test
+    public void testGetCborInstance() throws IOException {
+        final ObjectMapper objectMapper = ObjectMapperFactory.getCborInstance();
+        Assert.assertSame(objectMapper, ObjectMapperFactory.getCborInstance());
+        assertStandardConfiguration(objectMapper);
+        assertRoundTrip(objectMapper);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetCborInstanceUnmodifiable() {
+        ObjectMapperFactory.getCborInstance().configure(SerializationFeature.INDENT_OUTPUT, true);
+    }
+
+    @Test
+    public void testPreWarm() throws IOException {
+        final CountingModule module = new CountingModule();
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        objectMapper.registerModule(module);
+        ObjectMapperFactory.preWarm(objectMapper, Collections.singletonList(PreWarmTestBean.class));
+        assertPreWarmed(objectMapper, module);
+    }
+
+    @Test
+    public void testPreWarmImmutable() throws IOException {
+        final CountingModule module = new CountingModule();
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        objectMapper.registerModule(module);
+        ObjectMapperFactory.preWarm(ImmutableObjectMapper.of(objectMapper), Collections.singletonList(PreWarmTestBean.class));
+        assertPreWarmed(objectMapper, module);
+    }
+
+    @Test
+    public void testPreWarmPackage() throws IOException {
+        final CountingModule module = new CountingModule();
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        objectMapper.registerModule(module);
+        Assert.assertEquals(
+                Arrays.asList(PreWarmTestBean.class, PreWarmTestBean.Nested.class),
+                ObjectMapperFactory.preWarm(objectMapper, PreWarmTestBean.class.getPackage().getName()));
+        assertPreWarmed(objectMapper, module);
+    }
+
+    @Test
+    public void testPreWarmUnsupportedType() {
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        ObjectMapperFactory.preWarm(objectMapper, Collections.singletonList(UnsupportedBean.class));
+        Assert.assertFalse(objectMapper.writerFor(UnsupportedBean.class).hasPrefetchedSerializer());
+    }
+
+    private static void assertPreWarmed(final ObjectMapper objectMapper, final CountingModule module) throws IOException {
+        // Builder based deserializers are built from the description of the builder
+        Assert.assertEquals(Integer.valueOf(1), module.getDeserializerLookups().get(PreWarmTestBean.Builder.class));
+        Assert.assertEquals(Integer.valueOf(1), module.getSerializerLookups().get(PreWarmTestBean.class));
+
+        final String json = "{\"name\":\"foo\",\"nested\":{\"value\":1}}";
+        final PreWarmTestBean bean = objectMapper.readValue(json, PreWarmTestBean.class);
+        Assert.assertEquals("foo", bean.getName());
+        Assert.assertEquals(objectMapper.readTree(json), objectMapper.readTree(objectMapper.writeValueAsString(bean)));
+
+        Assert.assertEquals(Integer.valueOf(1), module.getDeserializerLookups().get(PreWarmTestBean.Builder.class));
+        Assert.assertEquals(Integer.valueOf(1), module.getSerializerLookups().get(PreWarmTestBean.class));
+    }
+
+    private static void assertStandardConfiguration(final ObjectMapper objectMapper) {
+        Assert.assertTrue(objectMapper.isEnabled(DeserializationFeature.FAIL_ON_TRAILING_TOKENS));
+        Assert.assertFalse(objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        Assert.assertFalse(objectMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+        Assert.assertFalse(objectMapper.isEnabled(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS));
+    }
+
+    private static void assertRoundTrip(final ObjectMapper objectMapper) throws IOException {
+        final ZonedDateTime dateTime = ZonedDateTime.parse("2014-03-24T12:15:40.008Z");
+        final byte[] dateTimeBytes = objectMapper.writeValueAsBytes(dateTime);
+        Assert.assertEquals("2014-03-24T12:15:40.008Z", objectMapper.readTree(dateTimeBytes).textValue());
+        Assert.assertEquals(dateTime, objectMapper.readValue(dateTimeBytes, ZonedDateTime.class));
+
+        final Duration duration = Duration.ofSeconds(10);
+        Assert.assertEquals(duration, objectMapper.readValue(objectMapper.writeValueAsBytes(duration), Duration.class));
+
+        Assert.assertTrue(objectMapper.readTree(objectMapper.writeValueAsBytes(Optional.of(Boolean.TRUE))).booleanValue());
+        Assert.assertTrue(objectMapper.readTree(objectMapper.writeValueAsBytes(Optional.empty())).isNull());
+    }
+
     /**
      * Jackson Module which fails under construction.
      */
@@ -248,4 +503,111 @@ public class ObjectMapperFactoryTest {
         @Override
         public void setupModule(final SetupContext setupContext) {}
     }
+
+    /**
+     * Jackson Module which counts the creation of deserializers and serializers.
+     */
+    private static final class CountingModule extends SimpleModule {
+
+        CountingModule() {
+            super(CountingModule.class.getSimpleName());
+            setDeserializerModifier(_deserializerModifier);
+            setSerializers(_serializers);
+        }
+
+        Map<Class<?>, Integer> getDeserializerLookups() {
+            return _deserializerModifier._lookups;
+        }
+
+        Map<Class<?>, Integer> getSerializerLookups() {
+            return _serializers._lookups;
+        }
+
+        private final CountingDeserializerModifier _deserializerModifier = new CountingDeserializerModifier();
+        private final CountingSerializers _serializers = new CountingSerializers();
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class CountingDeserializerModifier extends BeanDeserializerModifier {
+
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(
+                final DeserializationConfig config,
+                final BeanDescription beanDesc,
+                final JsonDeserializer<?> deserializer) {
+            _lookups.merge(beanDesc.getBeanClass(), 1, Integer::sum);
+            return deserializer;
+        }
+
+        private final ConcurrentHashMap<Class<?>, Integer> _lookups = new ConcurrentHashMap<>();
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class CountingSerializers extends SimpleSerializers {
+
+        @Override
+        public JsonSerializer<?> findSerializer(
+                final SerializationConfig config,
+                final JavaType type,
+                final BeanDescription beanDesc) {
+            _lookups.merge(type.getRawClass(), 1, Integer::sum);
+            return super.findSerializer(config, type, beanDesc);
+        }
+
+        private final ConcurrentHashMap<Class<?>, Integer> _lookups = new ConcurrentHashMap<>();
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class ValidatedBean {
+
+        private ValidatedBean(final Builder builder) {
+            _value = builder._value;
+        }
+
+        private final String _value;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends OvalBuilder<ValidatedBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(ValidatedBean::new);
+            }
+
+            public Builder setValue(final String value) {
+                _value = value;
+                return this;
+            }
+
+            @NotNull
+            private String _value;
+        }
+    }
+
+    /**
+     * Type which can neither be deserialized nor serialized.
+     */
+    private static final class UnsupportedBean {
+
+        @JsonCreator
+        UnsupportedBean(@JsonProperty("a") final String a) {}
+
+        @JsonCreator
+        UnsupportedBean(@JsonProperty("b") final Integer b) {}
+
+        @JsonProperty("x")
+        public String getX() {
+            return "x";
+        }
+
+        @JsonProperty("x")
+        public String getY() {
+            return "y";
+        }
+    }
 }
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import net.sf.oval.constraint.NotNull;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests for the {@link ParallelNdjsonReader} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class ParallelNdjsonReaderTest {
+
+    @Before
+    public void setUp() {
+        _executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        _executor.shutdownNow();
+    }
+
+    @Test
+    public void testStreamInputOrder() throws IOException, InterruptedException {
+        final ParallelNdjsonReader<TestBean> reader = createReader(2, 16, ParallelNdjsonReader.Delivery.INPUT_ORDER);
+        final List<Integer> values = new ArrayList<>();
+        final List<JsonProcessingException> errors = new ArrayList<>();
+        reader.read(toStream(createNdjson(100)), v -> values.add(v.getI()), errors::add);
+        Assert.assertEquals(createExpected(100), values);
+        Assert.assertEquals(10, errors.size());
+    }
+
+    @Test
+    public void testStreamCompletionOrder() throws IOException, InterruptedException {
+        final ParallelNdjsonReader<TestBean> reader = createReader(2, 16, ParallelNdjsonReader.Delivery.COMPLETION_ORDER);
+        final List<Integer> values = new ArrayList<>();
+        final List<JsonProcessingException> errors = new ArrayList<>();
+        reader.read(toStream(createNdjson(100)), v -> values.add(v.getI()), errors::add);
+        Collections.sort(values);
+        Assert.assertEquals(createExpected(100), values);
+        Assert.assertEquals(10, errors.size());
+    }
+
+    @Test
+    public void testStreamLongLines() throws IOException, InterruptedException {
+        final ParallelNdjsonReader<TestBean> reader = createReader(1, 4, ParallelNdjsonReader.Delivery.INPUT_ORDER);
+        final List<Integer> values = new ArrayList<>();
+        reader.read(
+                toStream("{\"i\":1}\n{\"i\":12345678}\n{\"i\":3}"),
+                v -> values.add(v.getI()),
+                e -> Assert.fail("Unexpected error: " + e));
+        Assert.assertEquals(List.of(1, 12345678, 3), values);
+    }
+
+    @Test
+    public void testStreamEndsOnChunkBoundary() throws IOException, InterruptedException {
+        final ParallelNdjsonReader<TestBean> reader = createReader(1, 8, ParallelNdjsonReader.Delivery.INPUT_ORDER);
+        final List<Integer> values = new ArrayList<>();
+        reader.read(
+                toStream("{\"i\":1}\n{\"i\":2}\n"),
+                v -> values.add(v.getI()),
+                e -> Assert.fail("Unexpected error: " + e));
+        Assert.assertEquals(List.of(1, 2), values);
+    }
+
+    @Test
+    public void testStreamEmpty() throws IOException, InterruptedException {
+        final ParallelNdjsonReader<TestBean> reader = new ParallelNdjsonReader<>(
+                OBJECT_MAPPER,
+                TestBean.class,
+                _executor,
+                4,
+                ParallelNdjsonReader.Delivery.INPUT_ORDER);
+        reader.read(
+                toStream(""),
+                v -> Assert.fail("Unexpected value: " + v),
+                e -> Assert.fail("Unexpected error: " + e));
+    }
+
+    @Test
+    public void testFileInputOrder() throws IOException, InterruptedException {
+        final Path file = createFile(createNdjson(100));
+        try {
+            final ParallelNdjsonReader<TestBean> reader = createReader(2, 16, ParallelNdjsonReader.Delivery.INPUT_ORDER);
+            final List<Integer> values = new ArrayList<>();
+            final List<JsonProcessingException> errors = new ArrayList<>();
+            reader.read(file, v -> values.add(v.getI()), errors::add);
+            Assert.assertEquals(createExpected(100), values);
+            Assert.assertEquals(10, errors.size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testFileCompletionOrder() throws IOException, InterruptedException {
+        final Path file = createFile(createNdjson(100));
+        try {
+            final ParallelNdjsonReader<TestBean> reader = createReader(2, 16, ParallelNdjsonReader.Delivery.COMPLETION_ORDER);
+            final List<Integer> values = new ArrayList<>();
+            final List<JsonProcessingException> errors = new ArrayList<>();
+            reader.read(file, v -> values.add(v.getI()), errors::add);
+            Collections.sort(values);
+            Assert.assertEquals(createExpected(100), values);
+            Assert.assertEquals(10, errors.size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testFileLongLines() throws IOException, InterruptedException {
+        final Path file = createFile("{\"i\":1}\n{\"i\":12345678}\n{\"i\":3}\n{\"i\":123456789012}");
+        try {
+            final ParallelNdjsonReader<TestBean> reader = createReader(1, 4, ParallelNdjsonReader.Delivery.INPUT_ORDER);
+            final List<Integer> values = new ArrayList<>();
+            final List<JsonProcessingException> errors = new ArrayList<>();
+            reader.read(file, v -> values.add(v.getI()), errors::add);
+            Assert.assertEquals(List.of(1, 12345678, 3), values);
+            Assert.assertEquals(1, errors.size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testFileEmpty() throws IOException, InterruptedException {
+        final Path file = createFile("");
+        try {
+            final ParallelNdjsonReader<TestBean> reader = createReader(1, 4, ParallelNdjsonReader.Delivery.INPUT_ORDER);
+            reader.read(
+                    file,
+                    v -> Assert.fail("Unexpected value: " + v),
+                    e -> Assert.fail("Unexpected error: " + e));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testStreamMalformedLines() throws IOException, InterruptedException {
+        final ParallelNdjsonReader<TestBean> reader = createReader(1, 1024, ParallelNdjsonReader.Delivery.INPUT_ORDER);
+        final List<Integer> values = new ArrayList<>();
+        final List<JsonProcessingException> errors = new ArrayList<>();
+        reader.read(toStream(MALFORMED_NDJSON), v -> values.add(v.getI()), errors::add);
+        Assert.assertEquals(List.of(1, 3, 5, 6), values);
+        Assert.assertEquals(4, errors.size());
+    }
+
+    @Test
+    public void testFileMalformedLines() throws IOException, InterruptedException {
+        final Path file = createFile(MALFORMED_NDJSON);
+        try {
+            final ParallelNdjsonReader<TestBean> reader = createReader(1, 1024, ParallelNdjsonReader.Delivery.COMPLETION_ORDER);
+            final List<Integer> values = new ArrayList<>();
+            final List<JsonProcessingException> errors = new ArrayList<>();
+            reader.read(file, v -> values.add(v.getI()), errors::add);
+            Assert.assertEquals(List.of(1, 3, 5, 6), values);
+            Assert.assertEquals(4, errors.size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testInputOrderReleasesDeliveredChunks() throws IOException, InterruptedException {
+        final ParallelNdjsonReader<TestBean> reader = createReader(1, 16, ParallelNdjsonReader.Delivery.INPUT_ORDER);
+        final List<WeakReference<TestBean>> delivered = new ArrayList<>();
+        final AtomicBoolean released = new AtomicBoolean();
+        reader.read(
+                toStream(createNdjson(100)),
+                v -> {
+                    delivered.add(new WeakReference<>(v));
+                    if (v.getI() == 98) {
+                        released.set(awaitCollected(delivered.get(0)));
+                    }
+                },
+                e -> { });
+        Assert.assertTrue("The first delivered chunk is still reachable", released.get());
+    }
+
+    @Test
+    public void testStreamChunkFailure() throws IOException, InterruptedException {
+        final ObjectReader objectReader = Mockito.mock(ObjectReader.class);
+        Mockito.doThrow(new IOException("Parser failure"))
+                .when(objectReader).createParser(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt());
+        final ParallelNdjsonReader<TestBean> reader = new ParallelNdjsonReader<>(
+                objectReader,
+                _executor,
+                1,
+                8,
+                ParallelNdjsonReader.Delivery.INPUT_ORDER);
+        try {
+            reader.read(
+                    toStream(createNdjson(10)),
+                    v -> Assert.fail("Unexpected value: " + v),
+                    e -> Assert.fail("Unexpected error: " + e));
+            Assert.fail("Expected exception not thrown");
+        } catch (final IOException e) {
+            Assert.assertEquals("Parser failure", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testFileChunkFailure() throws IOException, InterruptedException {
+        final Path file = createFile(createNdjson(10));
+        try {
+            final ObjectReader objectReader = Mockito.mock(ObjectReader.class);
+            Mockito.doThrow(new IOException("Parser failure"))
+                    .when(objectReader).createParser(Mockito.any(InputStream.class));
+            final ParallelNdjsonReader<TestBean> reader = new ParallelNdjsonReader<>(
+                    objectReader,
+                    _executor,
+                    1,
+                    8,
+                    ParallelNdjsonReader.Delivery.COMPLETION_ORDER);
+            try {
+                reader.read(
+                        file,
+                        v -> Assert.fail("Unexpected value: " + v),
+                        e -> Assert.fail("Unexpected error: " + e));
+                Assert.fail("Expected exception not thrown");
+            } catch (final IOException e) {
+                Assert.assertEquals("Parser failure", e.getCause().getMessage());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testGrow() throws IOException {
+        Assert.assertEquals(32, ParallelNdjsonReader.grow(16));
+        Assert.assertEquals(Integer.MAX_VALUE - 8, ParallelNdjsonReader.grow(Integer.MAX_VALUE / 2));
+        try {
+            ParallelNdjsonReader.grow(Integer.MAX_VALUE - 8);
+            Assert.fail("Expected exception not thrown");
+        } catch (final IOException e) {
+            Assert.assertTrue(e.getMessage().contains("maximum chunk size"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() {
+        new ParallelNdjsonReader<>(OBJECT_MAPPER, TestBean.class, _executor, 0, ParallelNdjsonReader.Delivery.INPUT_ORDER);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidChunkSize() {
+        createReader(1, 0, ParallelNdjsonReader.Delivery.INPUT_ORDER);
+    }
+
+    private ParallelNdjsonReader<TestBean> createReader(
+            final int parallelism,
+            final int chunkSize,
+            final ParallelNdjsonReader.Delivery delivery) {
+        return new ParallelNdjsonReader<>(
+                OBJECT_MAPPER.reader().forType(TestBean.class),
+                _executor,
+                parallelism,
+                chunkSize,
+                delivery);
+    }
+
+    private static String createNdjson(final int count) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; ++i) {
+            if (i % 10 == 9) {
+                builder.append("{\"i\":\"x\"}\n");
+            } else {
+                builder.append("{\"i\":").append(i).append("}\n");
+            }
+        }
+        return builder.toString();
+    }
+
+    private static List<Integer> createExpected(final int count) {
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            if (i % 10 != 9) {
+                expected.add(i);
+            }
+        }
+        return expected;
+    }
+
+    @SuppressFBWarnings(value = "DM_GC", justification = "Verifies that delivered values become unreachable")
+    private static boolean awaitCollected(final WeakReference<?> reference) {
+        for (int i = 0; i < 50 && reference.get() != null; ++i) {
+            System.gc();
+            try {
+                Thread.sleep(10);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return reference.get() == null;
+    }
+
+    private static Path createFile(final String contents) throws IOException {
+        final Path file = Files.createTempFile("parallel-ndjson-reader-test", ".ndjson");
+        Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static InputStream toStream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ExecutorService _executor;
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+    // Malformed within a line, after leading white space, truncated and without a trailing newline
+    private static final String MALFORMED_NDJSON = "{\"i\":1}\n{\"i\":,}\n{\"i\":3}\n \t\r{\"i\"::}\n{\"i\":4\n{\"i\":5}\n{\"i\":6}\n{\"i";
+
+    private static final class TestBean {
+
+        public int getI() {
+            return _i;
+        }
+
+        private TestBean(final Builder builder) {
+            _i = builder._i;
+        }
+
+        private final int _i;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<TestBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(TestBean::new);
+            }
+
+            public Builder setI(final Integer value) {
+                _i = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _i = null;
+            }
+
+            @NotNull
+            private Integer _i;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.collect.ImmutableSet;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.exception.ConstraintsViolatedException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for the {@link ProjectionReader} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class ProjectionReaderTest {
+
+    @Test
+    public void testProjection() throws IOException {
+        final ObjectReader reader = ProjectionReader.forType(OBJECT_MAPPER, TestBean.class, Collections.singleton("id"));
+        final TestBean bean = reader.readValue(JSON);
+        Assert.assertEquals("abc", bean.getId());
+        Assert.assertNull(bean.getName());
+        Assert.assertNull(bean.getAttributes());
+        Assert.assertNull(bean.getRenamed());
+    }
+
+    @Test
+    public void testProjectionMultipleProperties() throws IOException {
+        final ObjectReader reader = ProjectionReader.forType(
+                ObjectMapperFactory.getInstance(),
+                TestBean.class,
+                ImmutableSet.of("id", "attributes", "alias", "missing"));
+        final TestBean bean = reader.readValue(JSON);
+        Assert.assertEquals("abc", bean.getId());
+        Assert.assertNull(bean.getName());
+        Assert.assertEquals(Collections.singletonMap("nested", Arrays.asList(1, 2)), bean.getAttributes());
+        Assert.assertEquals("def", bean.getRenamed());
+    }
+
+    @Test
+    public void testProjectionValidatesProjectedProperties() throws IOException {
+        final ObjectReader reader = ProjectionReader.forType(OBJECT_MAPPER, TestBean.class, Collections.singleton("name"));
+        try {
+            reader.readValue("{\"id\":\"abc\"}");
+            Assert.fail("Expected exception not thrown");
+        } catch (final JsonMappingException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(ConstraintsViolatedException.class));
+        }
+    }
+
+    @Test
+    public void testProjectionValidatesRenamedProperties() throws IOException {
+        final ObjectReader reader = ProjectionReader.forType(OBJECT_MAPPER, TestBean.class, Collections.singleton("alias"));
+        try {
+            reader.readValue("{\"id\":\"abc\"}");
+            Assert.fail("Expected exception not thrown");
+        } catch (final JsonMappingException e) {
+            MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(ConstraintsViolatedException.class));
+        }
+    }
+
+    @Test
+    public void testDerivedReader() throws IOException {
+        final ObjectReader reader = ProjectionReader.forType(OBJECT_MAPPER, TestBean.class, Collections.singleton("id"))
+                .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        try (MappingIterator<TestBean> iterator = reader.readValues(JSON + JSON)) {
+            final List<TestBean> beans = iterator.readAll();
+            Assert.assertEquals(2, beans.size());
+            for (final TestBean bean : beans) {
+                Assert.assertEquals("abc", bean.getId());
+                Assert.assertNull(bean.getName());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotThreadLocalBuilder() throws IOException {
+        ProjectionReader.forType(OBJECT_MAPPER, String.class, Collections.singleton("id"));
+    }
+
+    @Test
+    public void testNotVanilla() throws IOException {
+        try {
+            ProjectionReader.forType(OBJECT_MAPPER, TestViewBean.class, Collections.singleton("id"));
+            Assert.fail("Expected exception not thrown");
+        } catch (final IllegalArgumentException e) {
+            MatcherAssert.assertThat(e.getMessage(), Matchers.containsString(TestViewBean.class.getName()));
+        }
+    }
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.createInstance();
+    private static final String JSON = "{\"name\":\"foo\",\"attributes\":{\"nested\":[1,2]},"
+            + "\"alias\":\"def\",\"other\":[{\"a\":1},2,\"b\"],\"id\":\"abc\"}";
+
+    private static final class TestBean {
+
+        public String getId() {
+            return _id;
+        }
+
+        public String getName() {
+            return _name;
+        }
+
+        public Object getAttributes() {
+            return _attributes;
+        }
+
+        public String getRenamed() {
+            return _renamed;
+        }
+
+        private TestBean(final Builder builder) {
+            _id = builder._id;
+            _name = builder._name;
+            _attributes = builder._attributes;
+            _renamed = builder._renamed;
+        }
+
+        private final String _id;
+        private final String _name;
+        private final Object _attributes;
+        private final String _renamed;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<TestBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(TestBean::new);
+            }
+
+            public Builder setId(final String value) {
+                _id = value;
+                return this;
+            }
+
+            public Builder setName(final String value) {
+                _name = value;
+                return this;
+            }
+
+            public Builder setAttributes(final Object value) {
+                _attributes = value;
+                return this;
+            }
+
+            @JsonProperty("alias")
+            public Builder setRenamed(final String value) {
+                _renamed = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _id = null;
+                _name = null;
+                _attributes = null;
+                _renamed = null;
+            }
+
+            @NotNull
+            private String _id;
+            @NotNull
+            private String _name;
+            private Object _attributes;
+            @NotNull
+            private String _renamed;
+        }
+    }
+
+    private static final class TestViewBean {
+
+        public String getId() {
+            return _id;
+        }
+
+        private TestViewBean(final Builder builder) {
+            _id = builder._id;
+        }
+
+        private final String _id;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<TestViewBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(TestViewBean::new);
+            }
+
+            @JsonView(TestViewBean.class)
+            public Builder setId(final String value) {
+                _id = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _id = null;
+            }
+
+            @NotNull
+            private String _id;
+        }
+    }
+}
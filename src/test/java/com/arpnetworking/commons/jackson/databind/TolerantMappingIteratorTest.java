@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import net.sf.oval.constraint.NotNull;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Tests for the {@link TolerantMappingIterator} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class TolerantMappingIteratorTest {
+
+    @Test
+    public void testArray() throws IOException {
+        final List<JsonProcessingException> errors = new ArrayList<>();
+        try (TolerantMappingIterator<TestBean> iterator = TolerantMappingIterator.forArray(
+                OBJECT_MAPPER,
+                TestBean.class,
+                toStream("[{\"i\":1},{\"i\":\"x\"},{},{\"i\":{\"a\":[1,{\"b\":2}]}},null,{\"i\":3}]"),
+                errors::add)) {
+            Assert.assertEquals(List.of(1, 3), toValues(iterator));
+        }
+        Assert.assertEquals(3, errors.size());
+        for (final JsonProcessingException error : errors) {
+            MatcherAssert.assertThat(error, Matchers.instanceOf(DatabindException.class));
+        }
+    }
+
+    @Test
+    public void testArrayFromParserAtStart() throws IOException {
+        final ObjectReader reader = OBJECT_MAPPER.reader().forType(TestBean.class);
+        final JsonParser parser = reader.createParser("[{\"i\":1},{\"i\":2}]");
+        Assert.assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+        final TolerantMappingIterator<TestBean> iterator = TolerantMappingIterator.forArray(
+                reader,
+                parser,
+                e -> Assert.fail("Unexpected error: " + e));
+        Assert.assertEquals(List.of(1, 2), toValues(iterator));
+    }
+
+    @Test
+    public void testArrayEmpty() throws IOException {
+        final TolerantMappingIterator<TestBean> iterator = TolerantMappingIterator.forArray(
+                OBJECT_MAPPER,
+                TestBean.class,
+                toStream("[]"),
+                e -> Assert.fail("Unexpected error: " + e));
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertFalse(iterator.hasNext());
+        try {
+            iterator.next();
+            Assert.fail("Expected exception not thrown");
+        } catch (final NoSuchElementException e) {
+            // Expected exception
+        }
+    }
+
+    @Test(expected = MismatchedInputException.class)
+    public void testArrayNotArray() throws IOException {
+        TolerantMappingIterator.forArray(
+                OBJECT_MAPPER,
+                TestBean.class,
+                toStream("{\"i\":1}"),
+                e -> Assert.fail("Unexpected error: " + e));
+    }
+
+    @Test
+    public void testSequence() throws IOException {
+        final List<JsonProcessingException> errors = new ArrayList<>();
+        final TolerantMappingIterator<TestBean> iterator = TolerantMappingIterator.forSequence(
+                OBJECT_MAPPER,
+                TestBean.class,
+                toStream("{\"i\":1}\n{\"i\":\"x\"}\n{\"i\":2}\n{\"j\":[{}]}\n{\"i\":3}\n"),
+                errors::add);
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(List.of(1, 2, 3), toValues(iterator));
+        Assert.assertEquals(2, errors.size());
+    }
+
+    @Test
+    public void testElementLocation() throws IOException {
+        final String json = "{\"i\":1}\n{\"i\":2}\n";
+        final ObjectReader reader = OBJECT_MAPPER.reader().forType(TestBean.class);
+        final TolerantMappingIterator<TestBean> byteIterator = TolerantMappingIterator.forSequence(
+                reader,
+                reader.createParser(json.getBytes(StandardCharsets.UTF_8)),
+                e -> Assert.fail("Unexpected error: " + e));
+        final TolerantMappingIterator<TestBean> charIterator = TolerantMappingIterator.forSequence(
+                reader,
+                reader.createParser(json),
+                e -> Assert.fail("Unexpected error: " + e));
+
+        Assert.assertEquals(1, byteIterator.next().getI());
+        Assert.assertEquals(0, byteIterator.getElementLocation().getByteOffset());
+        Assert.assertEquals(1, charIterator.next().getI());
+        Assert.assertEquals(0, charIterator.getElementLocation().getCharOffset());
+
+        // The location follows the end of the preceding element
+        Assert.assertEquals(2, byteIterator.next().getI());
+        final JsonLocation byteLocation = byteIterator.getElementLocation();
+        Assert.assertSame(byteLocation, byteIterator.getElementLocation());
+        Assert.assertEquals(7, byteLocation.getByteOffset());
+        Assert.assertEquals(-1, byteLocation.getCharOffset());
+        Assert.assertEquals(1, byteLocation.getLineNr());
+        Assert.assertEquals(8, byteLocation.getColumnNr());
+        Assert.assertEquals(2, charIterator.next().getI());
+        final JsonLocation charLocation = charIterator.getElementLocation();
+        Assert.assertEquals(-1, charLocation.getByteOffset());
+        Assert.assertEquals(7, charLocation.getCharOffset());
+        Assert.assertEquals(1, charLocation.getLineNr());
+        Assert.assertEquals(8, charLocation.getColumnNr());
+    }
+
+    @Test
+    public void testElementLocationAfterScalar() throws IOException {
+        final ObjectReader reader = OBJECT_MAPPER.reader().forType(Integer.class);
+        final TolerantMappingIterator<Integer> iterator = TolerantMappingIterator.forSequence(
+                reader,
+                reader.createParser("1 22 3".getBytes(StandardCharsets.UTF_8)),
+                e -> Assert.fail("Unexpected error: " + e));
+        Assert.assertEquals(Integer.valueOf(1), iterator.next());
+        Assert.assertEquals(Integer.valueOf(22), iterator.next());
+        Assert.assertEquals(Integer.valueOf(3), iterator.next());
+        Assert.assertEquals(5, iterator.getElementLocation().getByteOffset());
+    }
+
+    @Test
+    public void testElementLocationOtherParser() throws IOException {
+        final TokenBuffer tokens = new TokenBuffer(OBJECT_MAPPER, false);
+        tokens.writeStartObject();
+        tokens.writeNumberField("i", 1);
+        tokens.writeEndObject();
+        final ObjectReader reader = OBJECT_MAPPER.reader().forType(TestBean.class);
+        final TolerantMappingIterator<TestBean> iterator = TolerantMappingIterator.forSequence(
+                reader,
+                tokens.asParser(),
+                e -> Assert.fail("Unexpected error: " + e));
+        Assert.assertEquals(1, iterator.next().getI());
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertNotNull(iterator.getElementLocation());
+    }
+
+    @Test
+    public void testMalformedElement() throws IOException {
+        final List<JsonProcessingException> errors = new ArrayList<>();
+        final TolerantMappingIterator<TestBean> iterator = TolerantMappingIterator.forArray(
+                OBJECT_MAPPER,
+                TestBean.class,
+                toStream("[{\"i\":1},{\"i\":2 ]"),
+                errors::add);
+        Assert.assertEquals(List.of(1), toValues(iterator));
+        Assert.assertEquals(1, errors.size());
+        MatcherAssert.assertThat(errors.get(0), Matchers.not(Matchers.instanceOf(DatabindException.class)));
+    }
+
+    @Test
+    public void testMalformedWhileSkipping() throws IOException {
+        final List<JsonProcessingException> errors = new ArrayList<>();
+        final TolerantMappingIterator<TestBean> iterator = TolerantMappingIterator.forArray(
+                OBJECT_MAPPER,
+                TestBean.class,
+                toStream("[{\"i\":1},{\"i\":\"x\", ]"),
+                errors::add);
+        Assert.assertEquals(List.of(1), toValues(iterator));
+        Assert.assertEquals(2, errors.size());
+        MatcherAssert.assertThat(errors.get(0), Matchers.instanceOf(DatabindException.class));
+        MatcherAssert.assertThat(errors.get(1), Matchers.instanceOf(JsonParseException.class));
+    }
+
+    @Test
+    public void testEndOfInputWhileSkipping() throws IOException {
+        final JsonParser parser = Mockito.mock(JsonParser.class);
+        final JsonStreamContext elementContext = Mockito.mock(JsonStreamContext.class);
+        final JsonStreamContext childContext = Mockito.mock(JsonStreamContext.class);
+        final ObjectReader reader = Mockito.mock(ObjectReader.class);
+        Mockito.doReturn(reader).when(reader).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        Mockito.doReturn(elementContext, childContext).when(parser).getParsingContext();
+        Mockito.doReturn(JsonToken.START_OBJECT, null, null).when(parser).nextToken();
+        Mockito.doThrow(JsonMappingException.from(parser, "Failure")).when(reader).readValue(parser);
+
+        final List<JsonProcessingException> errors = new ArrayList<>();
+        final TolerantMappingIterator<TestBean> iterator = TolerantMappingIterator.forSequence(reader, parser, errors::add);
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(1, errors.size());
+        Mockito.verify(parser, Mockito.times(3)).nextToken();
+    }
+
+    @Test
+    public void testReadFailure() throws IOException {
+        try (InputStream inputStream = new FailingInputStream("{\"i\":1}\n".getBytes(StandardCharsets.UTF_8));
+             TolerantMappingIterator<TestBean> iterator = TolerantMappingIterator.forSequence(
+                     OBJECT_MAPPER,
+                     TestBean.class,
+                     inputStream,
+                     e -> Assert.fail("Unexpected error: " + e))) {
+            Assert.assertEquals(1, iterator.next().getI());
+            try {
+                iterator.hasNext();
+                Assert.fail("Expected exception not thrown");
+            } catch (final UncheckedIOException e) {
+                Assert.assertEquals("Read failure", e.getCause().getMessage());
+            }
+            Assert.assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        final ObjectReader reader = OBJECT_MAPPER.reader().forType(TestBean.class);
+        final JsonParser parser = reader.createParser("{\"i\":1}\n{\"i\":2}");
+        final TolerantMappingIterator<TestBean> iterator = TolerantMappingIterator.forSequence(
+                reader,
+                parser,
+                e -> Assert.fail("Unexpected error: " + e));
+        Assert.assertTrue(iterator.hasNext());
+        iterator.close();
+        Assert.assertTrue(parser.isClosed());
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    private static InputStream toStream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Integer> toValues(final TolerantMappingIterator<TestBean> iterator) {
+        final List<Integer> values = new ArrayList<>();
+        while (iterator.hasNext()) {
+            values.add(iterator.next().getI());
+        }
+        return values;
+    }
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+
+    private static final class FailingInputStream extends InputStream {
+
+        FailingInputStream(final byte[] data) {
+            _data = data;
+        }
+
+        @Override
+        public int read() throws IOException {
+            throw new IOException("Read failure");
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            if (_read) {
+                throw new IOException("Read failure");
+            }
+            _read = true;
+            System.arraycopy(_data, 0, buffer, offset, _data.length);
+            return _data.length;
+        }
+
+        private final byte[] _data;
+        private boolean _read;
+    }
+
+    private static final class TestBean {
+
+        public int getI() {
+            return _i;
+        }
+
+        private TestBean(final Builder builder) {
+            _i = builder._i;
+        }
+
+        private final int _i;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<TestBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(TestBean::new);
+            }
+
+            public Builder setI(final Integer value) {
+                _i = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _i = null;
+            }
+
+            @NotNull
+            private Integer _i;
+        }
+    }
+}
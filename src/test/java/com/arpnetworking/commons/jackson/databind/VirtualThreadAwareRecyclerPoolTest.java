@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for the {@link VirtualThreadAwareRecyclerPool} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class VirtualThreadAwareRecyclerPoolTest {
+
+    @Before
+    public void setUp() {
+        _mocks = MockitoAnnotations.openMocks(this);
+        _pool = new VirtualThreadAwareRecyclerPool(_platformThreadPool, _virtualThreadPool);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        _mocks.close();
+    }
+
+    @Test
+    public void testPlatformThread() {
+        final BufferRecycler linked = new BufferRecycler();
+        final BufferRecycler unlinked = new BufferRecycler();
+        Mockito.doReturn(linked).when(_platformThreadPool).acquireAndLinkPooled();
+        Mockito.doReturn(unlinked).when(_platformThreadPool).acquirePooled();
+
+        Assert.assertSame(linked, _pool.acquireAndLinkPooled());
+        Assert.assertSame(unlinked, _pool.acquirePooled());
+        _pool.releasePooled(linked);
+
+        Mockito.verify(_platformThreadPool).releasePooled(linked);
+        Mockito.verifyNoInteractions(_virtualThreadPool);
+    }
+
+    @Test
+    public void testVirtualThread() throws Exception {
+        final BufferRecycler linked = new BufferRecycler();
+        final BufferRecycler unlinked = new BufferRecycler();
+        Mockito.doReturn(linked).when(_virtualThreadPool).acquireAndLinkPooled();
+        Mockito.doReturn(unlinked).when(_virtualThreadPool).acquirePooled();
+
+        final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        try {
+            final Future<?> future = executor.submit(() -> {
+                Assert.assertTrue(VirtualThreadAwareRecyclerPool.isVirtual(Thread.currentThread()));
+                Assert.assertSame(linked, _pool.acquireAndLinkPooled());
+                Assert.assertSame(unlinked, _pool.acquirePooled());
+                _pool.releasePooled(linked);
+            });
+            future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        Mockito.verify(_virtualThreadPool).releasePooled(linked);
+        Mockito.verifyNoInteractions(_platformThreadPool);
+    }
+
+    @Test
+    public void testClearAndPooledCount() {
+        Mockito.doReturn(true).when(_virtualThreadPool).clear();
+        Mockito.doReturn(3).when(_virtualThreadPool).pooledCount();
+
+        Assert.assertTrue(_pool.clear());
+        Assert.assertEquals(3, _pool.pooledCount());
+        Mockito.verifyNoInteractions(_platformThreadPool);
+    }
+
+    @Test
+    public void testIsVirtual() {
+        Assert.assertFalse(VirtualThreadAwareRecyclerPool.isVirtual(Thread.currentThread()));
+        Assert.assertFalse(VirtualThreadAwareRecyclerPool.isVirtual(new Thread(() -> { })));
+    }
+
+    @Test
+    public void testRecyclesOnVirtualThreads() throws Exception {
+        final RecyclerPool<BufferRecycler> pool = VirtualThreadAwareRecyclerPool.getInstance();
+        final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        try {
+            executor.submit(() -> pool.acquireAndLinkPooled().releaseToPool()).get();
+            final int pooledCount = pool.pooledCount();
+            Assert.assertTrue(pooledCount > 0);
+            executor.submit(() -> pool.acquireAndLinkPooled().releaseToPool()).get();
+            Assert.assertEquals(pooledCount, pool.pooledCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(VirtualThreadAwareRecyclerPool.getInstance());
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assert.assertSame(VirtualThreadAwareRecyclerPool.getInstance(), input.readObject());
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+        // NOTE: Executors.newVirtualThreadPerTaskExecutor is not available when compiling for Java 17
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+    }
+
+    @Mock
+    private RecyclerPool<BufferRecycler> _platformThreadPool;
+    @Mock
+    private RecyclerPool<BufferRecycler> _virtualThreadPool;
+    private RecyclerPool<BufferRecycler> _pool;
+    private AutoCloseable _mocks;
+}
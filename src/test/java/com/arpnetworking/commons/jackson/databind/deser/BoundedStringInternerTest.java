@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.deser;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link BoundedStringInterner} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@SuppressFBWarnings(value = "ES_COMPARING_STRINGS_WITH_EQ", justification = "Instance identity is the behavior under test")
+public final class BoundedStringInternerTest {
+
+    @Test
+    public void testGetInstance() {
+        Assert.assertSame(BoundedStringInterner.getInstance(), BoundedStringInterner.getInstance());
+    }
+
+    @Test
+    public void testHit() {
+        final BoundedStringInterner interner = BoundedStringInterner.create(16, 64);
+        final char[] buffer = "xxhost-1yy".toCharArray();
+        final String first = interner.intern(buffer, 2, 6);
+        Assert.assertEquals("host-1", first);
+        Assert.assertSame(first, interner.intern(buffer, 2, 6));
+        Assert.assertSame(first, interner.intern("host-1".toCharArray(), 0, 6));
+        Assert.assertEquals(2, interner.getHits());
+        Assert.assertEquals(1, interner.getMisses());
+        Assert.assertEquals(2.0 / 3.0, interner.getHitRate(), 0.0001);
+        // Each hit saves a 24 byte string and a 16 + 6 byte array aligned to 24 bytes
+        Assert.assertEquals(96, interner.getEstimatedBytesSaved());
+    }
+
+    @Test
+    public void testNoLookups() {
+        final BoundedStringInterner interner = BoundedStringInterner.create(16, 64);
+        Assert.assertEquals(0.0, interner.getHitRate(), 0.0);
+        Assert.assertEquals(0, interner.getEstimatedBytesSaved());
+    }
+
+    @Test
+    public void testMaximumLength() {
+        final BoundedStringInterner interner = BoundedStringInterner.create(16, 3);
+        final char[] buffer = "abcd".toCharArray();
+        final String first = interner.intern(buffer, 0, 4);
+        Assert.assertEquals("abcd", first);
+        Assert.assertNotSame(first, interner.intern(buffer, 0, 4));
+        Assert.assertSame(interner.intern(buffer, 0, 3), interner.intern(buffer, 0, 3));
+        Assert.assertEquals(1, interner.getHits());
+        Assert.assertEquals(1, interner.getMisses());
+    }
+
+    @Test
+    public void testHashCollision() {
+        // Both pairs have equal hash codes and therefore map to the same slot
+        final BoundedStringInterner interner = BoundedStringInterner.create(1, 64);
+        Assert.assertEquals("Aa".hashCode(), "BB".hashCode());
+        Assert.assertEquals("a".hashCode(), "\u0000a".hashCode());
+        final String aa = interner.intern("Aa".toCharArray(), 0, 2);
+        Assert.assertEquals("BB", interner.intern("BB".toCharArray(), 0, 2));
+        Assert.assertNotSame(aa, interner.intern("Aa".toCharArray(), 0, 2));
+        Assert.assertEquals("a", interner.intern("a".toCharArray(), 0, 1));
+        Assert.assertEquals("\u0000a", interner.intern("\u0000a".toCharArray(), 0, 2));
+        Assert.assertEquals(0, interner.getHits());
+        Assert.assertEquals(5, interner.getMisses());
+    }
+
+    @Test
+    public void testSlotReplacement() {
+        final BoundedStringInterner interner = BoundedStringInterner.create(1, 64);
+        final String foo = interner.intern("foo".toCharArray(), 0, 3);
+        Assert.assertEquals("bar", interner.intern("bar".toCharArray(), 0, 3));
+        Assert.assertNotSame(foo, interner.intern("foo".toCharArray(), 0, 3));
+        Assert.assertEquals(0, interner.getHits());
+    }
+
+    @Test
+    public void testCapacityRounding() {
+        Assert.assertTrue(BoundedStringInterner.create(5, 1).toString().contains("Capacity=8"));
+        Assert.assertTrue(BoundedStringInterner.create(4096, 1).toString().contains("Capacity=4096"));
+        Assert.assertTrue(BoundedStringInterner.create(1, 1).toString().contains("Capacity=1"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        BoundedStringInterner.create(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityTooLarge() {
+        BoundedStringInterner.create((1 << 30) + 1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaximumLength() {
+        BoundedStringInterner.create(1, -1);
+    }
+}
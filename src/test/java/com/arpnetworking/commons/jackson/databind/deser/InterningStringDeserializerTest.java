@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.deser;
+
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+/**
+ * Tests for the {@link InterningStringDeserializer} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class InterningStringDeserializerTest {
+
+    @Test
+    public void testInterned() throws IOException {
+        final BoundedStringInterner interner = BoundedStringInterner.create(16, 64);
+        final ObjectReader reader = createObjectMapper(interner).readerForListOf(String.class);
+        final List<String> values = reader.readValue("[\"foo\",\"bar\",\"foo\",null,\"bar\"]");
+        Assert.assertEquals(5, values.size());
+        Assert.assertSame(values.get(0), values.get(2));
+        Assert.assertSame(values.get(1), values.get(4));
+        Assert.assertNull(values.get(3));
+        Assert.assertEquals(2, interner.getHits());
+        Assert.assertEquals(2, interner.getMisses());
+    }
+
+    @Test
+    public void testCoercion() throws IOException {
+        final BoundedStringInterner interner = BoundedStringInterner.create(16, 64);
+        final ObjectReader reader = createObjectMapper(interner).readerForListOf(String.class);
+        final List<String> values = reader.readValue("[1,true]");
+        Assert.assertEquals(List.of("1", "true"), values);
+        Assert.assertEquals(0, interner.getMisses());
+    }
+
+    @Test
+    public void testSharedInstance() {
+        Assert.assertSame(InterningStringDeserializer.getInstance(), InterningStringDeserializer.getInstance());
+        Assert.assertNotSame(InterningStringDeserializer.getInstance(), new InterningStringDeserializer());
+    }
+
+    @Test
+    public void testProperties() {
+        final InterningStringDeserializer deserializer = InterningStringDeserializer.getInstance();
+        Assert.assertEquals(LogicalType.Textual, deserializer.logicalType());
+        Assert.assertTrue(deserializer.isCachable());
+        Assert.assertEquals(String.class, deserializer.handledType());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(InterningStringDeserializer.newInstance(BoundedStringInterner.create(1, 1)));
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assert.assertSame(InterningStringDeserializer.getInstance(), input.readObject());
+        }
+    }
+
+    private static ObjectMapper createObjectMapper(final BoundedStringInterner interner) {
+        final SimpleModule module = new SimpleModule();
+        module.addDeserializer(String.class, InterningStringDeserializer.newInstance(interner));
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+}
@@ -16,6 +16,7 @@
 package com.arpnetworking.commons.jackson.databind.exceptions;
 
 import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.io.ContentReference;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
@@ -55,6 +56,41 @@ public class EnumerationNotFoundExceptionTest {
         MatcherAssert.assertThat(e.getCause(), Matchers.instanceOf(NullPointerException.class));
     }
 
+    @Test
+    public void testStackTrace() {
+        final EnumerationNotFoundException e = new EnumerationNotFoundException(
+                "FOO",
+                TestEnumeration.class,
+                JsonLocation.NA);
+        Assert.assertNotEquals(0, e.getStackTrace().length);
+    }
+
+    @Test
+    public void testCreateStackless() {
+        final JsonLocation location = new JsonLocation(
+                ContentReference.rawReference(true, "{\"enum\":\"FOO\"}"),
+                9L,
+                9L,
+                1,
+                10);
+        final EnumerationNotFoundException e = EnumerationNotFoundException.createStackless(
+                "FOO",
+                TestEnumeration.class,
+                location);
+        Assert.assertTrue(e.getMessage().contains("FOO"));
+        Assert.assertTrue(e.getMessage().contains(TestEnumeration.class.toString()));
+        Assert.assertEquals(0, e.getStackTrace().length);
+        Assert.assertSame(e, e.fillInStackTrace());
+        Assert.assertEquals(0, e.getStackTrace().length);
+        Assert.assertNull(e.getCause());
+
+        Assert.assertSame(ContentReference.redacted(), e.getLocation().contentReference());
+        Assert.assertEquals(location.getByteOffset(), e.getLocation().getByteOffset());
+        Assert.assertEquals(location.getCharOffset(), e.getLocation().getCharOffset());
+        Assert.assertEquals(location.getLineNr(), e.getLocation().getLineNr());
+        Assert.assertEquals(location.getColumnNr(), e.getLocation().getColumnNr());
+    }
+
     private enum TestEnumeration {
         FOO,
         BAR;
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.exceptions;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.io.ContentReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link StacklessJsonMappingException} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class StacklessJsonMappingExceptionTest {
+
+    @Test
+    public void testConstructor() {
+        final EnumerationNotFoundException cause = EnumerationNotFoundException.createStackless(
+                "FOO",
+                TestEnumeration.class,
+                new JsonLocation(ContentReference.unknown(), 9L, 9L, 1, 10));
+        final StacklessJsonMappingException e = new StacklessJsonMappingException(cause);
+        Assert.assertSame(cause, e.getCause());
+        Assert.assertEquals(cause.getOriginalMessage(), e.getOriginalMessage());
+        Assert.assertSame(cause.getLocation(), e.getLocation());
+        Assert.assertNull(e.getProcessor());
+        Assert.assertEquals(0, e.getStackTrace().length);
+        Assert.assertSame(e, e.fillInStackTrace());
+        Assert.assertEquals(0, e.getStackTrace().length);
+    }
+
+    private enum TestEnumeration {
+        FOO
+    }
+}
@@ -19,12 +19,14 @@ import com.arpnetworking.commons.builder.OvalBuilder;
 import com.arpnetworking.commons.builder.ThreadLocalBuilder;
 import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
 import com.arpnetworking.commons.jackson.databind.annotation.JsonIgnoreBuilder;
+import com.arpnetworking.commons.jackson.databind.annotation.JsonIntern;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
 import com.fasterxml.jackson.databind.introspect.AnnotatedClassResolver;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -64,6 +66,7 @@ public class BuilderAnnotationIntrospectorTest {
         final Class<?> pojoBuilder = _introspector.findPOJOBuilder(annotatedClass);
         Assert.assertNotNull(pojoBuilder);
         Assert.assertEquals(PojoWithBuilder.Builder.class, pojoBuilder);
+        Assert.assertSame(pojoBuilder, new BuilderAnnotationIntrospector().findPOJOBuilder(annotatedClass));
     }
 
     @Test
@@ -96,6 +99,7 @@ public class BuilderAnnotationIntrospectorTest {
         Assert.assertNotNull(pojoBuilderConfig);
         Assert.assertEquals("build", pojoBuilderConfig.buildMethodName);
         Assert.assertEquals("set", pojoBuilderConfig.withPrefix);
+        Assert.assertSame(pojoBuilderConfig, new BuilderAnnotationIntrospector().findPOJOBuilderConfig(annotatedClass));
     }
 
     @Test
@@ -197,6 +201,18 @@ public class BuilderAnnotationIntrospectorTest {
         Assert.fail("build should have thrown");
     }
 
+    @Test
+    @SuppressFBWarnings(value = "ES_COMPARING_STRINGS_WITH_EQ", justification = "Instance identity is the behavior under test")
+    public void testInternedProperty() throws IOException {
+        final String json = "{\"internedVal\":\"foo\",\"strVal\":\"foo\"}";
+        final PojoWithInternedProperty pojo1 = OBJECT_MAPPER.readValue(json, PojoWithInternedProperty.class);
+        final PojoWithInternedProperty pojo2 = OBJECT_MAPPER.readValue(json, PojoWithInternedProperty.class);
+        Assert.assertEquals("foo", pojo1.getInternedVal());
+        Assert.assertEquals("foo", pojo1.getStrVal());
+        Assert.assertSame(pojo1.getInternedVal(), pojo2.getInternedVal());
+        Assert.assertNotSame(pojo1.getStrVal(), pojo2.getStrVal());
+    }
+
     private BuilderAnnotationIntrospector _introspector;
 
     private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
@@ -396,6 +412,58 @@ public class BuilderAnnotationIntrospectorTest {
         }
     }
 
+    /**
+     * Test class.
+     */
+    public static class PojoWithInternedProperty {
+
+        protected PojoWithInternedProperty(final Builder builder) {
+            _internedVal = builder._internedVal;
+            _strVal = builder._strVal;
+        }
+
+        public String getInternedVal() {
+            return _internedVal;
+        }
+
+        public String getStrVal() {
+            return _strVal;
+        }
+
+        private final String _internedVal;
+        private final String _strVal;
+
+        /**
+         * Builder for PojoWithInternedProperty.
+         */
+        public static class Builder extends ThreadLocalBuilder<PojoWithInternedProperty> {
+
+            public Builder() {
+                super(PojoWithInternedProperty::new);
+            }
+
+            @JsonIntern
+            public Builder setInternedVal(final String value) {
+                _internedVal = value;
+                return this;
+            }
+
+            public Builder setStrVal(final String value) {
+                _strVal = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _internedVal = null;
+                _strVal = null;
+            }
+
+            private String _internedVal;
+            private String _strVal;
+        }
+    }
+
     private static final class MyThrowingThreadLocalPojo {
 
         private MyThrowingThreadLocalPojo(final MyThrowingThreadLocalPojo.Builder builder) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.jsr310;
+
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+/**
+ * Tests for the {@link FastJavaTimeModule} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class FastJavaTimeModuleTest {
+
+    @Test
+    public void testRegisteredByObjectMapperFactory() throws Exception {
+        assertWrapped(ObjectMapperFactory.createInstance());
+    }
+
+    @Test
+    public void testRegisteredBeforeJavaTimeModule() throws Exception {
+        assertWrapped(new ObjectMapper().registerModule(new FastJavaTimeModule()).registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    public void testWithoutJavaTimeModule() throws Exception {
+        final ObjectMapper objectMapper = new ObjectMapper().registerModule(new FastJavaTimeModule());
+        MatcherAssert.assertThat(
+                objectMapper.getSerializerProviderInstance().findValueSerializer(Instant.class),
+                Matchers.not(Matchers.instanceOf(Iso8601Serializer.class)));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        final ObjectMapper objectMapper = ObjectMapperFactory.getInstance();
+        final Instant instant = Instant.parse("2014-03-24T12:15:40.008Z");
+        final OffsetDateTime offsetDateTime = OffsetDateTime.parse("2014-03-24T12:15:40.008+01:00");
+        final ZonedDateTime zonedDateTime = ZonedDateTime.parse("2014-03-24T12:15:40.008Z");
+        Assert.assertEquals("\"2014-03-24T12:15:40.008Z\"", objectMapper.writeValueAsString(instant));
+        Assert.assertEquals("\"2014-03-24T12:15:40.008+01:00\"", objectMapper.writeValueAsString(offsetDateTime));
+        Assert.assertEquals("\"2014-03-24T12:15:40.008Z\"", objectMapper.writeValueAsString(zonedDateTime));
+        Assert.assertEquals(instant, objectMapper.readValue("\"2014-03-24T12:15:40.008Z\"", Instant.class));
+        Assert.assertEquals(offsetDateTime, objectMapper.readValue("\"2014-03-24T12:15:40.008+01:00\"", OffsetDateTime.class));
+        Assert.assertEquals(zonedDateTime, objectMapper.readValue("\"2014-03-24T12:15:40.008Z\"", ZonedDateTime.class));
+    }
+
+    private static void assertWrapped(final ObjectMapper objectMapper) throws Exception {
+        for (final Class<?> type : Arrays.asList(Instant.class, OffsetDateTime.class, ZonedDateTime.class)) {
+            MatcherAssert.assertThat(
+                    objectMapper.getSerializerProviderInstance().findValueSerializer(type),
+                    Matchers.instanceOf(Iso8601Serializer.class));
+            // Contextualization must keep the fast path
+            MatcherAssert.assertThat(
+                    objectMapper.getSerializerProviderInstance().findValueSerializer(objectMapper.constructType(type), null),
+                    Matchers.instanceOf(Iso8601Serializer.class));
+        }
+        // Deserializers are only reachable through binding
+        Assert.assertEquals(
+                Instant.parse("2014-03-24T12:15:40.008Z"),
+                objectMapper.readValue("\"2014-03-24T12:15:40.008Z\"", Instant.class));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.jsr310;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for the {@link Iso8601Deserializer} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class Iso8601DeserializerTest {
+
+    @Test
+    public void testDeserialize() throws Exception {
+        assertDeserialize(createObjectMapper(), createReferenceObjectMapper());
+    }
+
+    @Test
+    public void testDeserializeAdjustToContextTimeZone() throws Exception {
+        assertDeserialize(
+                createObjectMapper().enable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE),
+                createReferenceObjectMapper().enable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE));
+    }
+
+    @Test
+    public void testDeserializeInvalid() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        for (final Class<?> type : TYPES) {
+            try {
+                objectMapper.readValue("\"2014-02-30T12:15:40Z\"", type);
+                Assert.fail("Expected exception not thrown");
+            } catch (final InvalidFormatException e) {
+                Assert.assertEquals(type, e.getTargetType());
+            }
+        }
+    }
+
+    @Test
+    public void testDeserializeFormatOverride() throws Exception {
+        final Formatted value = createObjectMapper().readValue("{\"value\":\"2014/03/24 12:15:40 +0100\"}", Formatted.class);
+        Assert.assertEquals(OffsetDateTime.parse("2014-03-24T12:15:40+01:00"), value.getValue());
+    }
+
+    @Test
+    public void testDeserializeJavaTimeFeature() throws Exception {
+        final JavaTimeModule module = new JavaTimeModule().enable(JavaTimeFeature.ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS);
+        final ObjectMapper referenceObjectMapper = createReferenceObjectMapper(module);
+        final Formatted value = createReferenceObjectMapper(module)
+                .registerModule(new FastJavaTimeModule())
+                .readValue("{\"value\":\"1395663340\"}", Formatted.class);
+        Assert.assertEquals(
+                referenceObjectMapper.readValue("{\"value\":\"1395663340\"}", Formatted.class).getValue(),
+                value.getValue());
+    }
+
+    @Test
+    public void testWrap() {
+        for (final InstantDeserializer<?> deserializer : Arrays.asList(
+                InstantDeserializer.INSTANT,
+                InstantDeserializer.OFFSET_DATE_TIME,
+                InstantDeserializer.ZONED_DATE_TIME)) {
+            final JsonDeserializer<?> wrapped = Iso8601Deserializer.wrap(deserializer);
+            MatcherAssert.assertThat(wrapped, Matchers.instanceOf(Iso8601Deserializer.class));
+            Assert.assertSame(deserializer, ((Iso8601Deserializer<?>) wrapped).getDelegate());
+            Assert.assertEquals(deserializer.handledType(), wrapped.handledType());
+        }
+        Assert.assertSame(StringDeserializer.instance, Iso8601Deserializer.wrap(StringDeserializer.instance));
+    }
+
+    @Test
+    public void testLogicalType() {
+        Assert.assertEquals(LogicalType.DateTime, Iso8601Deserializer.wrap(InstantDeserializer.INSTANT).logicalType());
+    }
+
+    private static void assertDeserialize(final ObjectMapper objectMapper, final ObjectMapper referenceObjectMapper) throws Exception {
+        for (final String json : Arrays.asList(
+                "\"2014-03-24T12:15:40Z\"",
+                "\"2014-03-24T12:15:40.008Z\"",
+                "\"2014-03-24T12:15:40.000000008Z\"",
+                "\"2014-03-24T12:15:40.12345-05:30\"",
+                "\"2014-03-24T12:15:40.008+01:00\"",
+                "\"2014-03-24T12:15:40+01:02:03\"",
+                "\"2014-03-24t12:15:40.008z\"",
+                "1395663340.008",
+                "null")) {
+            for (final Class<?> type : TYPES) {
+                Assert.assertEquals(
+                        json + " as " + type,
+                        referenceObjectMapper.readValue(json, type),
+                        objectMapper.readValue(json, type));
+            }
+        }
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        return createReferenceObjectMapper().registerModule(new FastJavaTimeModule());
+    }
+
+    private static ObjectMapper createReferenceObjectMapper() {
+        return createReferenceObjectMapper(new JavaTimeModule());
+    }
+
+    private static ObjectMapper createReferenceObjectMapper(final JavaTimeModule module) {
+        return new ObjectMapper()
+                .registerModule(module)
+                .disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+    }
+
+    private static final List<Class<?>> TYPES = Arrays.asList(Instant.class, OffsetDateTime.class, ZonedDateTime.class);
+
+    private static final class Formatted {
+
+        @JsonCreator
+        Formatted(@JsonProperty("value") @JsonFormat(pattern = "yyyy/MM/dd HH:mm:ss Z") final OffsetDateTime value) {
+            _value = value;
+        }
+
+        public OffsetDateTime getValue() {
+            return _value;
+        }
+
+        private final OffsetDateTime _value;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.jsr310;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.InstantSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.OffsetDateTimeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.ZonedDateTimeSerializer;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.TimeZone;
+
+/**
+ * Tests for the {@link Iso8601Serializer} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class Iso8601SerializerTest {
+
+    @Test
+    public void testSerialize() throws Exception {
+        assertSerialize(createObjectMapper(), createReferenceObjectMapper());
+    }
+
+    @Test
+    public void testSerializeTimestamps() throws Exception {
+        assertSerialize(
+                createObjectMapper().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS),
+                createReferenceObjectMapper().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+
+    @Test
+    public void testSerializeZoneId() throws Exception {
+        assertSerialize(
+                createObjectMapper().enable(SerializationFeature.WRITE_DATES_WITH_ZONE_ID),
+                createReferenceObjectMapper().enable(SerializationFeature.WRITE_DATES_WITH_ZONE_ID));
+    }
+
+    @Test
+    public void testSerializeExplicitTimeZone() throws Exception {
+        final TimeZone timeZone = TimeZone.getTimeZone("America/Los_Angeles");
+        assertSerialize(
+                createObjectMapper().setTimeZone(timeZone),
+                createReferenceObjectMapper().setTimeZone(timeZone));
+        assertSerialize(
+                createObjectMapper().setTimeZone(timeZone).disable(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE),
+                createReferenceObjectMapper().setTimeZone(timeZone).disable(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE));
+    }
+
+    @Test
+    public void testSerializeOutOfRange() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        final ObjectMapper referenceObjectMapper = createReferenceObjectMapper();
+        for (final Object value : new Object[] {
+                Instant.MAX,
+                OffsetDateTime.MIN,
+                ZonedDateTime.parse("+10000-01-01T00:00:00Z")}) {
+            Assert.assertEquals(referenceObjectMapper.writeValueAsString(value), objectMapper.writeValueAsString(value));
+        }
+    }
+
+    @Test
+    public void testSerializeFormatOverride() throws Exception {
+        final Formatted value = new Formatted(OffsetDateTime.parse("2014-03-24T12:15:40.008+01:00"));
+        Assert.assertEquals("{\"value\":\"2014-03-24\"}", createObjectMapper().writeValueAsString(value));
+    }
+
+    @Test
+    public void testSerializeFormatConfigOverride() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        final ObjectMapper referenceObjectMapper = createReferenceObjectMapper();
+        for (final ObjectMapper mapper : Arrays.asList(objectMapper, referenceObjectMapper)) {
+            mapper.configOverride(Instant.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.NUMBER));
+        }
+        final Instant value = Instant.parse("2014-03-24T12:15:40.008Z");
+        Assert.assertEquals(referenceObjectMapper.writeValueAsString(value), objectMapper.writeValueAsString(value));
+    }
+
+    @Test
+    public void testWrap() {
+        for (final JsonSerializer<?> serializer : Arrays.<JsonSerializer<?>>asList(
+                InstantSerializer.INSTANCE,
+                OffsetDateTimeSerializer.INSTANCE,
+                ZonedDateTimeSerializer.INSTANCE)) {
+            final JsonSerializer<?> wrapped = Iso8601Serializer.wrap(serializer);
+            MatcherAssert.assertThat(wrapped, Matchers.instanceOf(Iso8601Serializer.class));
+            Assert.assertSame(serializer, ((Iso8601Serializer<?>) wrapped).getDelegate());
+            Assert.assertEquals(serializer.handledType(), wrapped.handledType());
+        }
+        Assert.assertSame(ToStringSerializer.instance, Iso8601Serializer.wrap(ToStringSerializer.instance));
+    }
+
+    @Test
+    public void testSerializeWithType() throws Exception {
+        final Typed value = new Typed(Instant.parse("2014-03-24T12:15:40.008Z"));
+        Assert.assertEquals(
+                createReferenceObjectMapper().writeValueAsString(value),
+                createObjectMapper().writeValueAsString(value));
+    }
+
+    @Test
+    public void testAcceptJsonFormatVisitor() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        final JsonFormatVisitorWrapper visitor = Mockito.spy(new JsonFormatVisitorWrapper.Base());
+        objectMapper.acceptJsonFormatVisitor(Instant.class, visitor);
+        Mockito.verify(visitor).expectStringFormat(ArgumentMatchers.any());
+    }
+
+    private static void assertSerialize(final ObjectMapper objectMapper, final ObjectMapper referenceObjectMapper) throws Exception {
+        for (final Object value : new Object[] {
+                Instant.parse("2014-03-24T12:15:40Z"),
+                Instant.parse("2014-03-24T12:15:40.008Z"),
+                Instant.parse("2014-03-24T12:15:40.000000008Z"),
+                OffsetDateTime.parse("2014-03-24T12:15:40.008Z"),
+                OffsetDateTime.parse("2014-03-24T12:15:40.12345-05:30"),
+                ZonedDateTime.parse("2014-03-24T12:15:40.008Z"),
+                ZonedDateTime.of(2014, 3, 24, 12, 15, 40, 8_000_000, ZoneId.of("Europe/Helsinki"))}) {
+            Assert.assertEquals(referenceObjectMapper.writeValueAsString(value), objectMapper.writeValueAsString(value));
+        }
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        return createReferenceObjectMapper().registerModule(new FastJavaTimeModule());
+    }
+
+    private static ObjectMapper createReferenceObjectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static final class Formatted {
+
+        Formatted(final OffsetDateTime value) {
+            _value = value;
+        }
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        public OffsetDateTime getValue() {
+            return _value;
+        }
+
+        private final OffsetDateTime _value;
+    }
+
+    private static final class Typed {
+
+        Typed(final Object value) {
+            _value = value;
+        }
+
+        @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+        public Object getValue() {
+            return _value;
+        }
+
+        private final Object _value;
+    }
+}
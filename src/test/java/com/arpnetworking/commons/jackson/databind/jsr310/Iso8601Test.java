@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.jsr310;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+/**
+ * Tests for the {@link Iso8601} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class Iso8601Test {
+
+    @Test
+    public void testFormatInstant() {
+        assertFormatInstant(Instant.EPOCH);
+        assertFormatInstant(Instant.parse("2014-03-24T12:15:40Z"));
+        assertFormatInstant(Instant.parse("2014-03-24T12:15:40.008Z"));
+        assertFormatInstant(Instant.parse("2014-03-24T12:15:40.000008Z"));
+        assertFormatInstant(Instant.parse("2014-03-24T12:15:40.000000008Z"));
+        assertFormatInstant(Instant.parse("2000-02-29T23:59:59.999999999Z"));
+        assertFormatInstant(Instant.parse("0000-01-01T00:00:00Z"));
+        assertFormatInstant(Instant.parse("9999-12-31T23:59:59.123456Z"));
+    }
+
+    @Test
+    public void testFormatInstantRandom() {
+        for (int i = 0; i < 100_000; ++i) {
+            assertFormatInstant(Instant.ofEpochSecond(
+                    randomEpochSecond(),
+                    _random.nextInt(1_000_000_000)));
+        }
+    }
+
+    @Test
+    public void testFormatInstantOutOfRange() {
+        final char[] buffer = new char[Iso8601.MAXIMUM_LENGTH];
+        Assert.assertEquals(-1, Iso8601.formatInstant(Instant.parse("+10000-01-01T00:00:00Z"), buffer));
+        Assert.assertEquals(-1, Iso8601.formatInstant(Instant.parse("-0001-12-31T23:59:59Z"), buffer));
+        Assert.assertEquals(-1, Iso8601.formatInstant(Instant.MIN, buffer));
+        Assert.assertEquals(-1, Iso8601.formatInstant(Instant.MAX, buffer));
+    }
+
+    @Test
+    public void testFormatOffsetDateTime() {
+        assertFormatOffsetDateTime(OffsetDateTime.parse("2014-03-24T12:15:40Z"));
+        assertFormatOffsetDateTime(OffsetDateTime.parse("2014-03-24T12:15:40.008Z"));
+        assertFormatOffsetDateTime(OffsetDateTime.parse("2014-03-24T12:15:40.1+01:00"));
+        assertFormatOffsetDateTime(OffsetDateTime.parse("2014-03-24T12:15:40.000000001-08:00"));
+        assertFormatOffsetDateTime(OffsetDateTime.parse("2014-03-24T12:15:40.12345-05:30"));
+        assertFormatOffsetDateTime(OffsetDateTime.of(
+                LocalDateTime.parse("2014-03-24T12:15:40"),
+                ZoneOffset.ofHoursMinutesSeconds(-1, -2, -3)));
+        assertFormatOffsetDateTime(OffsetDateTime.of(LocalDateTime.parse("2014-03-24T12:15:40"), ZoneOffset.MAX));
+        assertFormatOffsetDateTime(OffsetDateTime.of(LocalDateTime.parse("2014-03-24T12:15:40"), ZoneOffset.MIN));
+    }
+
+    @Test
+    public void testFormatOffsetDateTimeRandom() {
+        for (int i = 0; i < 100_000; ++i) {
+            assertFormatOffsetDateTime(OffsetDateTime.of(
+                    LocalDateTime.ofEpochSecond(
+                            randomEpochSecond(),
+                            _random.nextInt(1_000_000_000),
+                            ZoneOffset.UTC),
+                    ZoneOffset.ofTotalSeconds(_random.nextInt(64_800 * 2) - 64_800)));
+        }
+    }
+
+    @Test
+    public void testFormatOffsetDateTimeOutOfRange() {
+        final char[] buffer = new char[Iso8601.MAXIMUM_LENGTH];
+        Assert.assertEquals(-1, Iso8601.formatOffsetDateTime(LocalDateTime.MAX, ZoneOffset.UTC, buffer));
+        Assert.assertEquals(-1, Iso8601.formatOffsetDateTime(LocalDateTime.MIN, ZoneOffset.UTC, buffer));
+        Assert.assertEquals(-1, Iso8601.formatOffsetDateTime(LocalDateTime.parse("+10000-01-01T00:00:00"), ZoneOffset.UTC, buffer));
+        Assert.assertEquals(-1, Iso8601.formatOffsetDateTime(LocalDateTime.parse("-0001-12-31T23:59:59"), ZoneOffset.UTC, buffer));
+    }
+
+    @Test
+    public void testParse() {
+        assertParse("2014-03-24T12:15:40Z");
+        assertParse("2014-03-24T12:15:40.0Z");
+        assertParse("2014-03-24T12:15:40.008Z");
+        assertParse("2014-03-24T12:15:40.1+01:00");
+        assertParse("2014-03-24T12:15:40.123456789-08:00");
+        assertParse("2014-03-24T12:15:40.12345-05:30");
+        assertParse("2000-02-29T23:59:59.999999999+18:00");
+        assertParse("0000-01-01T00:00:00-18:00");
+    }
+
+    @Test
+    public void testParseRandom() {
+        for (int i = 0; i < 100_000; ++i) {
+            final OffsetDateTime value = OffsetDateTime.of(
+                    LocalDateTime.ofEpochSecond(
+                            randomEpochSecond(),
+                            _random.nextInt(1_000_000_000),
+                            ZoneOffset.UTC),
+                    ZoneOffset.ofTotalSeconds((_random.nextInt(18 * 60 * 2) - 18 * 60) * 60));
+            assertParse(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value));
+        }
+    }
+
+    @Test
+    public void testParseWithOffset() {
+        final char[] buffer = "xx2014-03-24T12:15:40Zxx".toCharArray();
+        Assert.assertEquals(
+                OffsetDateTime.parse("2014-03-24T12:15:40Z"),
+                Iso8601.parse(buffer, 2, buffer.length - 4, OffsetDateTime::of));
+    }
+
+    @Test
+    public void testParseUnsupported() {
+        // Shorter than the minimum
+        assertNotParsed("2014-03-24T12:15Z");
+        // Invalid digits
+        assertNotParsed("2O14-03-24T12:15:40Z");
+        assertNotParsed("2014-0/-24T12:15:40Z");
+        assertNotParsed("2014-03-2:T12:15:40Z");
+        assertNotParsed("2014-03-24T1a:15:40Z");
+        assertNotParsed("2014-03-24T12:-5:40Z");
+        assertNotParsed("2014-03-24T12:15:4 Z");
+        assertNotParsed("+2014-03-24T12:15:40Z");
+        // Invalid separators
+        assertNotParsed("2014/03-24T12:15:40Z");
+        assertNotParsed("2014-03/24T12:15:40Z");
+        assertNotParsed("2014-03-24 12:15:40Z");
+        assertNotParsed("2014-03-24T12.15:40Z");
+        assertNotParsed("2014-03-24T12:15.40Z");
+        // Invalid fractions
+        assertNotParsed("2014-03-24T12:15:40.Z");
+        assertNotParsed("2014-03-24T12:15:40.1234567890Z");
+        assertNotParsed("2014-03-24T12:15:40.123");
+        // Invalid zones
+        assertNotParsed("2014-03-24T12:15:40");
+        assertNotParsed("2014-03-24T12:15:40z");
+        assertNotParsed("2014-03-24T12:15:40ZZ");
+        assertNotParsed("2014-03-24T12:15:40+01");
+        assertNotParsed("2014-03-24T12:15:40+01:00:00");
+        assertNotParsed("2014-03-24T12:15:40*01:00");
+        assertNotParsed("2014-03-24T12:15:40+0a:00");
+        assertNotParsed("2014-03-24T12:15:40+01:a0");
+        assertNotParsed("2014-03-24T12:15:40+01:60");
+        assertNotParsed("2014-03-24T12:15:40+01-00");
+        assertNotParsed("2014-03-24T12:15:40[UTC]");
+        // Invalid values
+        assertNotParsed("2014-02-30T12:15:40Z");
+        assertNotParsed("2014-13-24T12:15:40Z");
+        assertNotParsed("2014-03-24T24:15:40Z");
+        assertNotParsed("2014-03-24T12:15:40+19:00");
+    }
+
+    private long randomEpochSecond() {
+        // Seconds from 0000-01-01T00:00:00Z through 9999-12-31T23:59:59Z
+        return Math.floorMod(_random.nextLong(), 315_569_520_000L) - 62_167_219_200L;
+    }
+
+    private static void assertFormatInstant(final Instant value) {
+        final char[] buffer = new char[Iso8601.MAXIMUM_LENGTH];
+        final int length = Iso8601.formatInstant(value, buffer);
+        Assert.assertEquals(DateTimeFormatter.ISO_INSTANT.format(value), String.valueOf(buffer, 0, length));
+    }
+
+    private static void assertFormatOffsetDateTime(final OffsetDateTime value) {
+        final char[] buffer = new char[Iso8601.MAXIMUM_LENGTH];
+        final int length = Iso8601.formatOffsetDateTime(value.toLocalDateTime(), value.getOffset(), buffer);
+        Assert.assertEquals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value), String.valueOf(buffer, 0, length));
+    }
+
+    private static void assertParse(final String value) {
+        final char[] buffer = value.toCharArray();
+        Assert.assertEquals(
+                OffsetDateTime.parse(value),
+                Iso8601.parse(buffer, 0, buffer.length, OffsetDateTime::of));
+    }
+
+    private static void assertNotParsed(final String value) {
+        final char[] buffer = value.toCharArray();
+        Assert.assertNull(Iso8601.parse(buffer, 0, buffer.length, OffsetDateTime::of));
+    }
+
+    private final Random _random = new Random(0);
+}
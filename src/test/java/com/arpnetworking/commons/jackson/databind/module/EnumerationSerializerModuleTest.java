@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.module;
+
+import com.arpnetworking.commons.jackson.databind.EnumerationSerializer;
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.EnumNamingStrategies;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.EnumNaming;
+import com.fasterxml.jackson.databind.cfg.EnumFeature;
+import com.google.common.collect.ImmutableList;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link EnumerationSerializerModule} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class EnumerationSerializerModuleTest {
+
+    @Test
+    public void testSerializesAsJackson() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        final ObjectMapper defaultObjectMapper = ObjectMapperFactory.createInstance();
+
+        assertSerializer(objectMapper, PlainEnum.class, true);
+        final Object value = ImmutableList.of(PlainEnum.FOO, PlainEnum.BAR, PlainEnum.BODY);
+        Assert.assertEquals(defaultObjectMapper.writeValueAsString(value), objectMapper.writeValueAsString(value));
+        Assert.assertEquals("[\"FOO\",\"BAR\",\"BODY\"]", objectMapper.writeValueAsString(value));
+    }
+
+    @Test
+    public void testRenamedConstant() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+
+        assertSerializer(objectMapper, RenamedEnum.class, true);
+        Assert.assertEquals("[\"foo\",\"BAR\"]", objectMapper.writeValueAsString(RenamedEnum.values()));
+    }
+
+    @Test
+    public void testWriteEnumsToLowerCase() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+        objectMapper.configure(EnumFeature.WRITE_ENUMS_TO_LOWERCASE, true);
+
+        Assert.assertEquals("[\"foo\",\"bar\",\"body\"]", objectMapper.writeValueAsString(PlainEnum.values()));
+    }
+
+    @Test
+    public void testJsonValue() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+
+        assertSerializer(objectMapper, ValueEnum.class, false);
+        Assert.assertEquals("[\"value-foo\"]", objectMapper.writeValueAsString(ValueEnum.values()));
+    }
+
+    @Test
+    public void testNumericShape() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+
+        assertSerializer(objectMapper, NumericEnum.class, false);
+        Assert.assertEquals("[0,1]", objectMapper.writeValueAsString(NumericEnum.values()));
+    }
+
+    @Test
+    public void testStringShape() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+
+        assertSerializer(objectMapper, StringEnum.class, true);
+        Assert.assertEquals("[\"FOO\"]", objectMapper.writeValueAsString(StringEnum.values()));
+    }
+
+    @Test
+    public void testEnumNaming() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+
+        assertSerializer(objectMapper, NamingEnum.class, false);
+        Assert.assertEquals("[\"foo-bar\"]", objectMapper.writeValueAsString(NamingEnum.values()));
+    }
+
+    @Test
+    public void testNonEnum() throws Exception {
+        final ObjectMapper objectMapper = createObjectMapper();
+
+        Assert.assertEquals("\"FOO\"", objectMapper.writeValueAsString("FOO"));
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        objectMapper.registerModule(new EnumerationSerializerModule());
+        return objectMapper;
+    }
+
+    private static void assertSerializer(final ObjectMapper objectMapper, final Class<?> type, final boolean expected)
+            throws Exception {
+        MatcherAssert.assertThat(
+                objectMapper.getSerializerProviderInstance().findValueSerializer(type),
+                expected ? Matchers.instanceOf(EnumerationSerializer.class)
+                        : Matchers.not(Matchers.instanceOf(EnumerationSerializer.class)));
+    }
+
+    private enum PlainEnum {
+        FOO,
+        BAR,
+        BODY {
+            @Override
+            public String toString() {
+                return "body";
+            }
+        }
+    }
+
+    private enum RenamedEnum {
+        @JsonProperty("foo")
+        FOO,
+        BAR
+    }
+
+    private enum ValueEnum {
+        FOO;
+
+        @JsonValue
+        public String getValue() {
+            return "value-foo";
+        }
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.NUMBER)
+    private enum NumericEnum {
+        FOO,
+        BAR
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private enum StringEnum {
+        FOO
+    }
+
+    @EnumNaming(EnumNamingStrategies.KebabCaseStrategy.class)
+    private enum NamingEnum {
+        FOO_BAR
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.jackson.databind.prewarm;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import net.sf.oval.constraint.NotNull;
+
+/**
+ * Builder based type found when pre-warming this package.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class PreWarmTestBean {
+
+    public String getName() {
+        return _name;
+    }
+
+    public Nested getNested() {
+        return _nested;
+    }
+
+    private PreWarmTestBean(final Builder builder) {
+        _name = builder._name;
+        _nested = builder._nested;
+    }
+
+    private final String _name;
+    private final Nested _nested;
+
+    /**
+     * {@link com.arpnetworking.commons.builder.Builder} implementation for
+     * {@link PreWarmTestBean}.
+     */
+    public static final class Builder extends ThreadLocalBuilder<PreWarmTestBean> {
+
+        /**
+         * Public constructor.
+         */
+        public Builder() {
+            super(PreWarmTestBean::new);
+        }
+
+        /**
+         * Set the name.
+         *
+         * @param value The name.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setName(final String value) {
+            _name = value;
+            return this;
+        }
+
+        /**
+         * Set the nested value.
+         *
+         * @param value The nested value.
+         * @return This {@link Builder} instance.
+         */
+        public Builder setNested(final Nested value) {
+            _nested = value;
+            return this;
+        }
+
+        @Override
+        protected void reset() {
+            _name = null;
+            _nested = null;
+        }
+
+        @NotNull
+        private String _name;
+        private Nested _nested;
+    }
+
+    /**
+     * Nested builder based type found when pre-warming this package.
+     */
+    public static final class Nested {
+
+        public int getValue() {
+            return _value;
+        }
+
+        private Nested(final Builder builder) {
+            _value = builder._value;
+        }
+
+        private final int _value;
+
+        /**
+         * {@link com.arpnetworking.commons.builder.Builder} implementation for
+         * {@link Nested}.
+         */
+        public static final class Builder extends ThreadLocalBuilder<Nested> {
+
+            /**
+             * Public constructor.
+             */
+            public Builder() {
+                super(Nested::new);
+            }
+
+            /**
+             * Set the value.
+             *
+             * @param value The value.
+             * @return This {@link Builder} instance.
+             */
+            public Builder setValue(final Integer value) {
+                _value = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _value = null;
+            }
+
+            @NotNull
+            private Integer _value;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.arpnetworking.commons.jackson.databind.introspect.BuilderAnnotationIntrospector;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * Performance test of cold deserializer construction for a large set of
+ * synthetic builder based types. Each round creates new
+ * {@link ObjectMapper} instances and constructs the deserializer of every
+ * type with each; the builder of each type is found by the
+ * {@link BuilderAnnotationIntrospector}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class BuilderAnnotationIntrospectorTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/builder-annotation-introspector-performance-test.json"));
+    private static final int TYPES = 2_000;
+    private static final int MAPPERS = 4;
+    private static final String PACKAGE_NAME = "com.arpnetworking.commons.performance.synthetic";
+    private static final List<Class<?>> SYNTHETIC_TYPES = new ArrayList<>(TYPES);
+    private static URLClassLoader gClassLoader;
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() throws IOException, ClassNotFoundException {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+
+        final Path directory = Files.createTempDirectory("synthetic-types");
+        final Path packageDirectory = Files.createDirectories(directory.resolve(PACKAGE_NAME.replace('.', '/')));
+        final List<String> arguments = new ArrayList<>(Arrays.asList(
+                "-classpath",
+                System.getProperty("java.class.path"),
+                "-d",
+                directory.toString()));
+        for (int i = 0; i < TYPES; ++i) {
+            final Path sourceFile = packageDirectory.resolve("Type" + i + ".java");
+            Files.write(sourceFile, createSource("Type" + i).getBytes(StandardCharsets.UTF_8));
+            arguments.add(sourceFile.toString());
+        }
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assert.assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+
+        gClassLoader = new URLClassLoader(
+                new URL[] {directory.toUri().toURL()},
+                BuilderAnnotationIntrospectorTestPerf.class.getClassLoader());
+        for (int i = 0; i < TYPES; ++i) {
+            SYNTHETIC_TYPES.add(Class.forName(PACKAGE_NAME + ".Type" + i, true, gClassLoader));
+        }
+    }
+
+    @AfterClass
+    public static void tearDown() throws IOException {
+        gClassLoader.close();
+    }
+
+    @Test
+    public void coldDeserializerConstruction() throws IOException {
+        for (int i = 0; i < MAPPERS; ++i) {
+            final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+            for (final Class<?> type : SYNTHETIC_TYPES) {
+                Assert.assertNotNull(objectMapper.readValue(JSON, type));
+            }
+        }
+    }
+
+    private static String createSource(final String className) {
+        return String.format(
+                "package %1$s;%n"
+                        + "public final class %2$s {%n"
+                        + "    public String getName() { return _name; }%n"
+                        + "    public long getValue() { return _value; }%n"
+                        + "    private %2$s(final Builder builder) { _name = builder._name; _value = builder._value; }%n"
+                        + "    private final String _name;%n"
+                        + "    private final long _value;%n"
+                        + "    public static final class Builder extends com.arpnetworking.commons.builder.ThreadLocalBuilder<%2$s> {%n"
+                        + "        public Builder() { super(%2$s::new); }%n"
+                        + "        public Builder setName(final String value) { _name = value; return this; }%n"
+                        + "        public Builder setValue(final Long value) { _value = value; return this; }%n"
+                        + "        @Override protected void reset() { _name = null; _value = null; }%n"
+                        + "        private String _name;%n"
+                        + "        private Long _value;%n"
+                        + "    }%n"
+                        + "}%n",
+                PACKAGE_NAME,
+                className);
+    }
+
+    private static final String JSON = "{\"name\":\"foo\",\"value\":1}";
+}
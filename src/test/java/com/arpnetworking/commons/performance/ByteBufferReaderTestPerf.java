@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import com.arpnetworking.commons.jackson.databind.ByteBufferReader;
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import net.sf.oval.constraint.NotNull;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Performance test comparing binding a large JSON file through an
+ * {@link InputStream} with binding it from a memory mapped file and from a
+ * direct {@link ByteBuffer} using {@link ByteBufferReader}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class ByteBufferReaderTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/byte-buffer-reader-performance-test.json"));
+    private static final int ELEMENTS = 500_000;
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.createInstance();
+    private static final ObjectReader READER = OBJECT_MAPPER.reader().forType(
+            OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, TestBean.class));
+    private static Path gFile;
+    private static ByteBuffer gDirectBuffer;
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+
+        gFile = Files.createTempFile("byte-buffer-reader-performance-test", ".json");
+        try (Writer writer = Files.newBufferedWriter(gFile, StandardCharsets.UTF_8)) {
+            writer.write('[');
+            for (int i = 0; i < ELEMENTS; ++i) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(String.format("{\"name\":\"element-%d\",\"value\":%d,\"tags\":[\"a\",\"b\"]}", i, i));
+            }
+            writer.write(']');
+        }
+        final byte[] content = Files.readAllBytes(gFile);
+        gDirectBuffer = ByteBuffer.allocateDirect(content.length);
+        gDirectBuffer.put(content).flip();
+    }
+
+    @AfterClass
+    public static void tearDown() throws IOException {
+        Files.delete(gFile);
+    }
+
+    @Test
+    public void inputStream() throws IOException {
+        try (InputStream inputStream = Files.newInputStream(gFile)) {
+            assertElements(READER.readValue(inputStream));
+        }
+    }
+
+    @Test
+    public void mappedFile() throws IOException {
+        assertElements(ByteBufferReader.readValue(READER, gFile));
+    }
+
+    @Test
+    public void directBuffer() throws IOException {
+        assertElements(ByteBufferReader.readValue(READER, gDirectBuffer));
+    }
+
+    private static void assertElements(final List<TestBean> elements) {
+        Assert.assertEquals(ELEMENTS, elements.size());
+    }
+
+    private static final class TestBean {
+
+        private TestBean(final Builder builder) {
+            _name = builder._name;
+            _value = builder._value;
+            _tags = builder._tags;
+        }
+
+        private final String _name;
+        private final long _value;
+        private final Object _tags;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<TestBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(TestBean::new);
+            }
+
+            public Builder setName(final String value) {
+                _name = value;
+                return this;
+            }
+
+            public Builder setValue(final Long value) {
+                _value = value;
+                return this;
+            }
+
+            public Builder setTags(final Object value) {
+                _tags = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _name = null;
+                _value = null;
+                _tags = null;
+            }
+
+            @NotNull
+            private String _name;
+            @NotNull
+            private Long _value;
+            private Object _tags;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.hostresolver.CachingHostResolver;
+import com.arpnetworking.commons.hostresolver.HostResolver;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Performance test of {@link CachingHostResolver} under contention. The
+ * wrapped resolver simulates a slow lookup; when the time to live is short
+ * the cached value expires continuously, but since only one caller refreshes
+ * while all others receive the stale value the time per lookup should match
+ * that of a value which never expires.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class CachingHostResolverTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/caching-host-resolver-performance-test.json"));
+    private static final int THREADS = 8;
+    private static final int LOOKUPS_PER_THREAD = 1_000_000;
+    private static final long LOOKUP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final HostResolver SLOW_HOST_RESOLVER = new HostResolver() {
+        @Override
+        public String getLocalHostName() {
+            LockSupport.parkNanos(LOOKUP_NANOS);
+            return "host.example.com";
+        }
+    };
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+    }
+
+    @Test
+    public void withinTtl() throws Exception {
+        runTest(Duration.ofHours(1));
+    }
+
+    @Test
+    public void acrossTtl() throws Exception {
+        runTest(Duration.ofMillis(1));
+    }
+
+    private void runTest(final Duration ttl) throws Exception {
+        final HostResolver hostResolver = new CachingHostResolver(SLOW_HOST_RESOLVER, ttl);
+        hostResolver.getLocalHostName();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; ++i) {
+                futures.add(executor.submit(() -> {
+                    int length = 0;
+                    for (int j = 0; j < LOOKUPS_PER_THREAD; ++j) {
+                        length += hostResolver.getLocalHostName().length();
+                    }
+                    return length;
+                }));
+            }
+            for (final Future<Integer> future : futures) {
+                Assert.assertTrue(future.get() > 0);
+            }
+        } finally {
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.jackson.databind.DeserializationErrorMode;
+import com.arpnetworking.commons.jackson.databind.EnumerationDeserializer;
+import com.arpnetworking.commons.jackson.databind.EnumerationDeserializerStrategyUsingLookupTable;
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+/**
+ * Performance test comparing the cost of rejecting invalid enumeration values
+ * in each {@link DeserializationErrorMode}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class DeserializationErrorModeTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/deserialization-error-mode-performance-test.json"));
+    private static final int DOCUMENTS = 100_000;
+    private static final byte[] INVALID_DOCUMENT = "{\"enum\":\"unknown\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+    }
+
+    @Test
+    public void detailed() {
+        runTest(DeserializationErrorMode.DETAILED);
+    }
+
+    @Test
+    public void lightweight() {
+        runTest(DeserializationErrorMode.LIGHTWEIGHT);
+    }
+
+    private void runTest(final DeserializationErrorMode errorMode) {
+        final SimpleModule module = new SimpleModule();
+        module.addDeserializer(
+                TestEnum.class,
+                EnumerationDeserializer.newInstance(TestEnum.class, EnumerationDeserializerStrategyUsingLookupTable.newInstance()));
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance(errorMode);
+        objectMapper.registerModule(module);
+        final ObjectReader reader = objectMapper.reader().forType(TestContainer.class);
+
+        int errors = 0;
+        for (int i = 0; i < DOCUMENTS; ++i) {
+            try {
+                reader.readValue(INVALID_DOCUMENT);
+            } catch (final IOException e) {
+                ++errors;
+            }
+        }
+        Assert.assertEquals(DOCUMENTS, errors);
+    }
+
+    private static final class TestContainer {
+
+        public void setEnum(final TestEnum value) {
+            _enum = value;
+        }
+
+        public TestEnum getEnum() {
+            return _enum;
+        }
+
+        private TestEnum _enum;
+    }
+
+    private enum TestEnum {
+        FOO,
+        BAR
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.jackson.databind.EnumerationDeserializer;
+import com.arpnetworking.commons.jackson.databind.EnumerationDeserializerStrategy;
+import com.arpnetworking.commons.jackson.databind.EnumerationDeserializerStrategyUsingLookupTable;
+import com.arpnetworking.commons.jackson.databind.EnumerationDeserializerStrategyUsingToUpperCase;
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.arpnetworking.commons.jackson.databind.TolerantMappingIterator;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Performance test comparing {@link EnumerationDeserializerStrategy}
+ * implementations on payloads of known and unknown enumeration values.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class EnumerationDeserializerStrategyTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/enumeration-deserializer-strategy-performance-test.json"));
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnumerationDeserializerStrategyTestPerf.class);
+    private static final int VALUES = 1_000_000;
+    private static final byte[] KNOWN_VALUES;
+    private static final byte[] UNKNOWN_VALUES;
+
+    static {
+        final StringBuilder known = new StringBuilder();
+        final StringBuilder unknown = new StringBuilder();
+        final TestEnum[] constants = TestEnum.values();
+        for (int i = 0; i < VALUES; ++i) {
+            known.append('"').append(constants[i % constants.length].name().toLowerCase(Locale.ROOT)).append("\"\n");
+            unknown.append("\"unknown_").append(i % 100).append("\"\n");
+        }
+        KNOWN_VALUES = known.toString().getBytes(StandardCharsets.UTF_8);
+        UNKNOWN_VALUES = unknown.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+    }
+
+    @Test
+    public void toUpperCaseKnown() throws IOException {
+        runTest(EnumerationDeserializerStrategyUsingToUpperCase.newInstance(), KNOWN_VALUES);
+    }
+
+    @Test
+    public void toUpperCaseUnknown() throws IOException {
+        runTest(EnumerationDeserializerStrategyUsingToUpperCase.newInstance(), UNKNOWN_VALUES);
+    }
+
+    @Test
+    public void lookupTableKnown() throws IOException {
+        runTest(EnumerationDeserializerStrategyUsingLookupTable.newInstance(), KNOWN_VALUES);
+    }
+
+    @Test
+    public void lookupTableUnknown() throws IOException {
+        runTest(EnumerationDeserializerStrategyUsingLookupTable.newInstance(), UNKNOWN_VALUES);
+    }
+
+    private void runTest(final EnumerationDeserializerStrategy<TestEnum> strategy, final byte[] values) throws IOException {
+        final SimpleModule module = new SimpleModule();
+        module.addDeserializer(TestEnum.class, EnumerationDeserializer.newInstance(TestEnum.class, strategy));
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        objectMapper.registerModule(module);
+        final ObjectReader reader = objectMapper.reader().forType(TestEnum.class);
+
+        final AtomicInteger errors = new AtomicInteger();
+        int count = 0;
+        try (TolerantMappingIterator<TestEnum> iterator = TolerantMappingIterator.forSequence(
+                reader,
+                reader.createParser(values),
+                e -> errors.incrementAndGet())) {
+            while (iterator.hasNext()) {
+                iterator.next();
+                ++count;
+            }
+        }
+        LOGGER.info(
+                "Strategy {} matched: {} failed: {}",
+                strategy.getClass().getSimpleName(),
+                count,
+                errors.get());
+    }
+
+    private enum TestEnum {
+        ALPHA,
+        BRAVO,
+        CHARLIE,
+        DELTA,
+        ECHO,
+        FOXTROT,
+        GOLF,
+        HOTEL
+    }
+}
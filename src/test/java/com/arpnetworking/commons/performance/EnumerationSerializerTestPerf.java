@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.arpnetworking.commons.jackson.databind.module.EnumerationSerializerModule;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Performance test comparing serializing enum dense records with Jackson's
+ * enum serializer and with the pre-encoded serializer registered by
+ * {@link EnumerationSerializerModule}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class EnumerationSerializerTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/enumeration-serializer-performance-test.json"));
+    private static final int ELEMENTS = 500_000;
+    private static final List<TestRecord> RECORDS = new ArrayList<>();
+    private static final ObjectWriter JACKSON_WRITER = ObjectMapperFactory.createInstance().writer();
+    private static final ObjectWriter PRE_ENCODED_WRITER = createPreEncodedWriter();
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+
+        final Level[] levels = Level.values();
+        final Unit[] units = Unit.values();
+        for (int i = 0; i < ELEMENTS; ++i) {
+            RECORDS.add(new TestRecord(levels[i % levels.length], units[i % units.length], levels[i / 7 % levels.length]));
+        }
+    }
+
+    @Test
+    public void jackson() throws IOException {
+        assertBytes(JACKSON_WRITER.writeValueAsBytes(RECORDS));
+    }
+
+    @Test
+    public void preEncoded() throws IOException {
+        assertBytes(PRE_ENCODED_WRITER.writeValueAsBytes(RECORDS));
+    }
+
+    private static void assertBytes(final byte[] bytes) {
+        Assert.assertTrue(bytes.length > ELEMENTS);
+    }
+
+    private static ObjectWriter createPreEncodedWriter() {
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        objectMapper.registerModule(new EnumerationSerializerModule());
+        return objectMapper.writer();
+    }
+
+    private enum Level {
+        TRACE,
+        DEBUG,
+        INFO,
+        WARNING,
+        ERROR,
+        CRITICAL
+    }
+
+    private enum Unit {
+        NANOSECOND,
+        MICROSECOND,
+        MILLISECOND,
+        SECOND,
+        BYTE,
+        KILOBYTE,
+        MEGABYTE
+    }
+
+    private static final class TestRecord {
+
+        TestRecord(final Level level, final Unit unit, final Level threshold) {
+            _level = level;
+            _unit = unit;
+            _threshold = threshold;
+        }
+
+        public Level getLevel() {
+            return _level;
+        }
+
+        public Unit getUnit() {
+            return _unit;
+        }
+
+        public Level getThreshold() {
+            return _threshold;
+        }
+
+        private final Level _level;
+        private final Unit _unit;
+        private final Level _threshold;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.arpnetworking.commons.jackson.databind.deser.BoundedStringInterner;
+import com.arpnetworking.commons.jackson.databind.deser.InterningStringDeserializer;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import net.sf.oval.constraint.NotNull;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Performance test comparing deserializing highly repetitive string values
+ * with and without the {@link InterningStringDeserializer}. The deserialized
+ * values are retained for the duration of each round to reflect the heap
+ * pressure of long lived values; the interning hit rate and estimated heap
+ * saved are logged.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class InterningStringDeserializerTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/interning-string-deserializer-performance-test.json"));
+    private static final Logger LOGGER = LoggerFactory.getLogger(InterningStringDeserializerTestPerf.class);
+    private static final int DOCUMENTS = 500_000;
+    private static final int HOSTS = 200;
+    private static final int METRICS = 50;
+    private static final List<byte[]> DOCUMENTS_JSON = createDocuments();
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+    }
+
+    @Test
+    public void standard() throws IOException {
+        runTest(ObjectMapperFactory.createInstance());
+    }
+
+    @Test
+    public void interned() throws IOException {
+        final BoundedStringInterner interner = BoundedStringInterner.create(4096, 64);
+        final SimpleModule module = new SimpleModule();
+        module.addDeserializer(String.class, InterningStringDeserializer.newInstance(interner));
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance();
+        objectMapper.registerModule(module);
+        runTest(objectMapper);
+        LOGGER.info(
+                "Interned hit rate: {} estimated bytes saved: {}",
+                interner.getHitRate(),
+                interner.getEstimatedBytesSaved());
+    }
+
+    private void runTest(final ObjectMapper objectMapper) throws IOException {
+        final ObjectReader reader = objectMapper.reader().forType(TestBean.class);
+        final List<TestBean> retained = new ArrayList<>(DOCUMENTS);
+        for (final byte[] document : DOCUMENTS_JSON) {
+            retained.add(reader.readValue(document));
+        }
+        Assert.assertEquals(DOCUMENTS, retained.size());
+    }
+
+    private static List<byte[]> createDocuments() {
+        final List<byte[]> documents = new ArrayList<>(DOCUMENTS);
+        for (int i = 0; i < DOCUMENTS; ++i) {
+            documents.add(
+                    String.format(
+                            "{\"host\":\"host-%d.us-west-2.example.com\",\"metric\":\"service/request/latency-%d\",\"value\":%d}",
+                            i % HOSTS,
+                            i % METRICS,
+                            i)
+                            .getBytes(StandardCharsets.UTF_8));
+        }
+        return documents;
+    }
+
+    private static final class TestBean {
+
+        private TestBean(final Builder builder) {
+            _host = builder._host;
+            _metric = builder._metric;
+            _value = builder._value;
+        }
+
+        private final String _host;
+        private final String _metric;
+        private final long _value;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<TestBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(TestBean::new);
+            }
+
+            public Builder setHost(final String value) {
+                _host = value;
+                return this;
+            }
+
+            public Builder setMetric(final String value) {
+                _metric = value;
+                return this;
+            }
+
+            public Builder setValue(final Long value) {
+                _value = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _host = null;
+                _metric = null;
+                _value = null;
+            }
+
+            @NotNull
+            private String _host;
+            @NotNull
+            private String _metric;
+            @NotNull
+            private Long _value;
+        }
+    }
+}
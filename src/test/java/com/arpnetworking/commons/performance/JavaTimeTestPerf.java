@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.jackson.databind.jsr310.FastJavaTimeModule;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+/**
+ * Performance test comparing serializing and deserializing {@link Instant}
+ * and {@link OffsetDateTime} values with {@link JavaTimeModule} and with
+ * {@link FastJavaTimeModule}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class JavaTimeTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/java-time-performance-test.json"));
+    private static final int VALUES = 1_000_000;
+    private static final Random RANDOM = new Random(0);
+    private static final Instant[] INSTANTS = createInstants();
+    private static final OffsetDateTime[] OFFSET_DATE_TIMES = createOffsetDateTimes();
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+    }
+
+    @Test
+    public void javaTimeModuleInstant() throws IOException {
+        runTest(createObjectMapper(), Instant.class, INSTANTS);
+    }
+
+    @Test
+    public void fastJavaTimeModuleInstant() throws IOException {
+        runTest(createObjectMapper().registerModule(new FastJavaTimeModule()), Instant.class, INSTANTS);
+    }
+
+    @Test
+    public void javaTimeModuleOffsetDateTime() throws IOException {
+        runTest(createObjectMapper(), OffsetDateTime.class, OFFSET_DATE_TIMES);
+    }
+
+    @Test
+    public void fastJavaTimeModuleOffsetDateTime() throws IOException {
+        runTest(createObjectMapper().registerModule(new FastJavaTimeModule()), OffsetDateTime.class, OFFSET_DATE_TIMES);
+    }
+
+    private <T> void runTest(final ObjectMapper objectMapper, final Class<T> type, final T[] values) throws IOException {
+        final ObjectWriter writer = objectMapper.writerFor(type);
+        final ObjectReader reader = objectMapper.readerFor(type);
+        for (final T value : values) {
+            final T actual = reader.readValue(writer.writeValueAsBytes(value));
+            Assert.assertNotNull(actual);
+        }
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static Instant[] createInstants() {
+        final Instant[] values = new Instant[VALUES];
+        for (int i = 0; i < VALUES; ++i) {
+            values[i] = Instant.ofEpochSecond(1_700_000_000L + RANDOM.nextInt(100_000_000), RANDOM.nextInt(1000) * 1_000_000L);
+        }
+        return values;
+    }
+
+    private static OffsetDateTime[] createOffsetDateTimes() {
+        final OffsetDateTime[] values = new OffsetDateTime[VALUES];
+        for (int i = 0; i < VALUES; ++i) {
+            values[i] = OffsetDateTime.ofInstant(
+                    Instant.ofEpochSecond(1_700_000_000L + RANDOM.nextInt(100_000_000), RANDOM.nextInt(1_000_000) * 1000L),
+                    ZoneOffset.ofHours(RANDOM.nextInt(25) - 12));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import com.arpnetworking.commons.jackson.databind.NonBlockingJsonDecoder;
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.sf.oval.constraint.NotNull;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Performance test comparing binding a JSON array received in chunks by
+ * accumulating the complete input before binding and by binding elements
+ * incrementally with {@link NonBlockingJsonDecoder}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class NonBlockingJsonDecoderTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/non-blocking-json-decoder-performance-test.json"));
+    private static final int ELEMENTS = 200_000;
+    private static final int CHUNK_SIZE = 16 * 1024;
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+    private static final byte[] DOCUMENT = createDocument();
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+    }
+
+    @Test
+    public void accumulate() throws IOException {
+        final ByteArrayOutputStream accumulated = new ByteArrayOutputStream();
+        for (int offset = 0; offset < DOCUMENT.length; offset += CHUNK_SIZE) {
+            accumulated.write(DOCUMENT, offset, Math.min(CHUNK_SIZE, DOCUMENT.length - offset));
+        }
+        long count = 0;
+        try (MappingIterator<TestBean> iterator = OBJECT_MAPPER.reader().forType(TestBean.class).readValues(accumulated.toByteArray())) {
+            while (iterator.hasNext()) {
+                iterator.next();
+                ++count;
+            }
+        }
+        Assert.assertEquals(ELEMENTS, count);
+    }
+
+    @Test
+    public void nonBlocking() throws IOException {
+        final LongAdder count = new LongAdder();
+        try (NonBlockingJsonDecoder<TestBean> decoder = NonBlockingJsonDecoder.forArray(OBJECT_MAPPER, TestBean.class)) {
+            for (int offset = 0; offset < DOCUMENT.length; offset += CHUNK_SIZE) {
+                decoder.feed(
+                        ByteBuffer.wrap(DOCUMENT, offset, Math.min(CHUNK_SIZE, DOCUMENT.length - offset)),
+                        v -> count.increment());
+            }
+            decoder.endOfInput(v -> count.increment());
+        }
+        Assert.assertEquals(ELEMENTS, count.sum());
+    }
+
+    private static byte[] createDocument() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < ELEMENTS; ++i) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":")
+                    .append(i)
+                    .append(",\"name\":\"element-")
+                    .append(i)
+                    .append("\",\"value\":")
+                    .append(i * 0.5)
+                    .append('}');
+        }
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class TestBean {
+
+        private TestBean(final Builder builder) {
+            _id = builder._id;
+            _name = builder._name;
+            _value = builder._value;
+        }
+
+        private final long _id;
+        private final String _name;
+        private final double _value;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<TestBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(TestBean::new);
+            }
+
+            public Builder setId(final Long value) {
+                _id = value;
+                return this;
+            }
+
+            public Builder setName(final String value) {
+                _name = value;
+                return this;
+            }
+
+            public Builder setValue(final Double value) {
+                _value = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _id = null;
+                _name = null;
+                _value = null;
+            }
+
+            @NotNull
+            private Long _id;
+            @NotNull
+            private String _name;
+            @NotNull
+            private Double _value;
+        }
+    }
+}
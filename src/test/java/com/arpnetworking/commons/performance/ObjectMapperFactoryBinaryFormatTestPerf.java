@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import net.sf.oval.constraint.NotNull;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Performance test comparing the payload size and round trip speed of the
+ * JSON, Smile and CBOR instances from {@link ObjectMapperFactory}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class ObjectMapperFactoryBinaryFormatTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/object-mapper-factory-binary-format-performance-test.json"));
+    private static final Logger LOGGER = LoggerFactory.getLogger(ObjectMapperFactoryBinaryFormatTestPerf.class);
+    private static final int ITERATIONS = 1000;
+    private static final List<TestBean> PAYLOAD = new ArrayList<>();
+
+    static {
+        final ZonedDateTime start = ZonedDateTime.parse("2026-01-01T00:00:00.000Z");
+        for (int i = 0; i < 1000; ++i) {
+            final int index = i;
+            PAYLOAD.add(ThreadLocalBuilder.build(
+                    TestBean.Builder.class,
+                    b -> b.setId((long) index)
+                            .setName("element-" + index)
+                            .setValue(index * 0.5)
+                            .setTimestamp(start.plusSeconds(index))));
+        }
+    }
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+    }
+
+    @Test
+    public void json() throws IOException {
+        runTest("JSON", ObjectMapperFactory.getInstance());
+    }
+
+    @Test
+    public void smile() throws IOException {
+        runTest("Smile", ObjectMapperFactory.getSmileInstance());
+    }
+
+    @Test
+    public void cbor() throws IOException {
+        runTest("CBOR", ObjectMapperFactory.getCborInstance());
+    }
+
+    private void runTest(final String format, final ObjectMapper objectMapper) throws IOException {
+        final ObjectReader reader = objectMapper.reader().forType(TestBean[].class);
+        int size = 0;
+        for (int i = 0; i < ITERATIONS; ++i) {
+            final byte[] bytes = objectMapper.writeValueAsBytes(PAYLOAD);
+            final TestBean[] beans = reader.readValue(bytes);
+            Assert.assertEquals(PAYLOAD.size(), beans.length);
+            size = bytes.length;
+        }
+        LOGGER.info("Format {} payload size was: {} bytes", format, size);
+    }
+
+    private static final class TestBean {
+
+        public long getId() {
+            return _id;
+        }
+
+        public String getName() {
+            return _name;
+        }
+
+        public double getValue() {
+            return _value;
+        }
+
+        public ZonedDateTime getTimestamp() {
+            return _timestamp;
+        }
+
+        private TestBean(final Builder builder) {
+            _id = builder._id;
+            _name = builder._name;
+            _value = builder._value;
+            _timestamp = builder._timestamp;
+        }
+
+        private final long _id;
+        private final String _name;
+        private final double _value;
+        private final ZonedDateTime _timestamp;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<TestBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(TestBean::new);
+            }
+
+            public Builder setId(final Long value) {
+                _id = value;
+                return this;
+            }
+
+            public Builder setName(final String value) {
+                _name = value;
+                return this;
+            }
+
+            public Builder setValue(final Double value) {
+                _value = value;
+                return this;
+            }
+
+            public Builder setTimestamp(final ZonedDateTime value) {
+                _timestamp = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _id = null;
+                _name = null;
+                _value = null;
+                _timestamp = null;
+            }
+
+            @NotNull
+            private Long _id;
+            @NotNull
+            private String _name;
+            @NotNull
+            private Double _value;
+            @NotNull
+            private ZonedDateTime _timestamp;
+        }
+    }
+}
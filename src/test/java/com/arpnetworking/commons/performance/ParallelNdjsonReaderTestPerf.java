@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.arpnetworking.commons.jackson.databind.ParallelNdjsonReader;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import net.sf.oval.constraint.NotNull;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Performance test for {@link ParallelNdjsonReader} at different levels of
+ * parallelism reading a memory mapped file.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class ParallelNdjsonReaderTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/parallel-ndjson-reader-performance-test.json"));
+    private static final int LINES = 1_000_000;
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final Path PERF_DIRECTORY = Paths.get("target/perf");
+    private static final Path FILE = PERF_DIRECTORY.resolve("parallel-ndjson-reader-performance-test.ndjson");
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+        Files.createDirectories(PERF_DIRECTORY);
+        try (BufferedWriter writer = Files.newBufferedWriter(FILE, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < LINES; ++i) {
+                writer.write("{\"id\":");
+                writer.write(Integer.toString(i));
+                writer.write(",\"name\":\"element-");
+                writer.write(Integer.toString(i));
+                writer.write("\",\"value\":");
+                writer.write(Double.toString(i * 0.5));
+                writer.write("}\n");
+            }
+        }
+    }
+
+    @AfterClass
+    public static void tearDown() throws IOException {
+        Files.deleteIfExists(FILE);
+    }
+
+    @Test
+    public void singleThread() throws IOException, InterruptedException {
+        runTest(1);
+    }
+
+    @Test
+    public void fourThreads() throws IOException, InterruptedException {
+        runTest(4);
+    }
+
+    @Test
+    public void sixteenThreads() throws IOException, InterruptedException {
+        runTest(16);
+    }
+
+    private void runTest(final int threads) throws IOException, InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final ParallelNdjsonReader<TestBean> reader = new ParallelNdjsonReader<>(
+                    ObjectMapperFactory.getInstance().reader().forType(TestBean.class),
+                    executor,
+                    threads,
+                    CHUNK_SIZE,
+                    ParallelNdjsonReader.Delivery.INPUT_ORDER);
+            final LongAdder count = new LongAdder();
+            reader.read(
+                    FILE,
+                    v -> count.increment(),
+                    e -> Assert.fail("Unexpected error: " + e));
+            Assert.assertEquals(LINES, count.sum());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class TestBean {
+
+        private TestBean(final Builder builder) {
+            _id = builder._id;
+            _name = builder._name;
+            _value = builder._value;
+        }
+
+        private final long _id;
+        private final String _name;
+        private final double _value;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<TestBean> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(TestBean::new);
+            }
+
+            public Builder setId(final Long value) {
+                _id = value;
+                return this;
+            }
+
+            public Builder setName(final String value) {
+                _name = value;
+                return this;
+            }
+
+            public Builder setValue(final Double value) {
+                _value = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _id = null;
+                _name = null;
+                _value = null;
+            }
+
+            @NotNull
+            private Long _id;
+            @NotNull
+            private String _name;
+            @NotNull
+            private Double _value;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.builder.ThreadLocalBuilder;
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.arpnetworking.commons.jackson.databind.ProjectionReader;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import net.sf.oval.constraint.NotNull;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+/**
+ * Performance test comparing binding all properties of a large document with
+ * binding a projection of one property using {@link ProjectionReader}.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class ProjectionReaderTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/projection-reader-performance-test.json"));
+    private static final int DOCUMENTS = 100_000;
+    private static final int ATTRIBUTES = 50;
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.createInstance();
+    private static byte[] gDocument;
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+
+        final StringBuilder document = new StringBuilder("{\"attributes\":{");
+        for (int i = 0; i < ATTRIBUTES; ++i) {
+            if (i > 0) {
+                document.append(',');
+            }
+            document.append("\"attribute").append(i).append("\":{\"values\":[1,2,3],\"label\":\"label").append(i).append("\"}");
+        }
+        document.append("},\"name\":\"document\",\"route\":\"primary\"}");
+        gDocument = document.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void full() throws IOException {
+        read(OBJECT_MAPPER.readerFor(Document.class));
+    }
+
+    @Test
+    public void projection() throws IOException {
+        read(ProjectionReader.forType(OBJECT_MAPPER, Document.class, Collections.singleton("route")));
+    }
+
+    private static void read(final ObjectReader reader) throws IOException {
+        for (int i = 0; i < DOCUMENTS; ++i) {
+            final Document document = reader.readValue(gDocument);
+            Assert.assertEquals("primary", document.getRoute());
+        }
+    }
+
+    private static final class Document {
+
+        public String getRoute() {
+            return _route;
+        }
+
+        private Document(final Builder builder) {
+            _route = builder._route;
+            _name = builder._name;
+            _attributes = builder._attributes;
+        }
+
+        private final String _route;
+        private final String _name;
+        private final Object _attributes;
+
+        // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+        public static final class Builder extends ThreadLocalBuilder<Document> {
+            // CHECKSTYLE.ON: RedundantModifierCheck
+
+            // CHECKSTYLE.OFF: RedundantModifierCheck - Invoked reflectively
+            public Builder() {
+                // CHECKSTYLE.ON: RedundantModifierCheck
+                super(Document::new);
+            }
+
+            public Builder setRoute(final String value) {
+                _route = value;
+                return this;
+            }
+
+            public Builder setName(final String value) {
+                _name = value;
+                return this;
+            }
+
+            public Builder setAttributes(final Object value) {
+                _attributes = value;
+                return this;
+            }
+
+            @Override
+            protected void reset() {
+                _route = null;
+                _name = null;
+                _attributes = null;
+            }
+
+            @NotNull
+            private String _route;
+            @NotNull
+            private String _name;
+            @NotNull
+            private Object _attributes;
+        }
+    }
+}
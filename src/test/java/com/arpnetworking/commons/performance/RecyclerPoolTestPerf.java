@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.jackson.databind.ObjectMapperFactory;
+import com.arpnetworking.commons.jackson.databind.RecyclerPoolType;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Performance test comparing each {@link RecyclerPoolType} when serializing
+ * from a large number of virtual threads. Allocation pressure is reflected
+ * in the garbage collection invocations and time recorded for each round.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class RecyclerPoolTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/recycler-pool-performance-test.json"));
+    private static final int VIRTUAL_THREADS = 10_000;
+    private static final int DOCUMENTS_PER_THREAD = 10;
+    private static final Map<String, Object> DOCUMENT = Map.of(
+            "name", "recycler-pool",
+            "values", List.of(1, 2, 3, 5, 8, 13, 21, 34, 55, 89),
+            "nested", Map.of("enabled", true, "ratio", 0.75));
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+    }
+
+    @Test
+    public void virtualThreadAware() throws Exception {
+        runTest(RecyclerPoolType.VIRTUAL_THREAD_AWARE);
+    }
+
+    @Test
+    public void threadLocal() throws Exception {
+        runTest(RecyclerPoolType.THREAD_LOCAL);
+    }
+
+    @Test
+    public void concurrentDeque() throws Exception {
+        runTest(RecyclerPoolType.CONCURRENT_DEQUE);
+    }
+
+    @Test
+    public void bounded() throws Exception {
+        runTest(RecyclerPoolType.BOUNDED);
+    }
+
+    @Test
+    public void none() throws Exception {
+        runTest(RecyclerPoolType.NONE);
+    }
+
+    private void runTest(final RecyclerPoolType recyclerPoolType) throws Exception {
+        final ObjectMapper objectMapper = ObjectMapperFactory.createInstance(recyclerPoolType);
+        // NOTE: Executors.newVirtualThreadPerTaskExecutor is not available when compiling for Java 17
+        final ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>(VIRTUAL_THREADS);
+            for (int i = 0; i < VIRTUAL_THREADS; ++i) {
+                futures.add(executor.submit(() -> {
+                    int bytes = 0;
+                    for (int j = 0; j < DOCUMENTS_PER_THREAD; ++j) {
+                        bytes += objectMapper.writeValueAsBytes(DOCUMENT).length;
+                    }
+                    return bytes;
+                }));
+            }
+            for (final Future<Integer> future : futures) {
+                Assert.assertTrue(future.get() > 0);
+            }
+        } finally {
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+    }
+}
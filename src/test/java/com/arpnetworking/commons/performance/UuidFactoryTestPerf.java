@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.performance;
+
+import com.arpnetworking.commons.uuidfactory.BufferedSecureRandomUuidFactory;
+import com.arpnetworking.commons.uuidfactory.DefaultUuidFactory;
+import com.arpnetworking.commons.uuidfactory.SplittableRandomUuidFactory;
+import com.arpnetworking.commons.uuidfactory.ThreadLocalSecureRandomUuidFactory;
+import com.arpnetworking.commons.uuidfactory.TimeOrderedUuidFactory;
+import com.arpnetworking.commons.uuidfactory.UuidFactory;
+import com.arpnetworking.test.junitbenchmarks.JsonBenchmarkConsumer;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Performance test comparing {@link UuidFactory} implementations when
+ * shared by several threads. Each implementation creates identifiers one
+ * at a time, in bulk into a {@code UUID} array and in bulk into arrays of
+ * bits without allocating {@code UUID} instances.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+@BenchmarkOptions(callgc = true, benchmarkRounds = 10, warmupRounds = 5)
+public final class UuidFactoryTestPerf {
+
+    private static final JsonBenchmarkConsumer JSON_BENCHMARK_CONSUMER = new JsonBenchmarkConsumer(
+            Paths.get("target/perf/uuid-factory-performance-test.json"));
+    private static final int THREADS = 4;
+    private static final int UUIDS_PER_THREAD = 250_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Rule
+    public final TestRule _benchMarkRule = new BenchmarkRule(JSON_BENCHMARK_CONSUMER);
+
+    @BeforeClass
+    public static void setUp() {
+        JSON_BENCHMARK_CONSUMER.prepareClass();
+    }
+
+    @Test
+    public void defaultUuidFactory() throws Exception {
+        runTest(new DefaultUuidFactory(), Mode.SINGLE);
+    }
+
+    @Test
+    public void defaultUuidFactoryArray() throws Exception {
+        runTest(new DefaultUuidFactory(), Mode.ARRAY);
+    }
+
+    @Test
+    public void defaultUuidFactoryBits() throws Exception {
+        runTest(new DefaultUuidFactory(), Mode.BITS);
+    }
+
+    @Test
+    public void splittableRandomUuidFactory() throws Exception {
+        runTest(new SplittableRandomUuidFactory(), Mode.SINGLE);
+    }
+
+    @Test
+    public void splittableRandomUuidFactoryArray() throws Exception {
+        runTest(new SplittableRandomUuidFactory(), Mode.ARRAY);
+    }
+
+    @Test
+    public void splittableRandomUuidFactoryBits() throws Exception {
+        runTest(new SplittableRandomUuidFactory(), Mode.BITS);
+    }
+
+    @Test
+    public void threadLocalSecureRandomUuidFactory() throws Exception {
+        runTest(new ThreadLocalSecureRandomUuidFactory(), Mode.SINGLE);
+    }
+
+    @Test
+    public void threadLocalSecureRandomUuidFactoryArray() throws Exception {
+        runTest(new ThreadLocalSecureRandomUuidFactory(), Mode.ARRAY);
+    }
+
+    @Test
+    public void threadLocalSecureRandomUuidFactoryBits() throws Exception {
+        runTest(new ThreadLocalSecureRandomUuidFactory(), Mode.BITS);
+    }
+
+    @Test
+    public void bufferedSecureRandomUuidFactory() throws Exception {
+        runTest(new BufferedSecureRandomUuidFactory(), Mode.SINGLE);
+    }
+
+    @Test
+    public void bufferedSecureRandomUuidFactoryArray() throws Exception {
+        runTest(new BufferedSecureRandomUuidFactory(), Mode.ARRAY);
+    }
+
+    @Test
+    public void bufferedSecureRandomUuidFactoryBits() throws Exception {
+        runTest(new BufferedSecureRandomUuidFactory(), Mode.BITS);
+    }
+
+    @Test
+    public void timeOrderedUuidFactory() throws Exception {
+        runTest(new TimeOrderedUuidFactory(), Mode.SINGLE);
+    }
+
+    @Test
+    public void timeOrderedUuidFactoryArray() throws Exception {
+        runTest(new TimeOrderedUuidFactory(), Mode.ARRAY);
+    }
+
+    @Test
+    public void timeOrderedUuidFactoryBits() throws Exception {
+        runTest(new TimeOrderedUuidFactory(), Mode.BITS);
+    }
+
+    private void runTest(final UuidFactory uuidFactory, final Mode mode) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<Long>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; ++i) {
+                futures.add(executor.submit(() -> mode.create(uuidFactory)));
+            }
+            for (final Future<Long> future : futures) {
+                Assert.assertNotNull(future.get());
+            }
+        } finally {
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+    }
+
+    private enum Mode {
+        SINGLE {
+            @Override
+            long create(final UuidFactory uuidFactory) {
+                long bits = 0;
+                for (int i = 0; i < UUIDS_PER_THREAD; ++i) {
+                    final UUID uuid = uuidFactory.create();
+                    bits ^= uuid.getLeastSignificantBits();
+                }
+                return bits;
+            }
+        },
+        ARRAY {
+            @Override
+            long create(final UuidFactory uuidFactory) {
+                long bits = 0;
+                final UUID[] uuids = new UUID[BATCH_SIZE];
+                for (int i = 0; i < UUIDS_PER_THREAD; i += BATCH_SIZE) {
+                    uuidFactory.create(uuids);
+                    bits ^= uuids[0].getLeastSignificantBits();
+                }
+                return bits;
+            }
+        },
+        BITS {
+            @Override
+            long create(final UuidFactory uuidFactory) {
+                long bits = 0;
+                final long[] mostSignificantBits = new long[BATCH_SIZE];
+                final long[] leastSignificantBits = new long[BATCH_SIZE];
+                for (int i = 0; i < UUIDS_PER_THREAD; i += BATCH_SIZE) {
+                    uuidFactory.create(mostSignificantBits, leastSignificantBits);
+                    bits ^= leastSignificantBits[0];
+                }
+                return bits;
+            }
+        };
+
+        abstract long create(UuidFactory uuidFactory);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.uuidfactory;
+
+import com.google.common.collect.Sets;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the {@link BufferedSecureRandomUuidFactory} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class BufferedSecureRandomUuidFactoryTest {
+
+    @Test
+    public void test() {
+        final UuidFactory uuidFactory = new BufferedSecureRandomUuidFactory();
+        Assert.assertNotEquals(uuidFactory.create(), uuidFactory.create());
+        Assert.assertNotEquals(uuidFactory.get(), uuidFactory.get());
+
+        final UUID uuid = uuidFactory.create();
+        Assert.assertEquals(4, uuid.version());
+        Assert.assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    public void testRefill() {
+        final UuidFactory uuidFactory = new BufferedSecureRandomUuidFactory(32);
+        final Set<UUID> uuids = Sets.newHashSet();
+        for (int i = 0; i < 100; ++i) {
+            final UUID uuid = uuidFactory.create();
+            Assert.assertEquals(4, uuid.version());
+            Assert.assertEquals(2, uuid.variant());
+            uuids.add(uuid);
+        }
+        Assert.assertEquals(100, uuids.size());
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        final UuidFactory uuidFactory = new BufferedSecureRandomUuidFactory(32);
+        final Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; ++i) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; ++j) {
+                        uuids.add(uuidFactory.create());
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(8000, uuids.size());
+    }
+
+    @Test
+    public void testBulk() {
+        UuidFactoryTest.assertBulk(new BufferedSecureRandomUuidFactory(), 4);
+    }
+
+    @Test
+    public void testBulkRefill() {
+        // Bulk creation spans several refills of the buffer
+        UuidFactoryTest.assertBulk(new BufferedSecureRandomUuidFactory(32), 4);
+    }
+
+    @Test
+    public void testEntropyBuffer() {
+        final SecureRandom secureRandom = Mockito.mock(SecureRandom.class);
+        final BufferedSecureRandomUuidFactory.EntropyBuffer buffer = new BufferedSecureRandomUuidFactory.EntropyBuffer(
+                secureRandom,
+                32);
+        Mockito.verifyNoInteractions(secureRandom);
+
+        Assert.assertTrue(buffer.isExhausted());
+        Assert.assertEquals(0, buffer.next());
+        Assert.assertFalse(buffer.isExhausted());
+        Assert.assertEquals(16, buffer.next());
+        Assert.assertTrue(buffer.isExhausted());
+        Mockito.verify(secureRandom).nextBytes(buffer.getBytes());
+
+        Assert.assertEquals(0, buffer.next());
+        Mockito.verify(secureRandom, Mockito.times(2)).nextBytes(buffer.getBytes());
+    }
+
+    @Test
+    public void testLayout() {
+        final ByteBuffer bytes = ByteBuffer.allocate(32);
+        bytes.putLong(16, 0x0123456789abcdefL);
+        bytes.putLong(24, 0xfedcba9876543210L);
+        final UUID uuid = BufferedSecureRandomUuidFactory.toUuid(bytes.array(), 16);
+        Assert.assertEquals("01234567-89ab-4def-bedc-ba9876543210", uuid.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroBufferSize() {
+        new BufferedSecureRandomUuidFactory(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBufferSizeNotMultiple() {
+        new BufferedSecureRandomUuidFactory(24);
+    }
+}
@@ -37,4 +37,43 @@ public class DefaultUuidFactoryTest {
         Assert.assertEquals(4, uuid.version());
         Assert.assertEquals(2, uuid.variant());
     }
+
+    @Test
+    public void testBulk() {
+        UuidFactoryTest.assertBulk(new DefaultUuidFactory(), 4);
+    }
+
+    @Test
+    public void testBulkSubclass() {
+        final UUID uuid = UUID.randomUUID();
+        final UuidFactory uuidFactory = new FixedUuidFactory(uuid);
+
+        final UUID[] uuids = new UUID[2];
+        uuidFactory.create(uuids);
+        Assert.assertArrayEquals(new UUID[]{uuid, uuid}, uuids);
+
+        final long[] mostSignificantBits = new long[2];
+        final long[] leastSignificantBits = new long[2];
+        uuidFactory.create(mostSignificantBits, leastSignificantBits);
+        Assert.assertArrayEquals(
+                new long[]{uuid.getMostSignificantBits(), uuid.getMostSignificantBits()},
+                mostSignificantBits);
+        Assert.assertArrayEquals(
+                new long[]{uuid.getLeastSignificantBits(), uuid.getLeastSignificantBits()},
+                leastSignificantBits);
+    }
+
+    private static final class FixedUuidFactory extends DefaultUuidFactory {
+
+        FixedUuidFactory(final UUID uuid) {
+            _uuid = uuid;
+        }
+
+        @Override
+        public UUID create() {
+            return _uuid;
+        }
+
+        private final UUID _uuid;
+    }
 }
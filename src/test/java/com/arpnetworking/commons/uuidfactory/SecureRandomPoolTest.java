@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.uuidfactory;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Tests for the {@link SecureRandomPool} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class SecureRandomPoolTest {
+
+    @Test
+    public void testGet() {
+        final Set<SecureRandom> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 1000; ++i) {
+            instances.add(SecureRandomPool.get());
+        }
+        // The pool is shared and bounded by the number of processors
+        Assert.assertTrue(instances.size() <= Runtime.getRuntime().availableProcessors());
+        Assert.assertNotEquals(SecureRandomPool.get().nextLong(), SecureRandomPool.get().nextLong());
+        Assert.assertEquals("DRBG", SecureRandomPool.get().getAlgorithm());
+    }
+
+    @Test
+    @SuppressFBWarnings("DMI_RANDOM_USED_ONLY_ONCE")
+    public void testCreateSecureRandomFallback() {
+        Assert.assertEquals(
+                new SecureRandom().getAlgorithm(),
+                SecureRandomPool.createSecureRandom("NoSuchAlgorithm").getAlgorithm());
+    }
+}
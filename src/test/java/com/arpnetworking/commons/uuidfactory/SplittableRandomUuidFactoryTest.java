@@ -37,4 +37,9 @@ public class SplittableRandomUuidFactoryTest {
         Assert.assertEquals(4, uuid.version());
         Assert.assertEquals(2, uuid.variant());
     }
+
+    @Test
+    public void testBulk() {
+        UuidFactoryTest.assertBulk(new SplittableRandomUuidFactory(), 4);
+    }
 }
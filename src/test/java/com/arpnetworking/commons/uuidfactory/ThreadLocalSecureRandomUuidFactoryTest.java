@@ -82,6 +82,16 @@ public class ThreadLocalSecureRandomUuidFactoryTest {
         }
     }
 
+    @Test
+    public void testBulk() throws InterruptedException {
+        try {
+            PROPERTY_SET_MUTEX.acquire();
+            UuidFactoryTest.assertBulk(new ThreadLocalSecureRandomUuidFactory(), 4);
+        } finally {
+            PROPERTY_SET_MUTEX.release();
+        }
+    }
+
     @Test
     public void testToLong() {
         final ByteBuffer bytes = ByteBuffer.allocate(5 * 8);
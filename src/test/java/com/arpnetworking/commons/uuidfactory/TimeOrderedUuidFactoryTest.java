@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.uuidfactory;
+
+import com.arpnetworking.commons.java.time.ManualClock;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the {@link TimeOrderedUuidFactory} class.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class TimeOrderedUuidFactoryTest {
+
+    @Test
+    public void test() {
+        final UuidFactory uuidFactory = new TimeOrderedUuidFactory();
+        Assert.assertNotEquals(uuidFactory.create(), uuidFactory.create());
+        Assert.assertNotEquals(uuidFactory.get(), uuidFactory.get());
+
+        final UUID uuid = uuidFactory.create();
+        Assert.assertEquals(7, uuid.version());
+        Assert.assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    public void testTimestampAndCounter() {
+        final Instant now = Instant.ofEpochMilli(1458582933123L);
+        final UuidFactory uuidFactory = new TimeOrderedUuidFactory(Clock.fixed(now, ZoneId.of("UTC")));
+
+        final UUID first = uuidFactory.create();
+        final UUID second = uuidFactory.create();
+        Assert.assertEquals(now.toEpochMilli(), getTimestamp(first));
+        Assert.assertEquals(now.toEpochMilli(), getTimestamp(second));
+        Assert.assertEquals(0, getCounter(first));
+        Assert.assertEquals(1, getCounter(second));
+        Assert.assertTrue(first.toString().startsWith("01539a51-4e83-7000-"));
+    }
+
+    @Test
+    public void testCounterResetsEachMillisecond() {
+        final ManualClock manualClock = new ManualClock(Instant.ofEpochMilli(1458582933123L), Duration.ofMillis(1), ZoneId.of("UTC"));
+        final UuidFactory uuidFactory = new TimeOrderedUuidFactory(manualClock);
+
+        uuidFactory.create();
+        Assert.assertEquals(1, getCounter(uuidFactory.create()));
+        manualClock.tick();
+        final UUID uuid = uuidFactory.create();
+        Assert.assertEquals(1458582933124L, getTimestamp(uuid));
+        Assert.assertEquals(0, getCounter(uuid));
+    }
+
+    @Test
+    public void testCounterOverflow() {
+        final Instant now = Instant.ofEpochMilli(1458582933123L);
+        final UuidFactory uuidFactory = new TimeOrderedUuidFactory(Clock.fixed(now, ZoneId.of("UTC")));
+
+        UUID previous = uuidFactory.create();
+        for (int i = 1; i < 4097; ++i) {
+            final UUID uuid = uuidFactory.create();
+            Assert.assertTrue(uuid.compareTo(previous) > 0);
+            previous = uuid;
+        }
+        Assert.assertEquals(now.toEpochMilli() + 1, getTimestamp(previous));
+        Assert.assertEquals(0, getCounter(previous));
+    }
+
+    @Test
+    public void testBulk() {
+        UuidFactoryTest.assertBulk(new TimeOrderedUuidFactory(), 7);
+    }
+
+    @Test
+    public void testBulkOrdering() {
+        final Instant now = Instant.ofEpochMilli(1458582933123L);
+        final UuidFactory uuidFactory = new TimeOrderedUuidFactory(Clock.fixed(now, ZoneId.of("UTC")));
+
+        Assert.assertEquals(0, getCounter(uuidFactory.create()));
+        final UUID[] uuids = new UUID[3];
+        uuidFactory.create(uuids);
+        for (int i = 0; i < uuids.length; ++i) {
+            Assert.assertEquals(now.toEpochMilli(), getTimestamp(uuids[i]));
+            Assert.assertEquals(i + 1, getCounter(uuids[i]));
+        }
+        final long[] mostSignificantBits = new long[2];
+        uuidFactory.create(mostSignificantBits, new long[2]);
+        Assert.assertEquals(4, mostSignificantBits[0] & 0xfffL);
+        Assert.assertEquals(5, mostSignificantBits[1] & 0xfffL);
+        Assert.assertEquals(6, getCounter(uuidFactory.create()));
+    }
+
+    @Test
+    public void testClockMovesBackwards() {
+        final ManualClock manualClock = new ManualClock(Instant.ofEpochMilli(1458582933123L), Duration.ofMillis(-1), ZoneId.of("UTC"));
+        final UuidFactory uuidFactory = new TimeOrderedUuidFactory(manualClock);
+
+        final UUID first = uuidFactory.create();
+        manualClock.tick();
+        final UUID second = uuidFactory.create();
+        Assert.assertTrue(second.compareTo(first) > 0);
+        Assert.assertEquals(1458582933123L, getTimestamp(second));
+        Assert.assertEquals(1, getCounter(second));
+    }
+
+    @Test
+    public void testOrderedAndUniqueAcrossThreads() throws Exception {
+        final UuidFactory uuidFactory = new TimeOrderedUuidFactory();
+        final Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; ++i) {
+                futures.add(executor.submit(() -> {
+                    UUID previous = uuidFactory.create();
+                    uuids.add(previous);
+                    for (int j = 1; j < UUIDS_PER_THREAD; ++j) {
+                        final UUID uuid = uuidFactory.create();
+                        Assert.assertTrue(uuid.compareTo(previous) > 0);
+                        Assert.assertTrue(uuid.toString().compareTo(previous.toString()) > 0);
+                        uuids.add(uuid);
+                        previous = uuid;
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+        Assert.assertEquals(THREADS * UUIDS_PER_THREAD, uuids.size());
+    }
+
+    private static long getTimestamp(final UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long getCounter(final UUID uuid) {
+        return uuid.getMostSignificantBits() & 0xfffL;
+    }
+
+    private static final int THREADS = 4;
+    private static final int UUIDS_PER_THREAD = 10_000;
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Inscope Metrics, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.arpnetworking.commons.uuidfactory;
+
+import com.google.common.collect.Sets;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tests for the default methods of the {@link UuidFactory} interface.
+ *
+ * @author Ville Koskela (ville dot koskela at inscopemetrics dot io)
+ */
+public final class UuidFactoryTest {
+
+    @Test
+    public void testBulk() {
+        final UuidFactory uuidFactory = UUID::randomUUID;
+        assertBulk(uuidFactory, 4);
+    }
+
+    /* package private */ static void assertBulk(final UuidFactory uuidFactory, final int version) {
+        final UUID[] uuids = new UUID[COUNT];
+        uuidFactory.create(uuids);
+        final Set<UUID> unique = Sets.newHashSet();
+        for (final UUID uuid : uuids) {
+            assertUuid(uuid, version);
+            unique.add(uuid);
+        }
+
+        final long[] mostSignificantBits = new long[COUNT];
+        final long[] leastSignificantBits = new long[COUNT];
+        uuidFactory.create(mostSignificantBits, leastSignificantBits);
+        for (int i = 0; i < COUNT; ++i) {
+            final UUID uuid = new UUID(mostSignificantBits[i], leastSignificantBits[i]);
+            assertUuid(uuid, version);
+            unique.add(uuid);
+        }
+        Assert.assertEquals(2 * COUNT, unique.size());
+
+        uuidFactory.create(new UUID[0]);
+        uuidFactory.create(new long[0], new long[0]);
+        try {
+            uuidFactory.create(new long[1], new long[2]);
+            Assert.fail("Expected exception not thrown");
+        } catch (final IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("same length"));
+        }
+    }
+
+    private static void assertUuid(final UUID uuid, final int version) {
+        Assert.assertNotNull(uuid);
+        Assert.assertEquals(version, uuid.version());
+        Assert.assertEquals(2, uuid.variant());
+    }
+
+    // More than one block of random bytes with a partial last block
+    private static final int COUNT = 1000;
+}